@@ -0,0 +1,101 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.benchmarks;
+
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.config.CacheSettings;
+import com.github.owlcs.ontapi.config.OntConfig;
+import com.github.owlcs.ontapi.tests.ModelData;
+
+/**
+ * The combinations of cache settings to compare in benchmarks.
+ * Each constant corresponds to a set of {@link CacheSettings} flags.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public enum CacheProfile {
+    /**
+     * All settings are taken from {@code ontapi.properties}.
+     */
+    DEFAULT {
+        @Override
+        void apply(OntConfig conf) {
+            // nothing
+        }
+    },
+    /**
+     * No {@link CacheSettings#CACHE_CONTENT content cache}.
+     */
+    NO_CONTENT {
+        @Override
+        void apply(OntConfig conf) {
+            conf.setModelCacheLevel(CacheSettings.CACHE_CONTENT, false);
+        }
+    },
+    /**
+     * Only {@link CacheSettings#CACHE_CONTENT content cache},
+     * without {@link CacheSettings#CACHE_COMPONENT component} and {@link CacheSettings#CACHE_ITERATOR iterator} caches.
+     */
+    CONTENT_ONLY {
+        @Override
+        void apply(OntConfig conf) {
+            conf.setModelCacheLevel(CacheSettings.CACHE_CONTENT);
+        }
+    },
+    /**
+     * No nodes and objects caches, that are used while reading a graph.
+     */
+    NO_LOAD {
+        @Override
+        void apply(OntConfig conf) {
+            conf.setLoadNodesCacheSize(-1).setLoadObjectsCacheSize(-1);
+        }
+    },
+    /**
+     * All caches are turned off.
+     */
+    NONE {
+        @Override
+        void apply(OntConfig conf) {
+            conf.setModelCacheLevel(0).setLoadNodesCacheSize(-1).setLoadObjectsCacheSize(-1);
+        }
+    },
+    ;
+
+    abstract void apply(OntConfig conf);
+
+    /**
+     * Creates a fresh non-concurrent manager with these cache settings.
+     *
+     * @return {@link OntologyManager}
+     */
+    public OntologyManager createManager() {
+        OntologyManager res = OntManagers.createONT();
+        apply(res.getOntologyConfigurator());
+        return res;
+    }
+
+    /**
+     * Loads the given test ontology into a fresh manager with these cache settings.
+     *
+     * @param data {@link ModelData}
+     * @return {@link Ontology}
+     */
+    public Ontology load(ModelData data) {
+        return (Ontology) data.fetch(createManager());
+    }
+}
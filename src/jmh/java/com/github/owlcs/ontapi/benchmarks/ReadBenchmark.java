@@ -0,0 +1,83 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.benchmarks;
+
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.jena.model.OntClass;
+import com.github.owlcs.ontapi.tests.ModelData;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the read paths of a loaded ontology:
+ * {@link Ontology#axioms()} (both with cold and warm caches),
+ * search by object ({@code InternalReadModel#listOWLAxioms(OWLPrimitive)})
+ * and {@link com.github.owlcs.ontapi.jena.model.OntModel#ontObjects(Class)}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadBenchmark {
+    private static final int ENTITIES_LIMIT = 100;
+
+    @Param({"PIZZA", "FAMILY", "WINE", "HP_CUT", "NCBITAXON_CUT"})
+    public ModelData data;
+
+    @Param({"DEFAULT", "NO_CONTENT", "CONTENT_ONLY", "NONE"})
+    public CacheProfile cache;
+
+    private Ontology ontology;
+    private List<OWLEntity> entities;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ontology = cache.load(data);
+        entities = ontology.signature().limit(ENTITIES_LIMIT).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long listAxiomsCold() {
+        ontology.clearCache();
+        return ontology.axioms().count();
+    }
+
+    @Benchmark
+    public long listAxiomsWarm() {
+        return ontology.axioms().count();
+    }
+
+    @Benchmark
+    public long searchByObject() {
+        long res = 0;
+        for (OWLEntity e : entities) {
+            res += ontology.referencingAxioms(e).count();
+        }
+        return res;
+    }
+
+    @Benchmark
+    public long listOntClasses() {
+        return ontology.asGraphModel().ontObjects(OntClass.class).count();
+    }
+}
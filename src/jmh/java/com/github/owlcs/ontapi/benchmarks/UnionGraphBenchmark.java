@@ -0,0 +1,91 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.benchmarks;
+
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.jena.vocabulary.OWL;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link UnionGraph#find(Triple)} on a deep linear {@code owl:imports} hierarchy.
+ * The triples of the {@code hp-cut} ontology are distributed among the {@code depth} graphs,
+ * and each graph imports the next one.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnionGraphBenchmark {
+
+    @Param({"1", "8", "32", "128"})
+    public int depth;
+
+    @Param({"true", "false"})
+    public boolean distinct;
+
+    private UnionGraph graph;
+    private Node subject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Triple> triples = ReadWriteUtils.loadResourceTTLFile("ontapi/hp-cut.ttl").getGraph().find().toList();
+        Graph[] parts = new Graph[depth];
+        for (int i = 0; i < depth; i++) {
+            parts[i] = OntModelFactory.createDefaultGraph();
+        }
+        for (int i = 0; i < triples.size(); i++) {
+            parts[i % depth].add(triples.get(i));
+        }
+        UnionGraph res = null;
+        for (int i = depth - 1; i >= 0; i--) {
+            UnionGraph u = new UnionGraph(parts[i], distinct);
+            if (res != null) {
+                u.addGraph(res);
+            }
+            res = u;
+        }
+        graph = res;
+        subject = triples.get(triples.size() / 2).getSubject();
+    }
+
+    @Benchmark
+    public long findAll() {
+        return Iter.count(graph.find());
+    }
+
+    @Benchmark
+    public long findByPredicateAndObject() {
+        return Iter.count(graph.find(Node.ANY, RDF.Nodes.type, OWL.Class.asNode()));
+    }
+
+    @Benchmark
+    public long findBySubject() {
+        return Iter.count(graph.find(subject, Node.ANY, Node.ANY));
+    }
+}
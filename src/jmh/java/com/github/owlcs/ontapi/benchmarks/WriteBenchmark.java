@@ -0,0 +1,59 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.benchmarks;
+
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.tests.ModelData;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the write path ({@code InternalModelImpl#add(OWLAxiom)}):
+ * all axioms of the bundled ontology are added one by one into a fresh ontology.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmark {
+
+    @Param({"PIZZA", "FAMILY", "HP_CUT"})
+    public ModelData data;
+
+    @Param({"DEFAULT", "NO_CONTENT", "NONE"})
+    public CacheProfile cache;
+
+    private List<OWLAxiom> axioms;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        axioms = CacheProfile.DEFAULT.load(data).axioms().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long addAxioms() {
+        Ontology res = cache.createManager().createOntology();
+        axioms.forEach(res::add);
+        return res.asGraphModel().size();
+    }
+}
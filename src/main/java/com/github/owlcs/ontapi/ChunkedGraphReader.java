@@ -0,0 +1,433 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.lang.LabelToNode;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.sparql.core.Quad;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A reader that parses a local file in a line-based RDF format (N-Triples, N-Quads) in parallel.
+ * The file is cut into chunks at line boundaries, each chunk is memory-mapped and parsed by a separate task,
+ * the triples are added into the graph in batches.
+ * All the chunks share the same blank node scope,
+ * so the same label in different chunks means the same blank node,
+ * while the labels of different documents (i.e. different calls) are still different nodes.
+ * For N-Quads only the default graph is read, as Jena does when it reads quads into a graph.
+ * Note: in case of a syntax error the reported line number is relative to the chunk.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see ChunkedGraphWriter
+ * @see com.github.owlcs.ontapi.config.LoadSettings#getParsingParallelism()
+ * @since 2.1.0
+ */
+public class ChunkedGraphReader {
+    public static final long DEFAULT_CHUNK_SIZE = 16L << 20;
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+    private static final Set<Lang> LANGS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(Lang.NTRIPLES,
+            Lang.NQUADS)));
+
+    protected final Lang lang;
+    protected final int parallelism;
+    protected final long chunkSize;
+    protected final int batchSize;
+
+    /**
+     * Creates a reader with the default chunk and batch sizes.
+     *
+     * @param lang        {@link Lang}, must be {@link #isSupported(Lang) supported}
+     * @param parallelism int, the number of threads, positive
+     */
+    public ChunkedGraphReader(Lang lang, int parallelism) {
+        this(lang, parallelism, DEFAULT_CHUNK_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a reader.
+     *
+     * @param lang        {@link Lang}, must be {@link #isSupported(Lang) supported}
+     * @param parallelism int, the number of threads, positive
+     * @param chunkSize   long, the minimal number of bytes in a chunk, positive
+     * @param batchSize   int, the number of triples that are added into the graph at once, positive
+     * @throws IllegalArgumentException if a parameter is wrong
+     */
+    public ChunkedGraphReader(Lang lang, int parallelism, long chunkSize, int batchSize) {
+        if (!isSupported(lang)) {
+            throw new IllegalArgumentException("Unsupported language: " + lang);
+        }
+        if (parallelism <= 0 || chunkSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Wrong parallelism (" + parallelism + "), chunk size (" + chunkSize +
+                    ") or batch size (" + batchSize + ")");
+        }
+        this.lang = lang;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Answers {@code true} if the language can be read by chunks.
+     *
+     * @param lang {@link Lang}
+     * @return boolean
+     */
+    public static boolean isSupported(Lang lang) {
+        return LANGS.contains(lang);
+    }
+
+    /**
+     * Finds a local file, that can be split into chunks, by the document URI.
+     * A compressed (gzip or zip) file is not suitable.
+     *
+     * @param uri {@link URI} of the document
+     * @return {@code Optional} with the {@link Path} to the file
+     */
+    public static Optional<Path> findFile(URI uri) {
+        if (uri == null || !"file".equalsIgnoreCase(uri.getScheme())) {
+            return Optional.empty();
+        }
+        Path res;
+        try {
+            res = Paths.get(uri);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+        if (!Files.isRegularFile(res)) {
+            return Optional.empty();
+        }
+        byte[] magic = new byte[2];
+        try (InputStream in = Files.newInputStream(res)) {
+            if (in.read(magic) == 2 && ((magic[0] == (byte) 0x1f && magic[1] == (byte) 0x8b)
+                    || (magic[0] == 'P' && magic[1] == 'K'))) {
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return Optional.of(res);
+    }
+
+    /**
+     * Returns the language of this reader.
+     *
+     * @return {@link Lang}
+     */
+    public Lang getLang() {
+        return lang;
+    }
+
+    /**
+     * Reads the file into the graph.
+     * The graph is accessed under its monitor, so it must not be modified concurrently by some other code
+     * that does not synchronize on it.
+     *
+     * @param file  {@link Path} to the file, not {@code null}
+     * @param base  String, the base IRI, can be {@code null}
+     * @param graph {@link Graph} to put the triples in, not {@code null}
+     * @throws IOException              if an I/O error occurs
+     * @throws org.apache.jena.riot.RiotException if the file cannot be parsed
+     */
+    public void read(Path file, String base, Graph graph) throws IOException {
+        Objects.requireNonNull(graph, "Null graph");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = split(channel);
+            // the same scope for all the chunks of the document:
+            UUID seed = UUID.randomUUID();
+            if (chunks.size() == 1 || parallelism == 1) {
+                for (long[] chunk : chunks) {
+                    parse(channel, chunk, base, seed, graph);
+                }
+                return;
+            }
+            ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, chunks.size()));
+            AtomicBoolean stop = new AtomicBoolean();
+            List<Future<?>> res = new ArrayList<>(chunks.size());
+            Throwable cause;
+            try {
+                for (long[] chunk : chunks) {
+                    res.add(pool.submit(() -> {
+                        parse(channel, chunk, base, seed, graph, stop);
+                        return null;
+                    }));
+                }
+            } finally {
+                pool.shutdown();
+                // all the tasks must be finished before return, since the parsers ignore interruption
+                cause = awaitAll(res, stop);
+            }
+            if (cause == null) {
+                return;
+            }
+            if (cause instanceof InterruptedException) {
+                throw new IOException("Interrupted while reading " + file, cause);
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Unable to read " + file, cause);
+        }
+    }
+
+    /**
+     * Waits for all the given tasks to complete.
+     * On the first failure (or interruption) the {@code stop} flag is raised, so that the rest tasks finish early,
+     * but the method still waits for all of them, so no task can touch the graph after the method returns.
+     * The interrupt status of the current thread is restored.
+     *
+     * @param tasks {@code List} of {@link Future}s
+     * @param stop  {@link AtomicBoolean} - the flag to stop parsing
+     * @return {@code Throwable} - the first real error, or {@link InterruptedException}, or {@code null} on success
+     */
+    private static Throwable awaitAll(List<Future<?>> tasks, AtomicBoolean stop) {
+        Throwable res = null;
+        boolean interrupted = false;
+        for (Future<?> f : tasks) {
+            while (true) {
+                try {
+                    f.get();
+                    break;
+                } catch (InterruptedException e) {
+                    stop.set(true);
+                    interrupted = true;
+                    if (res == null) {
+                        res = e;
+                    }
+                } catch (ExecutionException e) {
+                    stop.set(true);
+                    Throwable cause = e.getCause();
+                    if (res == null || isStopped(res)) {
+                        res = cause;
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return res;
+    }
+
+    /**
+     * Cuts the file into chunks at line boundaries.
+     *
+     * @param channel {@link FileChannel}
+     * @return {@code List} of {@code [start, end)} pairs
+     * @throws IOException if an I/O error occurs
+     */
+    protected List<long[]> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<long[]> res = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkSize;
+            end = end >= size ? size : nextLine(channel, end, buffer);
+            res.add(new long[]{start, end});
+            start = end;
+        }
+        return res;
+    }
+
+    private static long nextLine(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        while (true) {
+            buffer.clear();
+            int n = channel.read(buffer, position);
+            if (n <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += n;
+        }
+    }
+
+    /**
+     * Parses the chunk into the graph.
+     *
+     * @param channel {@link FileChannel}
+     * @param chunk   {@code [start, end)} pair
+     * @param base    String, the base IRI
+     * @param seed    {@link UUID} the blank node scope
+     * @param graph   {@link Graph}
+     * @throws IOException if an I/O error occurs
+     */
+    protected void parse(FileChannel channel, long[] chunk, String base, UUID seed, Graph graph) throws IOException {
+        parse(channel, chunk, base, seed, graph, new AtomicBoolean());
+    }
+
+    /**
+     * Parses the chunk into the graph, until the {@code stop} flag is raised.
+     *
+     * @param channel {@link FileChannel}
+     * @param chunk   {@code [start, end)} pair
+     * @param base    String, the base IRI
+     * @param seed    {@link UUID} the blank node scope
+     * @param graph   {@link Graph}
+     * @param stop    {@link AtomicBoolean} - the flag to abort parsing
+     * @throws IOException if an I/O error occurs
+     */
+    protected void parse(FileChannel channel,
+                         long[] chunk,
+                         String base,
+                         UUID seed,
+                         Graph graph,
+                         AtomicBoolean stop) throws IOException {
+        ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+        Inserter sink = new Inserter(graph, batchSize, stop);
+        RDFParser.create()
+                .source(new ByteBufferInputStream(data))
+                .lang(lang)
+                .base(base)
+                .labelToNode(LabelToNode.createScopeByDocumentHash(seed))
+                .parse(sink);
+        sink.flush();
+    }
+
+    /**
+     * A {@link org.apache.jena.riot.system.StreamRDF} that adds triples into the graph in batches.
+     */
+    protected static class Inserter extends StreamRDFBase {
+        private final Graph graph;
+        private final int size;
+        private final AtomicBoolean stop;
+        private List<Triple> batch;
+
+        protected Inserter(Graph graph, int size) {
+            this(graph, size, new AtomicBoolean());
+        }
+
+        protected Inserter(Graph graph, int size, AtomicBoolean stop) {
+            this.graph = graph;
+            this.size = size;
+            this.stop = stop;
+            this.batch = new ArrayList<>(size);
+        }
+
+        @Override
+        public void triple(Triple triple) {
+            batch.add(triple);
+            if (batch.size() >= size) {
+                flush();
+            }
+        }
+
+        @Override
+        public void quad(Quad quad) {
+            if (quad.isTriple() || quad.isDefaultGraph()) {
+                triple(quad.asTriple());
+            }
+        }
+
+        @Override
+        public void finish() {
+            flush();
+        }
+
+        protected void flush() {
+            if (stop.get()) {
+                throw new Stopped();
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            synchronized (graph) {
+                GraphUtil.add(graph, batch);
+            }
+            batch = new ArrayList<>(size);
+        }
+    }
+
+    private static boolean isStopped(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof Stopped) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Thrown to abort parsing of a chunk when another chunk has failed.
+     */
+    protected static class Stopped extends RuntimeException {
+        protected Stopped() {
+            super("Stopped", null, false, false);
+        }
+    }
+
+    /**
+     * An {@code InputStream} over a {@link ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A writer that serializes a graph into a line-based (i.e. concatenable) RDF format in parallel.
+ * The triples are read from the graph in a single pass (on the calling thread)
+ * and are cut into chunks, each chunk contains all the triples of its subjects
+ * (i.e. the graph is partitioned by subject, given that the graph lists triples grouped by subject,
+ * as the default in-memory graph does; otherwise the output is still correct, just less grouped).
+ * The chunks are serialized into byte buffers by the {@link Executor},
+ * and the buffers are written strictly in order into the {@link WritableByteChannel}.
+ * The number of chunks in flight is limited by the {@code window} parameter, so the memory usage is bounded.
+ * If the head chunk has not been started by the executor yet, the calling thread serializes it itself,
+ * so the writer never waits on a busy or a saturated executor.
+ * <p>
+ * Supported formats are N-Triples, N-Quads (a graph is written as the default graph) and RDF-Thrift,
+ * see {@link #isSupported(Lang)}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see OntologyManagerImpl#writeAsync(org.semanticweb.owlapi.model.OWLOntology,
+ * org.semanticweb.owlapi.model.OWLDocumentFormat, org.semanticweb.owlapi.io.OWLOntologyDocumentTarget, Executor, Listener)
+ * @since 2.1.0
+ */
+public class ChunkedGraphWriter {
+    public static final int DEFAULT_CHUNK_SIZE = 10_000;
+    private static final Set<Lang> LANGS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(Lang.NTRIPLES,
+            Lang.NQUADS, Lang.RDFTHRIFT)));
+
+    protected final Lang lang;
+    protected final Executor executor;
+    protected final int chunkSize;
+    protected final int window;
+
+    /**
+     * Creates a writer that uses the {@link ForkJoinPool#commonPool() common pool} and the default settings.
+     *
+     * @param lang {@link Lang}, must be {@link #isSupported(Lang) supported}
+     */
+    public ChunkedGraphWriter(Lang lang) {
+        this(lang, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, 2 * ForkJoinPool.getCommonPoolParallelism() + 1);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param lang      {@link Lang}, must be {@link #isSupported(Lang) supported}
+     * @param executor  {@link Executor} to serialize chunks, not {@code null}
+     * @param chunkSize int, the minimal number of triples in a chunk, positive
+     * @param window    int, the maximum number of chunks in flight, positive
+     * @throws IllegalArgumentException if a parameter is wrong
+     */
+    public ChunkedGraphWriter(Lang lang, Executor executor, int chunkSize, int window) {
+        if (!isSupported(lang)) {
+            throw new IllegalArgumentException("Unsupported language: " + lang);
+        }
+        if (chunkSize <= 0 || window <= 0) {
+            throw new IllegalArgumentException("Wrong chunk size (" + chunkSize + ") or window (" + window + ")");
+        }
+        this.lang = lang;
+        this.executor = Objects.requireNonNull(executor, "Null executor");
+        this.chunkSize = chunkSize;
+        this.window = window;
+    }
+
+    /**
+     * Answers {@code true} if the language can be written by chunks.
+     *
+     * @param lang {@link Lang}
+     * @return boolean
+     */
+    public static boolean isSupported(Lang lang) {
+        return LANGS.contains(lang);
+    }
+
+    /**
+     * Returns the language of this writer.
+     *
+     * @return {@link Lang}
+     */
+    public Lang getLang() {
+        return lang;
+    }
+
+    /**
+     * Writes the graph into the channel asynchronously.
+     * The graph must not be modified until the returned future is completed.
+     *
+     * @param graph    {@link Graph} to write, not {@code null}
+     * @param prefixes {@link PrefixMapping}, can be {@code null}; ignored by the formats that do not support prefixes
+     * @param out      {@link WritableByteChannel}, not {@code null}; it is not closed
+     * @param listener {@link Listener} to receive progress notifications, can be {@code null}
+     * @return {@link CompletableFuture} with the number of written triples
+     */
+    public CompletableFuture<Long> writeAsync(Graph graph,
+                                              PrefixMapping prefixes,
+                                              WritableByteChannel out,
+                                              Listener listener) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return write(graph, prefixes, out, listener);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Writes the graph into the channel.
+     * The triples are serialized in parallel, but the method returns only when everything is written.
+     *
+     * @param graph    {@link Graph} to write, not {@code null}
+     * @param prefixes {@link PrefixMapping}, can be {@code null}; ignored by the formats that do not support prefixes
+     * @param out      {@link WritableByteChannel}, not {@code null}; it is not closed
+     * @param listener {@link Listener} to receive progress notifications, can be {@code null}
+     * @return long, the number of written triples
+     * @throws IOException if an I/O error occurs
+     */
+    public long write(Graph graph, PrefixMapping prefixes, WritableByteChannel out, Listener listener) throws IOException {
+        Objects.requireNonNull(out, "Null channel");
+        Deque<Chunk> queue = new ArrayDeque<>();
+        Progress progress = new Progress(listener);
+        Map<String, String> first = prefixes == null ? Collections.emptyMap() : prefixes.getNsPrefixMap();
+        ExtendedIterator<Triple> it = graph.find();
+        try {
+            List<Triple> triples = new ArrayList<>(chunkSize);
+            Node subject = null;
+            while (it.hasNext()) {
+                Triple t = it.next();
+                if (triples.size() >= chunkSize && !t.getSubject().equals(subject)) {
+                    submit(queue, new Chunk(first, triples), out, progress);
+                    first = Collections.emptyMap();
+                    triples = new ArrayList<>(chunkSize);
+                }
+                subject = t.getSubject();
+                triples.add(t);
+            }
+            if (!triples.isEmpty() || !first.isEmpty()) {
+                submit(queue, new Chunk(first, triples), out, progress);
+            }
+            while (!queue.isEmpty()) {
+                flush(queue.removeFirst(), out, progress);
+            }
+        } finally {
+            it.close();
+            // do not leave unfinished tasks:
+            queue.forEach(Chunk::cancel);
+        }
+        return progress.triples;
+    }
+
+    private void submit(Deque<Chunk> queue, Chunk chunk, WritableByteChannel out, Progress progress) throws IOException {
+        if (queue.size() >= window) {
+            flush(queue.removeFirst(), out, progress);
+        }
+        queue.addLast(chunk);
+        executor.execute(chunk);
+    }
+
+    private static void flush(Chunk chunk, WritableByteChannel out, Progress progress) throws IOException {
+        chunk.run();
+        ByteBuffer data;
+        try {
+            data = chunk.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+        long bytes = data.remaining();
+        while (data.hasRemaining()) {
+            out.write(data);
+        }
+        progress.add(chunk.size, bytes);
+    }
+
+    /**
+     * A progress listener.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called on the writing thread after each chunk is written into the channel.
+         *
+         * @param triples long, total number of written triples
+         * @param bytes   long, total number of written bytes
+         */
+        void onProgress(long triples, long bytes);
+    }
+
+    private static class Progress {
+        private final Listener listener;
+        private long triples;
+        private long bytes;
+
+        Progress(Listener listener) {
+            this.listener = listener;
+        }
+
+        void add(long triples, long bytes) {
+            this.triples += triples;
+            this.bytes += bytes;
+            if (listener != null) {
+                listener.onProgress(this.triples, this.bytes);
+            }
+        }
+    }
+
+    /**
+     * A unit of work, that can be run either by the executor or by the writing thread, whichever is first.
+     */
+    private class Chunk implements Runnable {
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+        private final Map<String, String> prefixes;
+        private final int size;
+        private List<Triple> triples;
+
+        Chunk(Map<String, String> prefixes, List<Triple> triples) {
+            this.prefixes = prefixes;
+            this.triples = triples;
+            this.size = triples.size();
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                Buffer buffer = new Buffer(size * 64);
+                StreamRDF dest = StreamRDFWriter.getWriterStream(buffer, lang);
+                dest.start();
+                prefixes.forEach(dest::prefix);
+                triples.forEach(dest::triple);
+                dest.finish();
+                result.complete(buffer.toByteBuffer());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                triples = null;
+            }
+        }
+
+        void cancel() {
+            if (started.compareAndSet(false, true)) {
+                triples = null;
+                result.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * A {@link ByteArrayOutputStream} which gives its content without copying.
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+        Buffer(int size) {
+            super(size);
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -16,6 +16,7 @@ package com.github.owlcs.ontapi;
 
 import org.apache.jena.graph.BlankNodeId;
 import org.apache.jena.graph.impl.LiteralLabel;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLLiteral;
@@ -44,4 +45,16 @@ public interface DataFactory extends OWLDataFactory {
      * @return {@link OWLLiteral} instance
      */
     OWLLiteral getOWLLiteral(LiteralLabel label);
+
+    /**
+     * Creates an {@link IRI OWL-API IRI} for the given {@code String}.
+     * Unlike {@link IRI#create(String)}, a factory implementation may share the returned instance.
+     *
+     * @param iri {@code String}, not {@code null}
+     * @return {@link IRI} instance
+     * @since 2.1.0
+     */
+    default IRI getIRI(String iri) {
+        return IRI.create(iri);
+    }
 }
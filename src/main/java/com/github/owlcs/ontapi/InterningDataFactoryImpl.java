@@ -0,0 +1,238 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi;
+
+import com.github.owlcs.ontapi.internal.InternalCache;
+import org.apache.jena.graph.impl.LiteralLabel;
+import org.semanticweb.owlapi.model.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An interning {@link DataFactory}:
+ * equal {@link IRI}s, {@link OWLEntity entities} and {@link OWLLiteral literals} produced by this factory
+ * are the same instances as long as they are in use somewhere
+ * (i.e. strongly reachable) and the pools are not overflowed.
+ * This saves memory in case of massive creation of short-lived equal objects
+ * and allows {@code equals} to short-circuit on identity.
+ * <p>
+ * Impl notes: the pools are bounded concurrent caches with weak values (see {@link InternalCache#createWeak(long)}).
+ * Anonymous individuals and complex objects (class expressions, axioms, etc.) are not interned.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see DataFactoryImpl
+ * @since 2.1.0
+ */
+@SuppressWarnings("NullableProblems")
+public class InterningDataFactoryImpl extends DataFactoryImpl {
+    private static final long serialVersionUID = 1794023385727148260L;
+    /**
+     * The default maximum size of each pool.
+     */
+    public static final long DEFAULT_POOL_SIZE = 100_000;
+
+    private final long size;
+
+    private transient InternalCache<String, IRI> iris;
+    private transient InternalCache<IRI, OWLClass> classes;
+    private transient InternalCache<IRI, OWLObjectProperty> objectProperties;
+    private transient InternalCache<IRI, OWLDataProperty> dataProperties;
+    private transient InternalCache<IRI, OWLAnnotationProperty> annotationProperties;
+    private transient InternalCache<IRI, OWLNamedIndividual> individuals;
+    private transient InternalCache<IRI, OWLDatatype> datatypes;
+    private transient InternalCache<LiteralKey, OWLLiteral> literals;
+
+    public InterningDataFactoryImpl() {
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Creates a factory instance.
+     *
+     * @param size long, the maximum number of objects to hold in each pool, positive
+     */
+    public InterningDataFactoryImpl(long size) {
+        if (size <= 0) {
+            throw new OntApiException.IllegalArgument("Wrong pool size: " + size);
+        }
+        this.size = size;
+        init();
+    }
+
+    private void init() {
+        this.iris = InternalCache.createWeak(size);
+        this.classes = InternalCache.createWeak(size);
+        this.objectProperties = InternalCache.createWeak(size);
+        this.dataProperties = InternalCache.createWeak(size);
+        this.annotationProperties = InternalCache.createWeak(size);
+        this.individuals = InternalCache.createWeak(size);
+        this.datatypes = InternalCache.createWeak(size);
+        this.literals = InternalCache.createWeak(size);
+    }
+
+    /**
+     * Returns the maximum size of each pool.
+     *
+     * @return long
+     */
+    public long getPoolSize() {
+        return size;
+    }
+
+    @Override
+    public void purge() {
+        iris.clear();
+        classes.clear();
+        objectProperties.clear();
+        dataProperties.clear();
+        annotationProperties.clear();
+        individuals.clear();
+        datatypes.clear();
+        literals.clear();
+    }
+
+    @Override
+    public IRI getIRI(String iri) {
+        return iris.get(Objects.requireNonNull(iri, "Null IRI"), IRI::create);
+    }
+
+    /**
+     * Returns the interned version of the given IRI.
+     *
+     * @param iri {@link IRI}, not {@code null}
+     * @return {@link IRI}
+     */
+    protected IRI intern(IRI iri) {
+        return getIRI(Objects.requireNonNull(iri, "Null IRI").getIRIString());
+    }
+
+    @Override
+    public OWLClass getOWLClass(IRI iri) {
+        return intern(classes, iri, super::getOWLClass);
+    }
+
+    @Override
+    public OWLObjectProperty getOWLObjectProperty(IRI iri) {
+        return intern(objectProperties, iri, super::getOWLObjectProperty);
+    }
+
+    @Override
+    public OWLDataProperty getOWLDataProperty(IRI iri) {
+        return intern(dataProperties, iri, super::getOWLDataProperty);
+    }
+
+    @Override
+    public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
+        return intern(annotationProperties, iri, super::getOWLAnnotationProperty);
+    }
+
+    @Override
+    public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
+        return intern(individuals, iri, super::getOWLNamedIndividual);
+    }
+
+    @Override
+    public OWLDatatype getOWLDatatype(IRI iri) {
+        return intern(datatypes, iri, super::getOWLDatatype);
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(int i) {
+        return intern(super.getOWLLiteral(i));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(double d) {
+        return intern(super.getOWLLiteral(d));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(float f) {
+        return intern(super.getOWLLiteral(f));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(String txt) {
+        return intern(super.getOWLLiteral(txt));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(String txt, String lang) {
+        return intern(super.getOWLLiteral(txt, lang));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(String txt, OWLDatatype dt) {
+        return intern(super.getOWLLiteral(txt, dt));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(LiteralLabel label) {
+        return intern(super.getOWLLiteral(label));
+    }
+
+    private <E extends OWLEntity> E intern(InternalCache<IRI, E> pool, IRI iri, Function<IRI, E> factory) {
+        return pool.get(intern(iri), factory);
+    }
+
+    /**
+     * Returns the interned version of the given literal.
+     *
+     * @param literal {@link OWLLiteral}, not {@code null}
+     * @return {@link OWLLiteral}
+     */
+    protected OWLLiteral intern(OWLLiteral literal) {
+        return literals.get(new LiteralKey(literal), k -> literal);
+    }
+
+    private Object readResolve() {
+        init();
+        return this;
+    }
+
+    /**
+     * A literal pool key.
+     * It must not refer to the literal itself, otherwise the pool value would be always strongly reachable.
+     */
+    private static final class LiteralKey implements Serializable {
+        private final String lexical;
+        private final String lang;
+        private final String datatype;
+        private final int hash;
+
+        private LiteralKey(OWLLiteral literal) {
+            this.lexical = literal.getLiteral();
+            this.lang = literal.getLang();
+            this.datatype = literal.getDatatype().getIRI().getIRIString();
+            this.hash = Objects.hash(lexical, lang, datatype);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LiteralKey)) return false;
+            LiteralKey other = (LiteralKey) o;
+            return hash == other.hash && lexical.equals(other.lexical)
+                    && lang.equals(other.lang) && datatype.equals(other.datatype);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -62,7 +62,11 @@ public class ModelConfig implements InternalConfig, Serializable {
      * @return {@link InternalModel}
      */
     public InternalModel createInternalModel(Graph graph) {
-        return BaseModel.createInternalModel(graph, getPersonality(), this, manager.getOWLDataFactory(), getManagerCaches());
+        InternalModel res = BaseModel.createInternalModel(graph, getPersonality(), this, manager.getOWLDataFactory(),
+                getManagerCaches());
+        res.setSharedContentCache(manager.getSharedContentCache());
+        res.setCacheBudget(manager.getCacheBudget());
+        return res;
     }
 
     /**
@@ -183,6 +187,16 @@ public class ModelConfig implements InternalConfig, Serializable {
         return getLoaderConfig().getModelCacheLevel();
     }
 
+    @Override
+    public String getContentSnapshotDirectory() {
+        return getLoaderConfig().getContentSnapshotDirectory();
+    }
+
+    @Override
+    public int getContentLoadingParallelism() {
+        return getLoaderConfig().getContentLoadingParallelism();
+    }
+
     @Override
     public boolean parallel() {
         return manager.isConcurrent();
@@ -221,8 +235,10 @@ public class ModelConfig implements InternalConfig, Serializable {
                 , OntLoaderConfiguration::getLoadNodesCacheSize
                 , OntLoaderConfiguration::getLoadObjectsCacheSize
                 , OntLoaderConfiguration::getModelCacheLevel
+                , OntLoaderConfiguration::getContentSnapshotDirectory
+                , OntLoaderConfiguration::getContentLoadingParallelism
         );
-        return fields.anyMatch(c -> c.apply(left) != c.apply(right));
+        return fields.anyMatch(c -> !Objects.equals(c.apply(left), c.apply(right)));
     }
 
 }
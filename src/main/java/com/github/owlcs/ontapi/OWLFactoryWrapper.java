@@ -172,6 +172,11 @@ public class OWLFactoryWrapper implements OntologyFactory.Loader {
                                 return res;
                             }
 
+                            @Override
+                            public List<ChangeApplied> applyAll(List<? extends OWLAxiomChange> changes) {
+                                return changes.stream().map(c -> c.accept(this)).collect(Collectors.toList());
+                            }
+
                             @Override
                             public ChangeApplied visit(AddAxiom change) {
                                 return of(getBase().add(change.getAxiom()));
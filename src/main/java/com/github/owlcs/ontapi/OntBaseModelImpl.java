@@ -48,7 +48,7 @@ import java.util.stream.Stream;
 @ParametersAreNonnullByDefault
 public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
     // binary format to provide serialization:
-    public static final OntFormat DEFAULT_SERIALIZATION_FORMAT = OntFormat.RDF_THRIFT;
+    public static final OntFormat DEFAULT_SERIALIZATION_FORMAT = OntFormat.ONT_BINARY;
     private static final long serialVersionUID = 7605836729147058594L;
 
     protected transient InternalModel base;
@@ -1112,7 +1112,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         Graph base = new GraphMem();
-        RDFDataMgr.read(base, in, DEFAULT_SERIALIZATION_FORMAT.getLang());
+        OntBinary.read(in, base);
         // set temporary model with default personality, it will be reset inside manager while its #readObject
         setBase(BaseModel.createInternalModel(base));
     }
@@ -1134,7 +1134,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, BaseModel {
             throw new OntApiException(getOntologyID() + ":: Serialization is not supported for " + g.getClass());
         out.defaultWriteObject();
         // serialize only base graph (it will be wrapped as UnionGraph):
-        RDFDataMgr.write(out, g, DEFAULT_SERIALIZATION_FORMAT.getLang());
+        OntBinary.write(out, g, false);
     }
 
     /**
@@ -0,0 +1,789 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi;
+
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import org.apache.jena.atlas.web.ContentType;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.*;
+import org.apache.jena.riot.system.PrefixMap;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.sparql.util.Context;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A compact binary RDF format, which is intended for fast persisting and restoring graphs
+ * (e.g. for session replication or Java serialization).
+ * It is registered in Jena as the {@link #LANG ONT-Binary language} and is available as {@link OntFormat#ONT_BINARY}.
+ * <p>
+ * The stream consists of the header ({@code ONTB} magic, version, flags) and the sequence of records:
+ * <ul>
+ * <li>node records (URI, blank node, language-tagged literal, typed literal),
+ * each node is written only once and then referred by its sequential number (a dictionary encoding),
+ * the literal datatype is also a reference to a URI node</li>
+ * <li>graph records, which start a new section and contain links to imported sections</li>
+ * <li>prefix records, which belong to the current section</li>
+ * <li>triple batches, each triple is three node numbers</li>
+ * <li>the root sections record and the end marker</li>
+ * </ul>
+ * All numbers are unsigned varints, strings are UTF-8 with varint length prefix.
+ * If the compression flag is set, everything after the header is split into independently deflated blocks.
+ * The data is read exactly up to the end marker, so the format can be embedded into other streams;
+ * it is the caller's responsibility to provide buffered streams.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @since 2.1.0
+ */
+public class OntBinary {
+    /**
+     * The Jena language for this format.
+     */
+    public static final Lang LANG = LangBuilder.create("ONT-Binary", "application/x-ont-binary")
+            .addAltNames("ONTB").addFileExtensions("ontb").build();
+    /**
+     * The default (uncompressed) Jena format.
+     */
+    public static final RDFFormat FORMAT = new RDFFormat(LANG);
+    /**
+     * The compressed Jena format.
+     */
+    public static final RDFFormat FORMAT_COMPRESSED = new RDFFormat(LANG, new RDFFormatVariant("compressed"));
+
+    private static final byte[] MAGIC = {'O', 'N', 'T', 'B'};
+    private static final int VERSION = 1;
+    private static final int FLAG_COMPRESSED = 1;
+
+    private static final int END = 0;
+    private static final int URI = 1;
+    private static final int BLANK = 2;
+    private static final int LANG_LITERAL = 3;
+    private static final int TYPED_LITERAL = 4;
+    private static final int GRAPH = 5;
+    private static final int PREFIX = 6;
+    private static final int TRIPLES = 7;
+    private static final int ROOTS = 8;
+
+    private static final int BATCH_SIZE = 1024;
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    static {
+        init();
+    }
+
+    /**
+     * Registers the format in Jena.
+     * Called automatically when the class is loaded.
+     */
+    public static void init() {
+        OntModelFactory.init();
+        if (RDFParserRegistry.isRegistered(LANG)) {
+            return;
+        }
+        RDFLanguages.register(LANG);
+        RDFParserRegistry.registerLangTriples(LANG, (lang, profile) -> new ReaderImpl());
+        RDFWriterRegistry.register(LANG, FORMAT);
+        RDFWriterRegistry.register(FORMAT, (WriterGraphRIOTFactory) f -> new WriterImpl(false));
+        RDFWriterRegistry.register(FORMAT_COMPRESSED, (WriterGraphRIOTFactory) f -> new WriterImpl(true));
+    }
+
+    /**
+     * Writes the given graph into the stream.
+     * If the graph is {@link UnionGraph}, the whole hierarchy is written: each base graph as a separate section.
+     *
+     * @param out      {@link OutputStream} to write, not {@code null}; it is flushed but not closed
+     * @param graph    {@link Graph} to write, not {@code null}
+     * @param compress boolean, if {@code true} the data is deflated
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(OutputStream out, Graph graph, boolean compress) throws IOException {
+        write(out, Collections.singletonList(Objects.requireNonNull(graph, "Null graph")), compress);
+    }
+
+    /**
+     * Writes the given graphs with all their {@link UnionGraph} hierarchies into the stream.
+     * Each base graph is written only once, even if it is shared between several hierarchies.
+     * Note: the Java serialization of a manager does not use this method,
+     * each ontology writes its own base graph and the imports are relinked on reading
+     * (see {@link OntologyManagerImpl}).
+     *
+     * @param out      {@link OutputStream} to write, not {@code null}; it is flushed but not closed
+     * @param graphs   {@code Collection} of root {@link Graph}s, not {@code null}
+     * @param compress boolean, if {@code true} the data is deflated
+     * @throws IOException if an I/O error occurs
+     * @see #readGraphs(InputStream)
+     */
+    public static void write(OutputStream out, Collection<? extends Graph> graphs, boolean compress) throws IOException {
+        Map<Graph, Integer> indexes = new HashMap<>();
+        List<Graph> sections = new ArrayList<>();
+        graphs.forEach(g -> collect(g, indexes, sections));
+        Encoder encoder = new Encoder(out, compress);
+        for (Graph g : sections) {
+            Graph base = Graphs.getBase(g);
+            int[] imports = g instanceof UnionGraph ? ((UnionGraph) g).getUnderlying().listGraphs()
+                    .mapWith(x -> indexes.get(Graphs.getBase(x))).toList().stream().mapToInt(Integer::intValue).toArray()
+                    : new int[0];
+            encoder.graph(indexes.get(base), imports);
+            encoder.prefixes(base.getPrefixMapping().getNsPrefixMap());
+            encoder.triples(base.find());
+        }
+        encoder.finish(graphs.stream().mapToInt(g -> indexes.get(Graphs.getBase(g))).toArray());
+    }
+
+    private static void collect(Graph graph, Map<Graph, Integer> indexes, List<Graph> res) {
+        Graph base = Graphs.getBase(graph);
+        if (indexes.containsKey(base)) {
+            return;
+        }
+        indexes.put(base, res.size());
+        res.add(graph);
+        if (graph instanceof UnionGraph) {
+            ((UnionGraph) graph).getUnderlying().listGraphs().forEachRemaining(g -> collect(g, indexes, res));
+        }
+    }
+
+    /**
+     * Reads the graph hierarchies from the stream.
+     * Each section is restored as a {@link OntModelFactory#createDefaultGraph() default in-memory graph}
+     * wrapped by {@link UnionGraph}, the import links are restored as {@link UnionGraph} sub-graphs.
+     *
+     * @param in {@link InputStream} to read, not {@code null}; it is not closed
+     * @return a {@code List} of root {@link UnionGraph}s in the order they were written
+     * @throws IOException if an I/O error occurs or the data is malformed
+     * @see #write(OutputStream, Collection, boolean)
+     */
+    public static List<UnionGraph> readGraphs(InputStream in) throws IOException {
+        HierarchyHandler res = new HierarchyHandler();
+        new Decoder(in, res).read();
+        return res.roots;
+    }
+
+    /**
+     * Reads all triples and prefixes from the stream into the graph, ignoring the sections structure.
+     *
+     * @param in    {@link InputStream} to read, not {@code null}; it is not closed
+     * @param graph {@link Graph} to fill, not {@code null}
+     * @throws IOException if an I/O error occurs or the data is malformed
+     */
+    public static void read(InputStream in, Graph graph) throws IOException {
+        new Decoder(in, new GraphHandler(graph)).read();
+    }
+
+    /**
+     * Reads all triples and prefixes from the stream into the {@link StreamRDF}, ignoring the sections structure.
+     *
+     * @param in   {@link InputStream} to read, not {@code null}; it is not closed
+     * @param dest {@link StreamRDF} to fill, not {@code null}
+     * @throws IOException if an I/O error occurs or the data is malformed
+     */
+    public static void read(InputStream in, StreamRDF dest) throws IOException {
+        new Decoder(in, new StreamHandler(dest)).read();
+    }
+
+    private static void writeVarint(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(InputStream in) throws IOException {
+        int res = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Unexpected end of ONT-Binary data");
+            }
+            res |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return res;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    private static void readFully(InputStream in, byte[] bytes, int length) throws IOException {
+        int n = 0;
+        while (n < length) {
+            int r = in.read(bytes, n, length - n);
+            if (r < 0) {
+                throw new EOFException("Unexpected end of ONT-Binary data");
+            }
+            n += r;
+        }
+    }
+
+    /**
+     * The writer.
+     */
+    private static class Encoder {
+        private final OutputStream raw;
+        private final OutputStream out;
+        private final Map<Node, Integer> nodes = new HashMap<>();
+        private final int[] batch = new int[BATCH_SIZE * 3];
+        private int size;
+
+        Encoder(OutputStream out, boolean compress) throws IOException {
+            this.raw = Objects.requireNonNull(out, "Null output stream");
+            raw.write(MAGIC);
+            raw.write(VERSION);
+            raw.write(compress ? FLAG_COMPRESSED : 0);
+            this.out = compress ? new DeflaterBlockOutputStream(raw) : new BufferedOutputStream(raw);
+        }
+
+        void graph(int index, int[] imports) throws IOException {
+            flushBatch();
+            writeVarint(out, GRAPH);
+            writeVarint(out, index);
+            writeVarint(out, imports.length);
+            for (int i : imports) {
+                writeVarint(out, i);
+            }
+        }
+
+        void prefixes(Map<String, String> prefixes) throws IOException {
+            for (Map.Entry<String, String> e : prefixes.entrySet()) {
+                writeVarint(out, PREFIX);
+                writeString(e.getKey());
+                writeString(e.getValue());
+            }
+        }
+
+        void triples(ExtendedIterator<Triple> triples) throws IOException {
+            try {
+                while (triples.hasNext()) {
+                    triple(triples.next());
+                }
+            } finally {
+                triples.close();
+            }
+        }
+
+        void triple(Triple t) throws IOException {
+            int s = node(t.getSubject());
+            int p = node(t.getPredicate());
+            int o = node(t.getObject());
+            batch[size++] = s;
+            batch[size++] = p;
+            batch[size++] = o;
+            if (size == batch.length) {
+                flushBatch();
+            }
+        }
+
+        void finish(int[] roots) throws IOException {
+            flushBatch();
+            writeVarint(out, ROOTS);
+            writeVarint(out, roots.length);
+            for (int i : roots) {
+                writeVarint(out, i);
+            }
+            writeVarint(out, END);
+            if (out instanceof DeflaterBlockOutputStream) {
+                ((DeflaterBlockOutputStream) out).finish();
+            } else {
+                out.flush();
+            }
+            raw.flush();
+        }
+
+        private void flushBatch() throws IOException {
+            if (size == 0) {
+                return;
+            }
+            writeVarint(out, TRIPLES);
+            writeVarint(out, size / 3);
+            for (int i = 0; i < size; i++) {
+                writeVarint(out, batch[i]);
+            }
+            size = 0;
+        }
+
+        private int node(Node node) throws IOException {
+            Integer res = nodes.get(node);
+            if (res != null) {
+                return res;
+            }
+            if (node.isURI()) {
+                writeVarint(out, URI);
+                writeString(node.getURI());
+            } else if (node.isBlank()) {
+                writeVarint(out, BLANK);
+                writeString(node.getBlankNodeLabel());
+            } else if (node.isLiteral()) {
+                String lang = node.getLiteralLanguage();
+                if (lang != null && !lang.isEmpty()) {
+                    writeVarint(out, LANG_LITERAL);
+                    writeString(node.getLiteralLexicalForm());
+                    writeString(lang);
+                } else {
+                    int dt = node(NodeFactory.createURI(node.getLiteralDatatypeURI()));
+                    writeVarint(out, TYPED_LITERAL);
+                    writeString(node.getLiteralLexicalForm());
+                    writeVarint(out, dt);
+                }
+            } else {
+                throw new IllegalArgumentException("Unexpected node: " + node);
+            }
+            int id = nodes.size();
+            nodes.put(node, id);
+            return id;
+        }
+
+        private void writeString(String s) throws IOException {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * The reader.
+     */
+    private static class Decoder {
+        private final InputStream in;
+        private final Handler handler;
+        private final List<Node> nodes = new ArrayList<>();
+        private final TypeMapper types = TypeMapper.getInstance();
+        private byte[] buffer = new byte[256];
+
+        Decoder(InputStream in, Handler handler) throws IOException {
+            Objects.requireNonNull(in, "Null input stream");
+            byte[] header = new byte[MAGIC.length + 2];
+            readFully(in, header, header.length);
+            if (!Arrays.equals(MAGIC, Arrays.copyOf(header, MAGIC.length))) {
+                throw new StreamCorruptedException("Not an ONT-Binary data");
+            }
+            if (header[MAGIC.length] != VERSION) {
+                throw new StreamCorruptedException("Unsupported ONT-Binary version: " + header[MAGIC.length]);
+            }
+            this.in = (header[MAGIC.length + 1] & FLAG_COMPRESSED) != 0 ? new InflaterBlockInputStream(in) : in;
+            this.handler = handler;
+        }
+
+        void read() throws IOException {
+            while (true) {
+                int tag = readVarint(in);
+                switch (tag) {
+                    case END:
+                        handler.end();
+                        return;
+                    case URI:
+                        nodes.add(NodeFactory.createURI(readString()));
+                        break;
+                    case BLANK:
+                        nodes.add(NodeFactory.createBlankNode(readString()));
+                        break;
+                    case LANG_LITERAL:
+                        String txt = readString();
+                        nodes.add(NodeFactory.createLiteral(txt, readString()));
+                        break;
+                    case TYPED_LITERAL:
+                        String lex = readString();
+                        String dt = node(readVarint(in)).getURI();
+                        nodes.add(NodeFactory.createLiteral(lex, types.getSafeTypeByName(dt)));
+                        break;
+                    case GRAPH:
+                        handler.graph(readVarint(in), readInts());
+                        break;
+                    case PREFIX:
+                        String prefix = readString();
+                        handler.prefix(prefix, readString());
+                        break;
+                    case TRIPLES:
+                        int count = readVarint(in);
+                        for (int i = 0; i < count; i++) {
+                            Node s = node(readVarint(in));
+                            Node p = node(readVarint(in));
+                            Node o = node(readVarint(in));
+                            handler.triple(Triple.create(s, p, o));
+                        }
+                        break;
+                    case ROOTS:
+                        handler.roots(readInts());
+                        break;
+                    default:
+                        throw new StreamCorruptedException("Unknown record: " + tag);
+                }
+            }
+        }
+
+        private Node node(int index) throws IOException {
+            if (index < 0 || index >= nodes.size()) {
+                throw new StreamCorruptedException("Unknown node: " + index);
+            }
+            return nodes.get(index);
+        }
+
+        private int[] readInts() throws IOException {
+            int[] res = new int[readVarint(in)];
+            for (int i = 0; i < res.length; i++) {
+                res[i] = readVarint(in);
+            }
+            return res;
+        }
+
+        private String readString() throws IOException {
+            int length = readVarint(in);
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            readFully(in, buffer, length);
+            return new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The receiver of decoded data.
+     */
+    private interface Handler {
+        void graph(int index, int[] imports) throws IOException;
+
+        void prefix(String prefix, String uri);
+
+        void triple(Triple triple);
+
+        void roots(int[] roots) throws IOException;
+
+        void end();
+    }
+
+    private static class StreamHandler implements Handler {
+        private final StreamRDF dest;
+
+        StreamHandler(StreamRDF dest) {
+            this.dest = Objects.requireNonNull(dest);
+        }
+
+        @Override
+        public void graph(int index, int[] imports) {
+        }
+
+        @Override
+        public void prefix(String prefix, String uri) {
+            dest.prefix(prefix, uri);
+        }
+
+        @Override
+        public void triple(Triple triple) {
+            dest.triple(triple);
+        }
+
+        @Override
+        public void roots(int[] roots) {
+        }
+
+        @Override
+        public void end() {
+        }
+    }
+
+    private static class GraphHandler extends StreamHandler {
+        private final Graph graph;
+
+        GraphHandler(Graph graph) {
+            super(org.apache.jena.riot.system.StreamRDFLib.graph(graph));
+            this.graph = graph;
+        }
+
+        @Override
+        public void prefix(String prefix, String uri) {
+            graph.getPrefixMapping().setNsPrefix(prefix, uri);
+        }
+
+        @Override
+        public void triple(Triple triple) {
+            graph.add(triple);
+        }
+    }
+
+    private static class HierarchyHandler implements Handler {
+        private final Map<Integer, Graph> bases = new HashMap<>();
+        private final Map<Integer, int[]> imports = new HashMap<>();
+        private final List<UnionGraph> roots = new ArrayList<>();
+        private Graph current;
+
+        @Override
+        public void graph(int index, int[] imports) throws IOException {
+            if (bases.containsKey(index)) {
+                throw new StreamCorruptedException("Duplicate section: " + index);
+            }
+            bases.put(index, current = OntModelFactory.createDefaultGraph());
+            this.imports.put(index, imports);
+        }
+
+        @Override
+        public void prefix(String prefix, String uri) {
+            current().getPrefixMapping().setNsPrefix(prefix, uri);
+        }
+
+        @Override
+        public void triple(Triple triple) {
+            current().add(triple);
+        }
+
+        private Graph current() {
+            if (current == null) {
+                throw new IllegalStateException("No section");
+            }
+            return current;
+        }
+
+        @Override
+        public void roots(int[] roots) throws IOException {
+            Map<Integer, UnionGraph> unions = new HashMap<>();
+            bases.forEach((i, g) -> unions.put(i, new UnionGraph(g)));
+            for (Map.Entry<Integer, int[]> e : imports.entrySet()) {
+                UnionGraph u = unions.get(e.getKey());
+                for (int i : e.getValue()) {
+                    u.addGraph(union(unions, i));
+                }
+            }
+            for (int i : roots) {
+                this.roots.add(union(unions, i));
+            }
+        }
+
+        private static UnionGraph union(Map<Integer, UnionGraph> unions, int index) throws IOException {
+            UnionGraph res = unions.get(index);
+            if (res == null) {
+                throw new StreamCorruptedException("Unknown section: " + index);
+            }
+            return res;
+        }
+
+        @Override
+        public void end() {
+        }
+    }
+
+    /**
+     * Jena reader.
+     */
+    private static class ReaderImpl implements ReaderRIOT {
+
+        @Override
+        public void read(InputStream in, String baseURI, ContentType ct, StreamRDF output, Context context) {
+            output.start();
+            try {
+                OntBinary.read(new BufferedInputStream(in), output);
+            } catch (IOException e) {
+                throw new RiotException(e.getMessage(), e);
+            } finally {
+                output.finish();
+            }
+        }
+
+        @Override
+        public void read(Reader reader, String baseURI, ContentType ct, StreamRDF output, Context context) {
+            throw new RiotException(LANG.getLabel() + " is a binary format; it cannot be read from a Reader");
+        }
+    }
+
+    /**
+     * Jena writer.
+     */
+    private static class WriterImpl implements WriterGraphRIOT {
+        private final boolean compress;
+
+        WriterImpl(boolean compress) {
+            this.compress = compress;
+        }
+
+        @Override
+        public void write(OutputStream out, Graph graph, PrefixMap prefixMap, String baseURI, Context context) {
+            try {
+                Encoder encoder = new Encoder(out, compress);
+                encoder.graph(0, new int[0]);
+                if (prefixMap != null) {
+                    encoder.prefixes(prefixMap.getMappingCopyStr());
+                }
+                encoder.triples(graph.find());
+                encoder.finish(new int[]{0});
+            } catch (IOException e) {
+                throw new RiotException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void write(Writer out, Graph graph, PrefixMap prefixMap, String baseURI, Context context) {
+            throw new RiotException(LANG.getLabel() + " is a binary format; it cannot be written to a Writer");
+        }
+
+        @Override
+        public Lang getLang() {
+            return LANG;
+        }
+    }
+
+    /**
+     * An output stream that deflates the data by blocks, each block is prefixed with its raw and compressed lengths.
+     * The zero raw length marks the end.
+     */
+    private static class DeflaterBlockOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final byte[] buffer = new byte[BLOCK_SIZE];
+        private byte[] compressed = new byte[BLOCK_SIZE];
+        private int count;
+
+        DeflaterBlockOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                writeBlock();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) {
+                    writeBlock();
+                }
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        void finish() throws IOException {
+            writeBlock();
+            writeVarint(out, 0);
+            deflater.end();
+            out.flush();
+        }
+
+        private void writeBlock() throws IOException {
+            if (count == 0) {
+                return;
+            }
+            deflater.reset();
+            deflater.setInput(buffer, 0, count);
+            deflater.finish();
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+            writeVarint(out, count);
+            writeVarint(out, length);
+            out.write(compressed, 0, length);
+            count = 0;
+        }
+    }
+
+    /**
+     * An input stream that reads data written by {@link DeflaterBlockOutputStream}.
+     */
+    private static class InflaterBlockInputStream extends InputStream {
+        private final InputStream in;
+        private final Inflater inflater = new Inflater();
+        private byte[] buffer = new byte[BLOCK_SIZE];
+        private byte[] compressed = new byte[BLOCK_SIZE];
+        private int position;
+        private int limit;
+        private boolean eof;
+
+        InflaterBlockInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == limit && !nextBlock()) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position == limit && !nextBlock()) {
+                return -1;
+            }
+            int n = Math.min(len, limit - position);
+            System.arraycopy(buffer, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        private boolean nextBlock() throws IOException {
+            if (eof) {
+                return false;
+            }
+            int length = readVarint(in);
+            if (length == 0) {
+                eof = true;
+                inflater.end();
+                return false;
+            }
+            int size = readVarint(in);
+            if (buffer.length < length) {
+                buffer = new byte[length];
+            }
+            if (compressed.length < size) {
+                compressed = new byte[size];
+            }
+            readFully(in, compressed, size);
+            inflater.reset();
+            inflater.setInput(compressed, 0, size);
+            try {
+                int n = 0;
+                while (n < length && !inflater.finished()) {
+                    n += inflater.inflate(buffer, n, length - n);
+                }
+                if (n != length) {
+                    throw new StreamCorruptedException("Wrong block size: " + n);
+                }
+            } catch (DataFormatException e) {
+                throw new StreamCorruptedException("Can't inflate block: " + e.getMessage());
+            }
+            position = 0;
+            limit = length;
+            return true;
+        }
+    }
+}
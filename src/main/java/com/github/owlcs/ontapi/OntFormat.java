@@ -58,6 +58,7 @@ public enum OntFormat {
     TRIX("TriX", "trix", Lang.TRIX, LangKey.TRIX),
     // jena only:
     RDF_THRIFT("RDF-THRIFT", "trdf", Lang.RDFTHRIFT, null),
+    ONT_BINARY("ONT-Binary", "ontb", OntBinary.LANG, null),
     CSV("CSV", "csv", Lang.CSV, null),
     TSV("TSV", "tsv", Lang.TSV, null),
     // owl-api formats only
@@ -41,6 +41,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Supplier;
 
@@ -270,7 +271,15 @@ public class OntGraphUtils {
             throw new ConfigMismatchException("Not allowed scheme: " + iri);
         }
         String header = source.getAcceptHeaders().orElse(DEFAULT_REQUEST);
-        return read(graph, source, s -> DocumentSources.getInputStream(iri, conf, header).orElseThrow(orElse));
+        OntInputSupplier supplier = s -> DocumentSources.getInputStream(iri, conf, header).orElseThrow(orElse);
+        int parallelism = conf.getParsingParallelism();
+        if (parallelism > 1) {
+            Path file = ChunkedGraphReader.findFile(iri.toURI()).orElse(null);
+            if (file != null) {
+                return read(graph, source, supplier, file, parallelism);
+            }
+        }
+        return read(graph, source, supplier);
     }
 
     /**
@@ -286,6 +295,27 @@ public class OntGraphUtils {
     protected static OntFormat read(Graph graph,
                                     OWLOntologyDocumentSource source,
                                     OntInputSupplier supplier) throws OWLOntologyCreationException {
+        return read(graph, source, supplier, null, 1);
+    }
+
+    /**
+     * Performs reading to the graph from the source using {@link OntInputSupplier ont-supplier}
+     * or, for line-based formats, directly from the local file using {@link ChunkedGraphReader}.
+     *
+     * @param graph       {@link Graph}
+     * @param source      {@link OWLOntologyDocumentSource}
+     * @param supplier    {@link OntInputSupplier}
+     * @param file        {@link Path} to the local document, can be {@code null}
+     * @param parallelism int, the number of threads to parse the {@code file}
+     * @return {@link OntFormat}
+     * @throws OWLOntologyCreationException if something is wrong.
+     * @since 2.1.0
+     */
+    protected static OntFormat read(Graph graph,
+                                    OWLOntologyDocumentSource source,
+                                    OntInputSupplier supplier,
+                                    Path file,
+                                    int parallelism) throws OWLOntologyCreationException {
         IRI iri = source.getDocumentIRI();
         final OWLOntologyCreationException cause = new UnsupportedFormatException(String.format("Can't read %s %s.",
                 source.getClass().getSimpleName(), iri));
@@ -296,11 +326,23 @@ public class OntGraphUtils {
                 continue;
             }
             Lang lang = format.getLang();
-            try (InputStream is = supplier.open(source)) {
+            // a failed attempt may leave some triples, so a non-empty graph is never parsed in place:
+            Graph target = graph.isEmpty() ? graph : Factory.createGraphMem();
+            try {
                 if (LOGGER.isDebugEnabled())
                     LOGGER.debug("try <{}>", lang);
-                // with @base:
-                RDFDataMgr.read(graph, is, iri.toString(), lang);
+                if (file != null && ChunkedGraphReader.isSupported(lang)) {
+                    new ChunkedGraphReader(lang, parallelism).read(file, iri.toString(), target);
+                } else {
+                    try (InputStream is = supplier.open(source)) {
+                        // with @base:
+                        RDFDataMgr.read(target, is, iri.toString(), lang);
+                    }
+                }
+                if (target != graph) {
+                    GraphUtil.addInto(graph, target);
+                    graph.getPrefixMapping().setNsPrefixes(target.getPrefixMapping());
+                }
                 return format;
             } catch (OWLOntologyInputSourceException | IOException e) {
                 throw new OWLOntologyCreationException(source.getClass().getSimpleName() +
@@ -311,6 +353,8 @@ public class OntGraphUtils {
                 // org.apache.jena.atlas.json.JsonParseException || ...
                 if (LOGGER.isDebugEnabled())
                     LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
+                // drop the partially loaded data before the next attempt:
+                target.clear();
                 cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
             }
         }
@@ -15,8 +15,10 @@
 package com.github.owlcs.ontapi;
 
 import com.github.owlcs.ontapi.config.OntLoaderConfiguration;
+import com.github.owlcs.ontapi.jena.OffHeapGraph;
 import com.github.owlcs.ontapi.jena.OntModelFactory;
 import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
 import org.apache.jena.graph.Graph;
 
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -111,4 +113,49 @@ public class OntologyBuilderImpl implements OntologyFactory.Builder {
     public UnionGraph wrap(Graph g, OntLoaderConfiguration config) {
         return g instanceof UnionGraph ? (UnionGraph) g : createUnionGraph(g, config);
     }
+
+    /**
+     * A builder that produces ontologies backed by the {@link OffHeapGraph off-heap dictionary-encoded graph}
+     * instead of the default {@link org.apache.jena.mem.GraphMem}.
+     * It is suitable for very large ontologies, since the triples do not occupy the java heap.
+     * The graph is used both for fresh ontologies and for ontologies loaded by the Jena mechanisms.
+     * To use it, pass an instance to the method
+     * {@link OntManagers.ONTAPIProfile#createOntologyFactory(OntologyFactory.Builder)}.
+     *
+     * @since 2.1.0
+     */
+    public static class OffHeap extends OntologyBuilderImpl {
+
+        /**
+         * Creates an {@link OffHeapGraph off-heap graph}.
+         *
+         * @return Graph
+         */
+        @Override
+        public Graph createGraph() {
+            return new OffHeapGraph();
+        }
+    }
+
+    /**
+     * A builder that produces ontologies backed by the {@link VersionedGraph MVCC graph}.
+     * It is suitable for concurrent managers with many readers:
+     * the graph iterators work over immutable snapshots,
+     * so the {@link com.github.owlcs.ontapi.jena.RWLockedGraph R/W-locked} wrapper neither tracks them
+     * nor makes writers wait for them.
+     *
+     * @since 2.1.0
+     */
+    public static class Versioned extends OntologyBuilderImpl {
+
+        /**
+         * Creates a {@link VersionedGraph versioned graph}.
+         *
+         * @return Graph
+         */
+        @Override
+        public Graph createGraph() {
+            return new VersionedGraph();
+        }
+    }
 }
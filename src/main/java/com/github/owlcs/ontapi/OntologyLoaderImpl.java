@@ -36,6 +36,8 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -69,6 +71,8 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
     protected Map<String, GraphInfo> graphs = new LinkedHashMap<>();
     protected Map<IRI, Optional<IRI>> sourceMap = new HashMap<>();
     protected Map<IRI, GraphInfo> loaded = new HashMap<>();
+    // the imports closure loaded in advance (see #prefetchImports):
+    protected Map<String, GraphLoader> prefetched = new HashMap<>();
 
     /**
      * Creates a default {@code Loader} instance.
@@ -116,6 +120,8 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             // null key in case of anonymous ontology.
             // But: only one anonymous is allowed (as root of imports tree), if there is no mapping in manager.
             graphs.put(primary.getURI(), primary);
+            // read the whole imports closure concurrently, if it is allowed:
+            prefetchImports(primary, builder, manager, config);
             // first expand graphs map by creating primary model:
             Ontology res = OntApiException.notNull(createModel(primary, builder, manager, config), "Should never happen");
             // then process all the rest dependent models
@@ -142,6 +148,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         graphs.clear();
         sourceMap.clear();
         loaded.clear();
+        prefetched.clear();
     }
 
     /**
@@ -382,17 +389,40 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                                    OntologyCreator builder,
                                    OntologyManager manager,
                                    OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        GraphLoader res = prefetched.remove(uri);
+        if (res != null) {
+            return res.load();
+        }
+        return fetchGraph(uri, manager, m -> toGraphInfo(m, null), s -> loadGraph(s, builder, manager, config));
+    }
+
+    /**
+     * Finds the ontology with the specified uri inside the manager,
+     * or, if there is no such ontology, the document source to load it.
+     *
+     * @param uri         String, the ontology uri
+     * @param manager     {@link OntologyManager}
+     * @param ifExists    a {@code Function} to process the existing ontology
+     * @param ifNotExists a {@link SourceHandler} to process the document source
+     * @param <R>         the type of result
+     * @return {@link R}
+     * @throws OWLOntologyCreationException if the document source cannot be processed
+     */
+    protected <R> R fetchGraph(String uri,
+                               OntologyManager manager,
+                               Function<Ontology, R> ifExists,
+                               SourceHandler<R> ifNotExists) throws OWLOntologyCreationException {
         IRI ontologyIRI = IRI.create(uri);
         Ontology res = findModel(manager, ontologyIRI);
         if (res != null) {
-            return toGraphInfo(res, null);
+            return ifExists.apply(res);
         }
         // IRI Mappers:
         IRI documentIRI = documentIRI(manager, ontologyIRI).orElse(ontologyIRI);
         // handle also the strange situation when there is no resource-mapping but a mapping on some existing ontology
         res = findModel(manager, documentIRI);
         if (res != null) {
-            return toGraphInfo(res, null);
+            return ifExists.apply(res);
         }
         // Document Source Mappers:
         OWLOntologyDocumentSource source = manager.getDocumentSourceMappers().stream()
@@ -400,7 +430,136 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(new IRIDocumentSource(documentIRI));
-        return loadGraph(source, builder, manager, config);
+        return ifNotExists.apply(source);
+    }
+
+    /**
+     * Reads all the documents of the {@code owl:imports} closure of the given graph in advance.
+     * Each graph is parsed by Apache Jena in a separate task as soon as it is discovered,
+     * so the sibling documents (and the documents from different branches) are parsed concurrently.
+     * All the manager-related work (searching for existing ontologies, IRI mappers, OWL-API parsers)
+     * is performed in the current thread.
+     * The results (or errors) are stored in the {@link #prefetched} map,
+     * and the {@link UnionGraph} hierarchy is then assembled as usual
+     * by the {@link #processImports(GraphInfo, Collection, OntologyCreator, OntologyManager, OntLoaderConfiguration)}
+     * method, which takes them in the same order as in the sequential mode.
+     * Does nothing if the imports processing is disabled or the parallelism is {@code 1}.
+     *
+     * @param root    {@link GraphInfo} the root graph
+     * @param builder {@link OntologyCreator} to construct a fresh {@link Graph} instance
+     * @param manager {@link OntologyManager}
+     * @param config  {@link OntLoaderConfiguration}
+     * @see com.github.owlcs.ontapi.config.LoadSettings#getImportsLoadingParallelism()
+     * @since 2.1.0
+     */
+    protected void prefetchImports(GraphInfo root,
+                                   OntologyCreator builder,
+                                   OntologyManager manager,
+                                   OntLoaderConfiguration config) {
+        if (!config.isProcessImports() || config.getImportsLoadingParallelism() < 2) {
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(config.getImportsLoadingParallelism());
+        CompletionService<GraphLoader> service = new ExecutorCompletionService<>(pool);
+        Map<Future<GraphLoader>, String> tasks = new HashMap<>();
+        Set<String> seen = new HashSet<>(graphs.keySet());
+        try {
+            submitImports(root, seen, tasks, service, builder, manager, config);
+            while (!tasks.isEmpty()) {
+                Future<GraphLoader> f = service.take();
+                String uri = tasks.remove(f);
+                GraphLoader res = f.get();
+                prefetched.put(uri, res);
+                if (res instanceof Loaded) {
+                    submitImports(((Loaded) res).info, seen, tasks, service, builder, manager, config);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OntApiException("Interrupted while loading imports", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new OntApiException("Unable to load imports", cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits the loading of all the not yet seen imports of the given graph.
+     *
+     * @param node    {@link GraphInfo} the graph whose imports are to be loaded
+     * @param seen    a {@code Set} of already processed uris
+     * @param tasks   a {@code Map} to store the submitted tasks
+     * @param service {@link CompletionService} to run the tasks
+     * @param builder {@link OntologyCreator}
+     * @param manager {@link OntologyManager}
+     * @param config  {@link OntLoaderConfiguration}
+     */
+    private void submitImports(GraphInfo node,
+                               Set<String> seen,
+                               Map<Future<GraphLoader>, String> tasks,
+                               CompletionService<GraphLoader> service,
+                               OntologyCreator builder,
+                               OntologyManager manager,
+                               OntLoaderConfiguration config) {
+        seen.add(node.getURI());
+        List<String> imports = node.getImports().stream().sorted().collect(Collectors.toList());
+        for (String uri : imports) {
+            if (!seen.add(uri) || config.isIgnoredImport(IRI.create(uri))) {
+                continue;
+            }
+            Callable<GraphLoader> task;
+            try {
+                task = fetchGraph(uri, manager, m -> {
+                    GraphLoader res = new Loaded(toGraphInfo(m, null));
+                    return () -> res;
+                }, s -> prepareGraph(s, builder, manager, config));
+            } catch (OWLOntologyCreationException | RuntimeException e) {
+                task = () -> () -> {
+                    throw e;
+                };
+            }
+            tasks.put(service.submit(task), uri);
+        }
+    }
+
+    /**
+     * Prepares a task to load the graph from the given source.
+     * The returned task can be run in any thread, since it does not touch the manager:
+     * everything, that requires the manager, is performed either right now or when the result is taken.
+     *
+     * @param source  {@link OWLOntologyDocumentSource}
+     * @param builder {@link OntologyCreator}
+     * @param manager {@link OntologyManager}
+     * @param config  {@link OntLoaderConfiguration}
+     * @return {@code Callable} that returns a {@link GraphLoader}
+     * @throws OWLOntologyCreationException if loading is not possible
+     */
+    protected Callable<GraphLoader> prepareGraph(OWLOntologyDocumentSource source,
+                                                 OntologyCreator builder,
+                                                 OntologyManager manager,
+                                                 OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        if (source instanceof OntGraphDocumentSource || loaded.containsKey(source.getDocumentIRI())) {
+            GraphLoader res = new Loaded(loadGraph(source, builder, manager, config));
+            return () -> res;
+        }
+        OWLOntologyDocumentSource src = mapSource(source, manager);
+        return () -> {
+            try {
+                return new Loaded(readGraph(source, src, builder, config));
+            } catch (OntologyFactoryImpl.UnsupportedFormatException jenaEx) {
+                // the alternative way requires the manager, so it is deferred:
+                return () -> loadGraph(source, src, jenaEx, builder, manager, config);
+            } catch (OWLOntologyCreationException | RuntimeException e) {
+                return () -> {
+                    throw e;
+                };
+            }
+        };
     }
 
     /**
@@ -517,60 +676,111 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         if (loaded.containsKey(source.getDocumentIRI())) {
             return loaded.get(source.getDocumentIRI());
         }
-        IRI doc = source.getDocumentIRI();
-        OWLOntologyDocumentSource src = documentIRI(manager, doc)
+        OWLOntologyDocumentSource src = mapSource(source, manager);
+        try {
+            return readGraph(source, src, builder, config);
+        } catch (OntologyFactoryImpl.UnsupportedFormatException jenaEx) {
+            return loadGraph(source, src, jenaEx, builder, manager, config);
+        }
+    }
+
+    /**
+     * Applies the manager's IRI mappers to the given document source.
+     *
+     * @param source  {@link OWLOntologyDocumentSource}
+     * @param manager {@link OntologyManager}
+     * @return {@link OWLOntologyDocumentSource}, the same or new
+     */
+    private OWLOntologyDocumentSource mapSource(OWLOntologyDocumentSource source, OntologyManager manager) {
+        return documentIRI(manager, source.getDocumentIRI())
                 .map(IRIDocumentSource::new)
                 .map(OWLOntologyDocumentSource.class::cast)
                 .orElse(source);
+    }
+
+    /**
+     * Reads the graph from the document source using Apache Jena.
+     * This method does not touch the manager and can be called from any thread.
+     *
+     * @param source  {@link OWLOntologyDocumentSource the initial document source}
+     * @param src     {@link OWLOntologyDocumentSource the mapped document source} to read from
+     * @param builder {@link OntologyCreator} to construct a fresh {@link Graph} instance
+     * @param config  {@link OntLoaderConfiguration the load configuration}
+     * @return {@link GraphInfo graph-info}
+     * @throws OntologyFactoryImpl.UnsupportedFormatException if the source cannot be read by Jena
+     * @throws OWLOntologyCreationException                   if loading is not possible
+     */
+    protected GraphInfo readGraph(OWLOntologyDocumentSource source,
+                                  OWLOntologyDocumentSource src,
+                                  OntologyCreator builder,
+                                  OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        Graph graph = builder.createGraph();
+        OntFormat format = OntGraphUtils.readGraph(graph, src, config);
+        GraphInfo res = createGraphInfo(graph, format, source.getDocumentIRI(), true);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Graph <{}> is loaded by jena. Source: {}[{}]. Format: {}",
+                    res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
+        }
+        return res;
+    }
+
+    /**
+     * Loads the graph using the {@link #alternative OWL-API loader},
+     * when the document source cannot be read by Apache Jena.
+     *
+     * @param source  {@link OWLOntologyDocumentSource the initial document source}
+     * @param src     {@link OWLOntologyDocumentSource the mapped document source} to read from
+     * @param jenaEx  {@link OntologyFactoryImpl.UnsupportedFormatException} the Jena error
+     * @param builder {@link OntologyCreator} to construct a fresh {@link Graph} instance
+     * @param manager {@link OntologyManager the manager} to load
+     * @param config  {@link OntLoaderConfiguration the load configuration}
+     * @return {@link GraphInfo graph-info}
+     * @throws OWLOntologyCreationException if loading is not possible
+     */
+    protected GraphInfo loadGraph(OWLOntologyDocumentSource source,
+                                  OWLOntologyDocumentSource src,
+                                  OntologyFactoryImpl.UnsupportedFormatException jenaEx,
+                                  OntologyCreator builder,
+                                  OntologyManager manager,
+                                  OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        IRI doc = source.getDocumentIRI();
+        // owl-api:
+        if (alternative == null) {
+            throw jenaEx;
+        }
+        // if there is an explicit format specified:
+        if (source.getFormat().map(OntFormat::get).filter(OntFormat::isJena).isPresent()) {
+            if (jenaEx.getSuppressed().length == 1) {
+                LOGGER.warn("Jena loading fail: {}", jenaEx.getSuppressed()[0].getMessage());
+            } else {
+                LOGGER.warn("Jena loading fail!", jenaEx);
+            }
+        }
+        if (LOGGER.isDebugEnabled()) {
+            String msg = jenaEx.getMessage();
+            if (jenaEx.getCause() != null) {
+                msg += " => " + jenaEx.getCause().getMessage();
+            }
+            LOGGER.debug("Can't load using Apache Jena: {}. Try OWL-API mechanisms.", msg);
+        }
+        OntologyCreator _builder = createBuilderFrom(alternative, builder);
+        OntLoaderConfiguration _config = createConfigFrom(alternative, config);
+        OntologyManagerImpl _manager = createLoadCopy(_builder, manager, config);
         try {
-            // jena:
-            Graph graph = builder.createGraph();
-            OntFormat format = OntGraphUtils.readGraph(graph, src, config);
-            GraphInfo res = createGraphInfo(graph, format, doc, true);
+            // WARNING: it is a recursive part:
+            // The OWL-API will call some manager load methods which, in turn, will call a factory methods.
+            Ontology ont = alternative.loadOntology(_builder, _manager, src, _config);
+            ont.imports().forEach(o -> _manager.documentIRIByOntology(o)
+                    .ifPresent(iri -> loaded.put(iri, toGraphInfo(getAdapter().asONT(o), iri))));
+            GraphInfo res = toGraphInfo(ont, doc);
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Graph <{}> is loaded by jena. Source: {}[{}]. Format: {}",
+                LOGGER.debug("Graph <{}> is loaded by OWL-API. Source: {}[{}]. Format: {}",
                         res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
             }
             return res;
-        } catch (OntologyFactoryImpl.UnsupportedFormatException jenaEx) {
-            // owl-api:
-            if (alternative == null) {
-                throw jenaEx;
-            }
-            // if there is an explicit format specified:
-            if (source.getFormat().map(OntFormat::get).filter(OntFormat::isJena).isPresent()) {
-                if (jenaEx.getSuppressed().length == 1) {
-                    LOGGER.warn("Jena loading fail: {}", jenaEx.getSuppressed()[0].getMessage());
-                } else {
-                    LOGGER.warn("Jena loading fail!", jenaEx);
-                }
-            }
-            if (LOGGER.isDebugEnabled()) {
-                String msg = jenaEx.getMessage();
-                if (jenaEx.getCause() != null) {
-                    msg += " => " + jenaEx.getCause().getMessage();
-                }
-                LOGGER.debug("Can't load using Apache Jena: {}. Try OWL-API mechanisms.", msg);
-            }
-            OntologyCreator _builder = createBuilderFrom(alternative, builder);
-            OntLoaderConfiguration _config = createConfigFrom(alternative, config);
-            OntologyManagerImpl _manager = createLoadCopy(_builder, manager, config);
-            try {
-                // WARNING: it is a recursive part:
-                // The OWL-API will call some manager load methods which, in turn, will call a factory methods.
-                Ontology ont = alternative.loadOntology(_builder, _manager, src, _config);
-                ont.imports().forEach(o -> _manager.documentIRIByOntology(o)
-                        .ifPresent(iri -> loaded.put(iri, toGraphInfo(getAdapter().asONT(o), iri))));
-                GraphInfo res = toGraphInfo(ont, doc);
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("Graph <{}> is loaded by OWL-API. Source: {}[{}]. Format: {}",
-                            res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
-                }
-                return res;
-            } catch (OWLOntologyCreationException owlEx) {
-                owlEx.addSuppressed(jenaEx);
-                throw owlEx;
-            }
+        } catch (OWLOntologyCreationException owlEx) {
+            owlEx.addSuppressed(jenaEx);
+            throw owlEx;
         }
     }
 
@@ -682,6 +892,45 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         };
     }
 
+    /**
+     * A deferred loading of a graph.
+     *
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    protected interface GraphLoader {
+        GraphInfo load() throws OWLOntologyCreationException;
+    }
+
+    /**
+     * A handler for a document source.
+     *
+     * @param <R> the type of result
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    protected interface SourceHandler<R> {
+        R apply(OWLOntologyDocumentSource source) throws OWLOntologyCreationException;
+    }
+
+    /**
+     * A {@link GraphLoader} for an already loaded graph.
+     *
+     * @since 2.1.0
+     */
+    protected static class Loaded implements GraphLoader {
+        protected final GraphInfo info;
+
+        protected Loaded(GraphInfo info) {
+            this.info = Objects.requireNonNull(info);
+        }
+
+        @Override
+        public GraphInfo load() {
+            return info;
+        }
+    }
+
     /**
      * A container for a {@link Graph graph} and some load parameters, such as source-iri and format.
      * Used for simplification as temporary storage by this factory only.
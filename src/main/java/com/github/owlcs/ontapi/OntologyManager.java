@@ -434,6 +434,30 @@ public interface OntologyManager extends OWLOntologyManager {
     @Override
     Ontology copyOntology(OWLOntology source, OntologyCopy settings);
 
+    /**
+     * Creates a copy of the given ontology in this manager,
+     * which is backed by a {@link com.github.owlcs.ontapi.jena.CopyOnWriteGraph copy-on-write overlay}
+     * over the base graph of the source.
+     * The operation does not copy any triples, so it takes constant time whatever the ontology size is.
+     * Any change in the copy is recorded in the overlay delta, the source is never changed.
+     * While the copy is not modified, its axioms are taken from the source content cache, without translation.
+     * As with the {@link OntologyCopy#SHALLOW SHALLOW} copying, no transformations and import processing are performed,
+     * but the missed import references are restored from this manager.
+     * <p>
+     * The source ontology must not be modified while the copy is in use:
+     * the overlay relies on the base graph being frozen.
+     * This is not controlled; it is the caller's responsibility.
+     * The typical use case is a large shared read-only ontology and many short-living working copies,
+     * each in its own manager.
+     *
+     * @param source {@link Ontology}, not {@code null}
+     * @return a new (copied) {@link Ontology}
+     * @throws OntApiException if any unexpected error occurs, e.g. there is already an ontology with the same id
+     * @see #copyOntology(OWLOntology, OntologyCopy)
+     * @since 2.1.0
+     */
+    Ontology copyOntologyOnWrite(Ontology source);
+
     /**
      * Loads an ontology by the specified {@code source} IRI.
      * Note: if a loaded ontology contains any {@code owl:imports} they will also be processed,
@@ -17,9 +17,12 @@ package com.github.owlcs.ontapi;
 import com.github.owlcs.ontapi.config.OntConfig;
 import com.github.owlcs.ontapi.config.OntLoaderConfiguration;
 import com.github.owlcs.ontapi.config.OntWriterConfiguration;
+import com.github.owlcs.ontapi.internal.CacheBudget;
 import com.github.owlcs.ontapi.internal.InternalCache;
 import com.github.owlcs.ontapi.internal.InternalConfig;
 import com.github.owlcs.ontapi.internal.InternalModel;
+import com.github.owlcs.ontapi.internal.SharedContentCache;
+import com.github.owlcs.ontapi.jena.CopyOnWriteGraph;
 import com.github.owlcs.ontapi.jena.UnionGraph;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.utils.Graphs;
@@ -47,11 +50,18 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -82,6 +92,10 @@ public class OntologyManagerImpl implements OntologyManager,
     protected OntWriterConfiguration writerConfig;
     // Loading Cache for IRIs, that is shared between ontologies that belong to this manager.
     protected transient InternalCache.Loading<String, IRI> iris;
+    // Translated content, that is shared between ontologies with the same base graph (since 2.1.0):
+    protected transient SharedContentCache sharedContent;
+    // The memory budget for the content and component caches of all ontologies (since 2.1.0):
+    protected transient volatile CacheBudget budget;
     // OntologyFactory collection:
     protected final RWLockedCollection<OWLOntologyFactory> ontologyFactories;
     // IRI mappers
@@ -224,6 +238,7 @@ public class OntologyManagerImpl implements OntologyManager,
                 // reset cache:
                 this.iris = createIRICache();
             }
+            getCacheBudget().setLimit(this.config.getManagerContentCacheBudget());
         } finally {
             getLock().writeLock().unlock();
         }
@@ -251,6 +266,58 @@ public class OntologyManagerImpl implements OntologyManager,
         }
     }
 
+    /**
+     * Sets the cache of translated content (axioms and ontology header annotations),
+     * that is shared between the ontologies built over the same base graph with the same imports closure,
+     * e.g. between shallow copies of an ontology or between the same imported graph added to different managers.
+     * The same cache instance can be set to several managers.
+     * The change affects all the ontologies of this manager, their caches are not reset.
+     *
+     * @param cache {@link SharedContentCache} or {@code null} to disable sharing
+     * @see #copyOntology(OWLOntology, OntologyCopy)
+     * @since 2.1.0
+     */
+    public void setSharedContentCache(@Nullable SharedContentCache cache) {
+        getLock().writeLock().lock();
+        try {
+            this.sharedContent = cache;
+            content.values().map(OntInfo::get)
+                    .forEach(o -> getAdapter().asBaseModel(o).getBase().setSharedContentCache(cache));
+        } finally {
+            getLock().writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the cache of translated content, that is shared between the ontologies with the same base graph.
+     *
+     * @return {@link SharedContentCache} or {@code null} if it is not set
+     * @since 2.1.0
+     */
+    public SharedContentCache getSharedContentCache() {
+        return sharedContent;
+    }
+
+    /**
+     * Returns the memory budget, that controls the content and component caches of all the ontologies of this manager.
+     * The initial limit is taken from the config ({@link OntConfig#getManagerContentCacheBudget()}),
+     * it can be changed at any time via {@link CacheBudget#setLimit(long)}.
+     * The budget also collects statistics about hits, loads and evictions of the cache buckets.
+     *
+     * @return {@link CacheBudget}, never {@code null}
+     * @since 2.1.0
+     */
+    public CacheBudget getCacheBudget() {
+        CacheBudget res = budget;
+        if (res != null) return res;
+        synchronized (this) {
+            if (budget == null) {
+                budget = new CacheBudget(config.getManagerContentCacheBudget());
+            }
+            return budget;
+        }
+    }
+
     /**
      * Gets the manager's loader configuration.
      *
@@ -1264,6 +1331,12 @@ public class OntologyManagerImpl implements OntologyManager,
     }
 
     /**
+     * Applies the changes.
+     * Each consecutive run of axiom changes of the same kind ({@link AddAxiom} or {@link RemoveAxiom})
+     * that relates to the same ontology is applied as a single batch
+     * (see {@link OntologyModelImpl#applyDirectChanges(List)}),
+     * all other changes are applied one by one.
+     *
      * @param changes           {@code List} of {@link OWLOntologyChange}
      * @param rollbackRequested boolean
      * @param allNoOps          boolean
@@ -1273,12 +1346,20 @@ public class OntologyManagerImpl implements OntologyManager,
                                  AtomicBoolean rollbackRequested,
                                  AtomicBoolean allNoOps,
                                  List<OWLOntologyChange> appliedChanges) {
-        for (OWLOntologyChange change : changes) {
+        int index = 0;
+        while (index < changes.size()) {
             // once rollback is requested by a failed change, do not carry
             // out any more changes
             if (rollbackRequested.get()) {
+                return;
+            }
+            int end = findBatchEnd(changes, index);
+            if (end - index > 1) {
+                applyBatch(changes.subList(index, end), allNoOps, appliedChanges);
+                index = end;
                 continue;
             }
+            OWLOntologyChange change = changes.get(index++);
             ChangeApplied enactChangeApplication = enactChangeApplication(change);
             if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
                 rollbackRequested.set(true);
@@ -1291,6 +1372,75 @@ public class OntologyManagerImpl implements OntologyManager,
         }
     }
 
+    /**
+     * Finds the end (exclusive) of the run of changes starting at the specified position,
+     * which can be applied as a single batch.
+     * Such a run consists of applicable axiom changes of the same kind related to the same known ontology.
+     *
+     * @param changes {@code List} of {@link OWLOntologyChange}s
+     * @param from    int, the start position
+     * @return int, the end position, {@code from} if there is no batch
+     * @since 2.1.0
+     */
+    protected int findBatchEnd(List<? extends OWLOntologyChange> changes, int from) {
+        OWLOntologyChange first = changes.get(from);
+        OWLOntology ont = first.getOntology();
+        if (!first.isAxiomChange() || toModelImpl(ont) == null || !hasOntology(ont)) {
+            return from;
+        }
+        boolean add = first.isAddAxiom();
+        int res = from;
+        while (res < changes.size()) {
+            OWLOntologyChange change = changes.get(res);
+            if (!change.isAxiomChange() || change.isAddAxiom() != add
+                    || change.getOntology() != ont || !isChangeApplicable(change)) {
+                break;
+            }
+            res++;
+        }
+        return res;
+    }
+
+    /**
+     * Applies the batch of axiom changes found by the method {@link #findBatchEnd(List, int)}.
+     *
+     * @param changes        {@code List} of {@link OWLOntologyChange}s
+     * @param allNoOps       boolean
+     * @param appliedChanges {@code List} of {@link OWLOntologyChange}
+     * @since 2.1.0
+     */
+    protected void applyBatch(List<? extends OWLOntologyChange> changes,
+                              AtomicBoolean allNoOps,
+                              List<OWLOntologyChange> appliedChanges) {
+        OntologyModelImpl ont = Objects.requireNonNull(toModelImpl(changes.get(0).getOntology()));
+        List<OWLAxiomChange> batch = changes.stream().map(OWLAxiomChange.class::cast).collect(Collectors.toList());
+        List<ChangeApplied> res = ont.applyDirectChanges(batch);
+        for (int i = 0; i < changes.size(); i++) {
+            OWLOntologyChange change = changes.get(i);
+            if (res.get(i) == ChangeApplied.SUCCESSFULLY) {
+                allNoOps.set(false);
+                appliedChanges.add(change);
+            }
+            listeners.fireChangeApplied(change);
+        }
+    }
+
+    /**
+     * Answers the {@link OntologyModelImpl} which is behind the given ontology.
+     *
+     * @param ont {@link OWLOntology}
+     * @return {@link OntologyModelImpl} or {@code null}
+     */
+    private static OntologyModelImpl toModelImpl(OWLOntology ont) {
+        if (ont instanceof OntologyModelImpl) {
+            return (OntologyModelImpl) ont;
+        }
+        if (ont instanceof OntologyModelImpl.Concurrent) {
+            return ((OntologyModelImpl.Concurrent) ont).delegate();
+        }
+        return null;
+    }
+
     /**
      * @param appliedChanges {@code List} of {@link OWLOntologyChange}
      */
@@ -1454,6 +1604,28 @@ public class OntologyManagerImpl implements OntologyManager,
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param source {@link Ontology}
+     * @return {@link Ontology}
+     */
+    @Override
+    public Ontology copyOntologyOnWrite(@Nonnull Ontology source) {
+        getLock().writeLock().lock();
+        try {
+            OntApiException.notNull(source, "Null source ontology.");
+            Graph base = Graphs.getBase(source.asGraphModel().getBaseGraph());
+            Ontology res = addOntology(new CopyOnWriteGraph(base),
+                    getOntologyLoaderConfiguration().setPerformTransformation(false).setProcessImports(false));
+            syncImports();
+            getAdapter().asBaseModel(res).getBase().setContentSource(getAdapter().asBaseModel(source).getBase());
+            return res;
+        } finally {
+            getLock().writeLock().unlock();
+        }
+    }
+
     /**
      * @param source {@link IRI}
      * @return {@link Ontology}
@@ -1778,6 +1950,103 @@ public class OntologyManagerImpl implements OntologyManager,
         }
     }
 
+    /**
+     * Writes the specified ontology to the specified output target in the specified ontology format asynchronously.
+     * For the line-based formats (N-Triples, N-Quads, RDF-Thrift)
+     * the base graph is split by subjects into chunks,
+     * which are serialized in parallel and written in order into the target through NIO channels
+     * (see {@link ChunkedGraphWriter}).
+     * For any other format the method {@link #write(OWLOntology, OWLDocumentFormat, OWLOntologyDocumentTarget)}
+     * is just performed by the {@code executor}.
+     * The manager's read lock is held while writing,
+     * so the ontology cannot be modified through the manager until the returned future is completed.
+     *
+     * @param ontology {@link OWLOntology}, expected to be {@link Ontology} belonging to the manager
+     * @param doc      {@link OWLDocumentFormat} format
+     * @param target   {@link OWLOntologyDocumentTarget}
+     * @param executor {@link Executor} to perform writing, not {@code null}
+     * @param listener {@link ChunkedGraphWriter.Listener} to receive progress notifications, can be {@code null};
+     *                 it is not called for non-chunked formats
+     * @return {@link CompletableFuture}, which is completed exceptionally
+     * with {@link OWLOntologyStorageException} (wrapped by {@link CompletionException}) if the ontology could not be saved
+     * @throws OntApiException if the ontology or the format is not supported
+     * @since 2.1.0
+     */
+    public CompletableFuture<Void> writeAsync(OWLOntology ontology,
+                                              OWLDocumentFormat doc,
+                                              OWLOntologyDocumentTarget target,
+                                              Executor executor,
+                                              ChunkedGraphWriter.Listener listener) {
+        if (!(ontology instanceof Ontology))
+            throw new OntApiException.Unsupported("Unsupported OWLOntology instance: " + this);
+        OntFormat format = OntApiException.notNull(OntFormat.get(doc), "Can't determine format: " + doc);
+        Objects.requireNonNull(executor, "Null executor");
+        Objects.requireNonNull(target, "Null target");
+        Ontology ont = (Ontology) ontology;
+        return CompletableFuture.runAsync(() -> {
+            getLock().readLock().lock();
+            try {
+                if (format.isJena() && ChunkedGraphWriter.isSupported(format.getLang())) {
+                    writeChunked(ont, format, doc, target, executor, listener);
+                } else {
+                    write(ont, doc, target);
+                }
+            } catch (OWLOntologyStorageException e) {
+                throw new CompletionException(e);
+            } finally {
+                getLock().readLock().unlock();
+            }
+        }, executor);
+    }
+
+    private void writeChunked(Ontology ont,
+                              OntFormat format,
+                              OWLDocumentFormat doc,
+                              OWLOntologyDocumentTarget target,
+                              Executor executor,
+                              ChunkedGraphWriter.Listener listener) throws OWLOntologyStorageException {
+        Graph graph = ont.asGraphModel().getBaseGraph();
+        PrefixMapping pm = doc.isPrefixOWLDocumentFormat() ?
+                OntGraphUtils.prefixMapping(doc.asPrefixOWLDocumentFormat()) : graph.getPrefixMapping();
+        ChunkedGraphWriter writer = new ChunkedGraphWriter(format.getLang(), executor,
+                ChunkedGraphWriter.DEFAULT_CHUNK_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+        try {
+            if (target.getOutputStream().isPresent()) {
+                OutputStream os = target.getOutputStream().get();
+                writer.write(graph, pm, Channels.newChannel(os), listener);
+                os.flush();
+            } else if (target.getDocumentIRI().isPresent()) {
+                IRI iri = target.getDocumentIRI().get();
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Save {} to {}", ont.getOntologyID(), iri);
+                }
+                try (WritableByteChannel channel = openChannel(iri)) {
+                    writer.write(graph, pm, channel, listener);
+                }
+            } else if (target.getWriter().isPresent()) {
+                OutputStream os = new WriterOutputStream(target.getWriter().get(), StandardCharsets.UTF_8);
+                writer.write(graph, pm, Channels.newChannel(os), listener);
+                os.flush();
+            } else {
+                throw new OWLOntologyStorageException("Null output stream, format = " + doc);
+            }
+        } catch (IOException e) {
+            throw new OWLOntologyStorageIOException(e);
+        } catch (JenaException e) {
+            throw new OWLOntologyStorageException("Can't save " + ont.getOntologyID() + ". Format=" + format, e);
+        }
+    }
+
+    private static WritableByteChannel openChannel(IRI iri) throws IOException {
+        if (OntConfig.DefaultScheme.FILE.same(iri)) {
+            Path file = Paths.get(iri.toURI());
+            Files.createDirectories(file.getParent());
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        return Channels.newChannel(openStream(iri));
+    }
+
     private static OutputStream openStream(IRI iri) throws IOException {
         if (OntConfig.DefaultScheme.FILE.same(iri)) {
             Path file = Paths.get(iri.toURI());
@@ -1804,17 +2073,21 @@ public class OntologyManagerImpl implements OntologyManager,
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         this.iris = createIRICache();
+        // index graphs by ontology URIs to avoid quadratic search:
+        Map<String, UnionGraph> graphs = new HashMap<>();
+        this.content.values().map(OntInfo::get).map(BaseModel.class::cast)
+                .map(BaseModel::getBase).map(InternalModel::getGraph)
+                .forEach(g -> {
+                    String uri = Graphs.getURI(g);
+                    if (uri != null) graphs.putIfAbsent(uri, g);
+                });
         this.content.values().forEach(info -> {
             ModelConfig conf = info.getModelConfig();
             BaseModel m = getAdapter().asBaseModel(info.get());
             m.setConfig(conf);
             UnionGraph baseGraph = m.getBase().getGraph();
-            Stream<UnionGraph> imports = Graphs.getImports(baseGraph).stream()
-                    .map(s -> this.content.values().map(OntInfo::get).map(BaseModel.class::cast)
-                            .map(BaseModel::getBase).map(InternalModel::getGraph)
-                            .filter(g -> Objects.equals(s, Graphs.getURI(g))).findFirst().orElse(null))
-                    .filter(Objects::nonNull);
-            imports.forEach(baseGraph::addGraph);
+            Graphs.getImports(baseGraph).stream().map(graphs::get).filter(Objects::nonNull)
+                    .forEach(baseGraph::addGraph);
             InternalModel baseModel = conf.createInternalModel(baseGraph);
             m.setBase(baseModel);
         });
@@ -27,12 +27,10 @@ import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serializable;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -67,6 +65,24 @@ public class OntologyModelImpl extends OntBaseModelImpl implements Ontology, OWL
         return change.accept(changer);
     }
 
+    /**
+     * Applies the given list of axiom changes as a single batch.
+     * If all the changes are of the same kind (either {@link AddAxiom} or {@link RemoveAxiom}),
+     * the graph is modified in a single pass and the caches are invalidated only once,
+     * otherwise the changes are applied one by one,
+     * as if via the method {@link #applyDirectChange(OWLOntologyChange)}.
+     *
+     * @param changes {@code List} of {@link OWLAxiomChange}s, not {@code null}
+     * @return {@code List} of {@link ChangeApplied}s in the same order as the given changes
+     * @since 2.1.0
+     */
+    public List<ChangeApplied> applyDirectChanges(List<? extends OWLAxiomChange> changes) {
+        if (changer instanceof ChangeProcessor) {
+            return ((ChangeProcessor) changer).applyAll(changes);
+        }
+        return changes.stream().map(this::applyDirectChange).collect(Collectors.toList());
+    }
+
     @Override
     public OntologyManagerImpl getOWLOntologyManager() {
         return (OntologyManagerImpl) super.getOWLOntologyManager();
@@ -177,6 +193,45 @@ public class OntologyModelImpl extends OntBaseModelImpl implements Ontology, OWL
             return ChangeApplied.SUCCESSFULLY;
         }
 
+        /**
+         * Applies the list of axiom changes.
+         * A homogeneous list (i.e. only {@link AddAxiom}s or only {@link RemoveAxiom}s)
+         * is handled as a batch through {@link InternalModel#addAxioms(Collection)}
+         * or {@link InternalModel#removeAxioms(Collection)},
+         * with the same result for each change as the single-change methods would give.
+         *
+         * @param changes {@code List} of {@link OWLAxiomChange}s, not {@code null}
+         * @return {@code List} of {@link ChangeApplied}s
+         * @since 2.1.0
+         */
+        public List<ChangeApplied> applyAll(List<? extends OWLAxiomChange> changes) {
+            if (changes.isEmpty()) {
+                return Collections.emptyList();
+            }
+            boolean add = changes.get(0).isAddAxiom();
+            if (changes.stream().anyMatch(c -> c.isAddAxiom() != add)) {
+                return changes.stream().map(c -> c.accept(this)).collect(Collectors.toList());
+            }
+            beforeChange();
+            List<ChangeApplied> res = new ArrayList<>(changes.size());
+            Set<OWLAxiom> axioms = new LinkedHashSet<>();
+            for (OWLAxiomChange change : changes) {
+                OWLAxiom axiom = change.getAxiom();
+                // add: the axiom must be absent; remove: the axiom must be present
+                if (add != containsAxiom(axiom) && axioms.add(axiom)) {
+                    res.add(ChangeApplied.SUCCESSFULLY);
+                } else {
+                    res.add(ChangeApplied.NO_OPERATION);
+                }
+            }
+            if (add) {
+                getBase().addAxioms(axioms);
+            } else {
+                getBase().removeAxioms(axioms);
+            }
+            return res;
+        }
+
         /**
          * Performs preliminary actions before change the ontological data.
          * <p>
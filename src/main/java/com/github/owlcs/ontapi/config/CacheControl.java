@@ -56,6 +56,7 @@ interface CacheControl<R> extends CacheSettings {
      *     <li>{@link CacheSettings#CACHE_COMPONENT}</li>
      *     <li>{@link CacheSettings#CACHE_CONTENT}</li>
      *     <li>{@link CacheSettings#CACHE_ALL}</li>
+     *     <li>{@link CacheSettings#CACHE_REFERENCES}</li>
      * </ul>
      *
      * @param level int, a non-negative number, preferably power of {@code 2}
@@ -66,6 +67,31 @@ interface CacheControl<R> extends CacheSettings {
      */
     R setModelCacheLevel(int level);
 
+    /**
+     * Sets the directory where persistent content snapshots are looked up.
+     * An empty string disables snapshots.
+     *
+     * @param dir String, a path to the directory or empty string to turn off the snapshots, not {@code null}
+     * @return {@link R}
+     * @see CacheSettings#getContentSnapshotDirectory()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_SNAPSHOT_DIRECTORY
+     * @since 2.1.0
+     */
+    R setContentSnapshotDirectory(String dir);
+
+    /**
+     * Sets the maximum number of threads to load the content cache.
+     * The number {@code 1} means sequential loading.
+     *
+     * @param parallelism int, positive number
+     * @return {@link R}
+     * @throws IllegalArgumentException in case the input is not a positive number
+     * @see CacheSettings#getContentLoadingParallelism()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_CONTENT_PARALLELISM
+     * @since 2.1.0
+     */
+    R setContentLoadingParallelism(int parallelism);
+
     /**
      * Turns on/off the content cache use.
      * Other cache settings are untouched,
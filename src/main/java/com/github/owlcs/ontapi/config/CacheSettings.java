@@ -24,7 +24,8 @@ import com.github.owlcs.ontapi.Ontology;
  * <li>objects cache, that is encapsulated in {@link com.github.owlcs.ontapi.internal.CacheObjectFactory},
  * and is used to reduce memory memory footprint when constructing OWL content</li>
  * <li>model cache, that has several levels:
- * {@link #CACHE_ALL}, {@link #CACHE_CONTENT}, {@link #CACHE_COMPONENT}, {@link #CACHE_ITERATOR}</li>
+ * {@link #CACHE_ALL}, {@link #CACHE_CONTENT}, {@link #CACHE_COMPONENT}, {@link #CACHE_ITERATOR},
+ * {@link #CACHE_REFERENCES}</li>
  * </ul>
  * Note: since ONT-API is an evolving system, all these settings may be changed in the future releases.
  * <p>
@@ -61,6 +62,16 @@ public interface CacheSettings {
      * Note that all these constants do not relate to nodes and objects caches.
      */
     int CACHE_ALL = CACHE_ITERATOR | CACHE_CONTENT | CACHE_COMPONENT;
+    /**
+     * A constant value signifying that the references index is enabled.
+     * The index maps each primitive (IRI, entity, literal, anonymous individual)
+     * to the axioms which reference it, and is built from the content cache.
+     * It is not included in {@link #CACHE_ALL} and should be turned on explicitly.
+     *
+     * @see com.github.owlcs.ontapi.internal.ReferencesIndex
+     * @since 2.1.0
+     */
+    int CACHE_REFERENCES = 32;
 
     /**
      * Returns the maximum size of nodes cache,
@@ -112,6 +123,8 @@ public interface CacheSettings {
      * <li>{@link #CACHE_COMPONENT} - use cache-optimization to optimize iteration over components found in a graph</li>
      * <li>{@link #CACHE_CONTENT} - use cache-optimization to optimize iteration over content and its modification</li>
      * <li>{@link #CACHE_ALL} - all possible cache-optimizations</li>
+     * <li>{@link #CACHE_REFERENCES} - use the inverted index to search for axioms by primitives,
+     * requires the {@link #CACHE_CONTENT} level, not a part of {@link #CACHE_ALL}</li>
      * </ul>
      * Note: the list above may be changed in the ONT-API evolution.
      *
@@ -121,6 +134,46 @@ public interface CacheSettings {
      */
     int getModelCacheLevel();
 
+    /**
+     * Returns the directory where persistent content snapshots are looked up.
+     * A content snapshot is a file with a compact index of the root statements of every axiom-type bucket,
+     * that is keyed by the graph content fingerprint
+     * (see {@link com.github.owlcs.ontapi.internal.ContentSnapshot}).
+     * If there is a snapshot for the graph (with the same content and axioms settings),
+     * the root statements of the model content cache are taken from that file instead of running
+     * the statements search of all the axiom translators over the whole graph.
+     * Note that the axioms themselves are not persisted: the found statements are still translated
+     * into OWL-API objects on the first access, so only the search part of the cold start is saved.
+     * If there is no matching snapshot, the ordinary translation is used.
+     * An empty string (the system default) means that the snapshots are disabled.
+     * Note: the snapshot is used only if the content cache is enabled (see {@link #useContentCache()}).
+     *
+     * @return String, a path to the directory or empty string, not {@code null}
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_SNAPSHOT_DIRECTORY
+     * @see CacheControl#setContentSnapshotDirectory(String)
+     * @since 2.1.0
+     */
+    String getContentSnapshotDirectory();
+
+    /**
+     * Returns the maximum number of threads that are used to load the model content cache.
+     * The content cache consists of independent buckets (one per each axiom type and one for the ontology header),
+     * each of them is populated by its own translator, which reads the graph independently.
+     * If the number is greater than {@code 1},
+     * then all not yet loaded buckets are populated concurrently in a shared fork-join pool
+     * of the specified size, while the calling thread (which holds the model lock) waits for the result.
+     * This happens on {@link com.github.owlcs.ontapi.internal.InternalModel#forceLoad()}
+     * and when listing all axioms for the first time.
+     * The system default is {@code 1}, which means sequential (on demand) loading.
+     * Note: the setting makes sense only if the content cache is enabled (see {@link #useContentCache()}).
+     *
+     * @return int, positive number
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_CONTENT_PARALLELISM
+     * @see CacheControl#setContentLoadingParallelism(int)
+     * @since 2.1.0
+     */
+    int getContentLoadingParallelism();
+
     /**
      * Answers whether an internal model content cache is enabled, that is {@code true} by default.
      * <p>
@@ -189,6 +242,23 @@ public interface CacheSettings {
         return (getModelCacheLevel() & CACHE_ITERATOR) == CACHE_ITERATOR;
     }
 
+    /**
+     * Answers {@code true} if the references index is enabled.
+     * The index is used to list axioms by their primitive components (e.g. entities),
+     * see {@link org.semanticweb.owlapi.model.OWLOntology#referencingAxioms(org.semanticweb.owlapi.model.OWLPrimitive)}.
+     * It is built on demand from the content cache (so it loads all axioms) and then is kept up to date
+     * when axioms are added or removed through the OWL-API interface;
+     * any direct graph modification releases it.
+     * The index costs additional memory but makes each search a simple lookup.
+     *
+     * @return boolean
+     * @see CacheControl#setModelCacheLevel(int, boolean)
+     * @since 2.1.0
+     */
+    default boolean useReferencesCache() {
+        return useContentCache() && (getModelCacheLevel() & CACHE_REFERENCES) == CACHE_REFERENCES;
+    }
+
     /**
      * Answers {@code true} if the nodes cache is enabled.
      * This cache is located in the search model, that is used as optimization while read operations.
@@ -210,4 +280,26 @@ public interface CacheSettings {
     default boolean useLoadObjectsCache() {
         return getLoadObjectsCacheSize() > 0;
     }
+
+    /**
+     * Answers {@code true} if the content cache can be loaded from a persistent snapshot.
+     *
+     * @return boolean
+     * @see #getContentSnapshotDirectory()
+     * @since 2.1.0
+     */
+    default boolean useContentSnapshot() {
+        return useContentCache() && !getContentSnapshotDirectory().isEmpty();
+    }
+
+    /**
+     * Answers {@code true} if the content cache buckets should be loaded concurrently.
+     *
+     * @return boolean
+     * @see #getContentLoadingParallelism()
+     * @since 2.1.0
+     */
+    default boolean useParallelContentLoading() {
+        return useContentCache() && getContentLoadingParallelism() > 1;
+    }
 }
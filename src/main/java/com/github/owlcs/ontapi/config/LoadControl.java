@@ -72,6 +72,28 @@ interface LoadControl<R> extends LoadSettings {
      */
     R setProcessImports(boolean b);
 
+    /**
+     * Sets the number of threads to read the documents of the {@code owl:imports} closure concurrently.
+     *
+     * @param parallelism int, positive number
+     * @return {@link R} (this or copied instance)
+     * @throws IllegalArgumentException if the parameter is not positive
+     * @see LoadSettings#getImportsLoadingParallelism()
+     * @since 2.1.0
+     */
+    R setImportsLoadingParallelism(int parallelism);
+
+    /**
+     * Sets the number of threads to parse a single local N-Triples or N-Quads document.
+     *
+     * @param parallelism int, positive number
+     * @return {@link R} (this or copied instance)
+     * @throws IllegalArgumentException if the parameter is not positive
+     * @see LoadSettings#getParsingParallelism()
+     * @since 2.1.0
+     */
+    R setParsingParallelism(int parallelism);
+
     /**
      * Changes the preferable way to load a {@code Graph}.
      * If {@code true} specified, the OWL-API native parsers will be used.
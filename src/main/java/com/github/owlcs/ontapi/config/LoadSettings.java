@@ -115,6 +115,38 @@ public interface LoadSettings {
      */
     boolean isProcessImports();
 
+    /**
+     * Returns the number of threads that are used to read the documents of the {@code owl:imports} closure.
+     * If it is greater than {@code 1}, the whole closure is fetched eagerly before assembling the models:
+     * each document is submitted for parsing as soon as it is found in the {@code owl:imports} of a loaded one,
+     * so the documents of different levels and branches may be parsed concurrently.
+     * The resulting {@link com.github.owlcs.ontapi.jena.UnionGraph} hierarchy is the same as in the sequential mode.
+     * Note: only the parsing by Apache Jena is performed in parallel,
+     * a document in an OWL-API native format is still read sequentially.
+     *
+     * @return int, positive number, ({@code 1} by default, which means no parallelism)
+     * @see LoadControl#setImportsLoadingParallelism(int)
+     * @see OntSettings#ONT_API_LOAD_CONF_IMPORTS_PARALLELISM
+     * @since 2.1.0
+     */
+    int getImportsLoadingParallelism();
+
+    /**
+     * Returns the number of threads that are used to parse a single document
+     * in a line-based format (N-Triples or N-Quads).
+     * If it is greater than {@code 1}, a local uncompressed file is cut into chunks at line boundaries,
+     * the chunks are memory-mapped and parsed concurrently,
+     * and the triples are added into the graph in batches.
+     * Other formats and other sources (e.g. a remote document or an input stream) are read as usual.
+     *
+     * @return int, positive number, ({@code 1} by default, which means no parallelism)
+     * @see LoadControl#setParsingParallelism(int)
+     * @see OntSettings#ONT_API_LOAD_CONF_PARSING_PARALLELISM
+     * @see com.github.owlcs.ontapi.ChunkedGraphReader
+     * @since 2.1.0
+     */
+    int getParsingParallelism();
+
     /**
      * Answers {@code true} if the native OWL-API parsers must be preferred while loading ontology,
      * which is strongly not recommended (and the method returns {@code false} by default).
@@ -43,10 +43,15 @@ import java.util.stream.Stream;
  * <li>{@link #getLoadObjectsCacheSize()} and {@link #setLoadObjectsCacheSize(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #setModelCacheLevel(int, boolean)} (<b>since 1.4.2</b>), {@link #setModelCacheLevel(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #useContentCache()}, {@link #useComponentCache()}, {@link #useIteratorCache()} (<b>since 1.4.2</b>)</li>
+ * <li>{@link #getContentSnapshotDirectory()} and {@link #setContentSnapshotDirectory(String)} (<b>since 2.1.0</b>)</li>
+ * <li>{@link #getContentLoadingParallelism()} and {@link #setContentLoadingParallelism(int)} (<b>since 2.1.0</b>)</li>
+ * <li>{@link #getManagerContentCacheBudget()} and {@link #setManagerContentCacheBudget(long)} (<b>since 2.1.0</b>)</li>
  * <li>{@link #getPersonality()} and {@link #setPersonality(OntPersonality)}</li>
  * <li>{@link #getGraphTransformers()} amd {@link #setGraphTransformers(GraphTransformers)}</li>
  * <li>{@link #isPerformTransformation()} and {@link #setPerformTransformation(boolean)}</li>
  * <li>{@link #isProcessImports()} and {@link #setProcessImports(boolean)} (<b>since 1.4.1</b>)</li>
+ * <li>{@link #getImportsLoadingParallelism()} and {@link #setImportsLoadingParallelism(int)} (<b>since 2.1.0</b>)</li>
+ * <li>{@link #getParsingParallelism()} and {@link #setParsingParallelism(int)} (<b>since 2.1.0</b>)</li>
  * <li>{@link #getSupportedSchemes()} and {@link #setSupportedSchemes(List)}</li>
  * <li>{@link #disableWebAccess()} (<b>since 1.1.0</b>)</li>
  * <li>{@link #isAllowReadDeclarations()} and {@link #setAllowReadDeclarations(boolean)}</li>
@@ -298,6 +303,38 @@ public class OntConfig extends OntologyConfigurator implements
         return put(OntSettings.ONT_API_MANAGER_CACHE_IRIS, size);
     }
 
+    /**
+     * An ONT-API manager's config getter.
+     * Returns the memory budget (in bytes) for the content and component caches of all ontologies of a manager.
+     * When the budget is exceeded, the least recently used cache buckets of any ontology are released,
+     * they will be reloaded from the graph on demand.
+     * The weight of a bucket is estimated by the number of its objects.
+     * The default value is {@code 0}, a non-positive number means there is no limit,
+     * and the caches are released by GC only (as soft references).
+     *
+     * @return long, possible non-positive number to disable the limit
+     * @see OntSettings#ONT_API_MANAGER_CACHE_CONTENT_BUDGET
+     * @see com.github.owlcs.ontapi.internal.CacheBudget
+     * @since 2.1.0
+     */
+    public long getManagerContentCacheBudget() {
+        return get(OntSettings.ONT_API_MANAGER_CACHE_CONTENT_BUDGET);
+    }
+
+    /**
+     * An ONT-API manager's config setter.
+     * Sets a new memory budget for the content and component caches.
+     * Note: it takes effect when the config is set to the manager,
+     * use {@link com.github.owlcs.ontapi.OntologyManagerImpl#getCacheBudget()} to change the limit of a live manager.
+     *
+     * @param bytes long, possible non-positive to disable the limit
+     * @return this instance
+     * @since 2.1.0
+     */
+    public OntConfig setManagerContentCacheBudget(long bytes) {
+        return put(OntSettings.ONT_API_MANAGER_CACHE_CONTENT_BUDGET, bytes);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
@@ -371,6 +408,52 @@ public class OntConfig extends OntologyConfigurator implements
         return get(OntSettings.ONT_API_LOAD_CONF_CACHE_MODEL);
     }
 
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return String
+     */
+    @Override
+    public String getContentSnapshotDirectory() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT_DIRECTORY);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param dir String
+     * @return this instance
+     */
+    @Override
+    public OntConfig setContentSnapshotDirectory(String dir) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT_DIRECTORY, dir);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return int
+     */
+    @Override
+    public int getContentLoadingParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int
+     * @return this instance
+     */
+    @Override
+    public OntConfig setContentLoadingParallelism(int parallelism) {
+        return putPositive(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_PARALLELISM, parallelism);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
@@ -446,6 +529,52 @@ public class OntConfig extends OntologyConfigurator implements
         return put(OntSettings.ONT_API_LOAD_CONF_PROCESS_IMPORTS, b);
     }
 
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return int
+     */
+    @Override
+    public int getImportsLoadingParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int
+     * @return this instance
+     */
+    @Override
+    public OntConfig setImportsLoadingParallelism(int parallelism) {
+        return putPositive(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM, parallelism);
+    }
+
+    /**
+     * An ONT-API manager's load config getter.
+     * {@inheritDoc}
+     *
+     * @return int
+     */
+    @Override
+    public int getParsingParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_PARSING_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API manager's load config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int
+     * @return this instance
+     */
+    @Override
+    public OntConfig setParsingParallelism(int parallelism) {
+        return putPositive(OntSettings.ONT_API_LOAD_CONF_PARSING_PARALLELISM, parallelism);
+    }
+
     /**
      * An ONT-API manager's load config getter.
      * {@inheritDoc}
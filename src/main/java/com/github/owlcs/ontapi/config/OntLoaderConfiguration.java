@@ -200,6 +200,48 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration imple
         return set(OntSettings.ONT_API_LOAD_CONF_PROCESS_IMPORTS, b);
     }
 
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getImportsLoadingParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int, positive integer
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setImportsLoadingParallelism(int parallelism) {
+        return setPositive(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM, parallelism);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getParsingParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_PARSING_PARALLELISM);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int, positive integer
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setParsingParallelism(int parallelism) {
+        return setPositive(OntSettings.ONT_API_LOAD_CONF_PARSING_PARALLELISM, parallelism);
+    }
+
     /**
      * An ONT-API config setter.
      * {@inheritDoc}
@@ -263,6 +305,48 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration imple
         return get(OntSettings.ONT_API_LOAD_CONF_CACHE_MODEL);
     }
 
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param dir String, not {@code null}
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setContentSnapshotDirectory(String dir) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT_DIRECTORY, dir);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public String getContentSnapshotDirectory() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT_DIRECTORY);
+    }
+
+    /**
+     * An ONT-API config setter.
+     * {@inheritDoc}
+     *
+     * @param parallelism int, positive integer
+     * @return {@link OntLoaderConfiguration}, a copied (new) or this instance in case no changes is made
+     */
+    @Override
+    public OntLoaderConfiguration setContentLoadingParallelism(int parallelism) {
+        return setPositive(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_PARALLELISM, parallelism);
+    }
+
+    /**
+     * An ONT-API config getter.
+     * {@inheritDoc}
+     */
+    @Override
+    public int getContentLoadingParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT_PARALLELISM);
+    }
+
     /**
      * An ONT-API config getter.
      * {@inheritDoc}
@@ -73,6 +73,12 @@ public enum OntSettings {
     ONT_API_LOAD_CONF_CACHE_OBJECTS(2048),
     ONT_API_LOAD_CONF_CACHE_NODES(50_000),
     ONT_API_MANAGER_CACHE_IRIS(2048),
+    // since 2.1.0
+    ONT_API_LOAD_CONF_CACHE_SNAPSHOT_DIRECTORY(""),
+    ONT_API_LOAD_CONF_CACHE_CONTENT_PARALLELISM(1),
+    ONT_API_MANAGER_CACHE_CONTENT_BUDGET(0L),
+    ONT_API_LOAD_CONF_IMPORTS_PARALLELISM(1),
+    ONT_API_LOAD_CONF_PARSING_PARALLELISM(1),
 
     // since 1.4.1
     ONT_API_LOAD_CONF_PROCESS_IMPORTS(true),
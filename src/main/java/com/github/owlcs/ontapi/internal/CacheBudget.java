@@ -0,0 +1,202 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.internal;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A memory budget for the model caches ({@link CacheObjectMapImpl content and component buckets}),
+ * that is shared by all the models of a manager.
+ * Each loaded bucket is weighted as the number of its objects multiplied by the estimated size of one object.
+ * When the total weight exceeds the limit after loading a bucket,
+ * the least recently used buckets of any model are released until the total fits the limit again;
+ * a released bucket is reloaded from the graph on the next access.
+ * Buckets with manually added objects ({@link ObjectMap#hasNew()}) are never released,
+ * since they may keep the objects in the form they were added.
+ * A non-positive limit means there is no limit, in this case only statistics are collected.
+ * Note: the weight is a rough estimate, not a measured size,
+ * the soft references of the buckets still work as before.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see com.github.owlcs.ontapi.config.OntConfig#getManagerContentCacheBudget()
+ * @since 2.1.0
+ */
+public class CacheBudget {
+    /**
+     * The estimated size (in bytes) of an axiom or header annotation with its triples in the content cache.
+     */
+    public static final long CONTENT_OBJECT_WEIGHT = 512;
+    /**
+     * The estimated size (in bytes) of a component (entity, expression, literal, etc) in the component cache.
+     */
+    public static final long COMPONENT_OBJECT_WEIGHT = 128;
+
+    private volatile long limit;
+    // all loaded buckets; weak keys to not prevent GC of models which are forgotten without clearing
+    private final Map<CacheObjectMapImpl<?>, Boolean> buckets = new WeakHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a budget with the given limit.
+     *
+     * @param limit long, the maximum total weight in bytes, non-positive to disable eviction
+     */
+    public CacheBudget(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return long, the maximum total weight in bytes, non-positive if there is no limit
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets a new limit.
+     * The already loaded buckets are not released immediately, but on the next load.
+     *
+     * @param limit long, the maximum total weight in bytes, non-positive to disable eviction
+     */
+    public void setLimit(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the current total weight of all loaded buckets.
+     *
+     * @return long, an estimated number of bytes
+     */
+    public long getWeight() {
+        synchronized (buckets) {
+            return live().stream().mapToLong(x -> x.weight).sum();
+        }
+    }
+
+    /**
+     * Returns the number of loaded buckets, that are controlled by this budget.
+     *
+     * @return long
+     */
+    public long size() {
+        synchronized (buckets) {
+            return live().size();
+        }
+    }
+
+    /**
+     * Returns the number of accesses to already loaded buckets.
+     *
+     * @return long
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of bucket loads.
+     *
+     * @return long
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Returns the number of buckets, that have been released to fit the limit.
+     *
+     * @return long
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Resets all the statistics counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        loads.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheBudget{limit=%d, weight=%d, buckets=%d, hits=%d, loads=%d, evictions=%d}",
+                getLimit(), getWeight(), size(), getHitCount(), getLoadCount(), getEvictionCount());
+    }
+
+    /**
+     * Records the access to the loaded bucket.
+     *
+     * @param bucket {@link CacheObjectMapImpl}
+     */
+    void hit(CacheObjectMapImpl<?> bucket) {
+        bucket.accessed = System.nanoTime();
+        hits.increment();
+    }
+
+    /**
+     * Records the bucket loading and releases the least recently used buckets if the limit is exceeded.
+     *
+     * @param bucket {@link CacheObjectMapImpl}, just loaded
+     */
+    void loaded(CacheObjectMapImpl<?> bucket) {
+        bucket.accessed = System.nanoTime();
+        loads.increment();
+        synchronized (buckets) {
+            buckets.put(bucket, Boolean.TRUE);
+            long max = getLimit();
+            if (max <= 0) return;
+            List<CacheObjectMapImpl<?>> loaded = live();
+            long total = loaded.stream().mapToLong(x -> x.weight).sum();
+            if (total <= max) return;
+            loaded.sort(Comparator.comparingLong(x -> x.accessed));
+            for (CacheObjectMapImpl<?> x : loaded) {
+                if (total <= max) break;
+                if (x == bucket || x.hasNew()) continue;
+                total -= x.weight;
+                x.evict();
+                buckets.remove(x);
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Lists all loaded buckets forgetting those which have been released by GC or cleared.
+     * Must be called under the lock.
+     *
+     * @return {@code List} of {@link CacheObjectMapImpl}
+     */
+    private List<CacheObjectMapImpl<?>> live() {
+        List<CacheObjectMapImpl<?>> res = new ArrayList<>(buckets.size());
+        Iterator<CacheObjectMapImpl<?>> it = buckets.keySet().iterator();
+        while (it.hasNext()) {
+            CacheObjectMapImpl<?> x = it.next();
+            if (x.isLoaded()) {
+                res.add(x);
+            } else {
+                it.remove();
+            }
+        }
+        return res;
+    }
+}
@@ -62,6 +62,18 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
     // to control key-iteration
     private final boolean fastIterator;
 
+    // the manager-wide memory budget, can be null
+    private final CacheBudget budget;
+    // the estimated size of one object, to calculate the weight of this bucket
+    private final long objectWeight;
+    // the number of loads, to distinguish a fresh load from a hit
+    private volatile int version;
+    // the last load, that has been reported to the budget
+    private volatile int tracked;
+    // the state for the budget: the estimated size of the loaded map, and the time of the last access
+    volatile long weight;
+    volatile long accessed;
+
     @SuppressWarnings("unused")
     public CacheObjectMapImpl(Supplier<Iterator<ONTObject<X>>> loader, boolean parallel) {
         this(loader, true, parallel, true);
@@ -80,10 +92,33 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
                               boolean withMerge,
                               boolean parallel,
                               boolean fastIterator) {
+        this(loader, withMerge, parallel, fastIterator, null, 0);
+    }
+
+    /**
+     * Constructs a bucket instance, that is controlled by the given memory budget.
+     *
+     * @param loader       a {@code Supplier} to load object-triples pairs, not {@code null}
+     * @param withMerge    if {@code true} merging is performed while loading cache,
+     *                     otherwise the source is assumed to be distinct
+     * @param parallel     if {@code true} use caffeine cache, otherwise LHM based cache
+     * @param fastIterator if {@code true} use Array-based cache to speedup iteration over {@link X}-keys
+     * @param budget       {@link CacheBudget} or {@code null}
+     * @param objectWeight long, the estimated size of one object in bytes
+     * @since 2.1.0
+     */
+    public CacheObjectMapImpl(Supplier<Iterator<ONTObject<X>>> loader,
+                              boolean withMerge,
+                              boolean parallel,
+                              boolean fastIterator,
+                              CacheBudget budget,
+                              long objectWeight) {
         this.loader = Objects.requireNonNull(loader);
         this.withMerge = withMerge;
         this.parallel = parallel;
         this.fastIterator = fastIterator;
+        this.budget = budget;
+        this.objectWeight = objectWeight;
         this.map = InternalCache.createSoftSingleton(CacheObjectMapImpl::loadMap);
     }
 
@@ -100,13 +135,19 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
             while (it.hasNext()) {
                 WithMerge.add(res, it.next());
             }
-            return CachedMap.create(res, WithMerge.getMerger(), parallel);
+            return loaded(CachedMap.create(res, WithMerge.getMerger(), parallel));
         }
         while (it.hasNext()) {
             ONTObject<X> v = it.next();
             res.put(v.getOWLObject(), v);
         }
-        return CachedMap.create(res, null, parallel);
+        return loaded(CachedMap.create(res, null, parallel));
+    }
+
+    private CachedMap<X, ONTObject<X>> loaded(CachedMap<X, ONTObject<X>> res) {
+        this.weight = res.size() * objectWeight;
+        this.version++;
+        return res;
     }
 
     /**
@@ -129,7 +170,40 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
     }
 
     protected CachedMap<X, ONTObject<X>> getMap() {
-        return map.get(this);
+        CachedMap<X, ONTObject<X>> res = map.get(this);
+        if (budget != null) {
+            track();
+        }
+        return res;
+    }
+
+    /**
+     * Reports the access to the {@link #budget}.
+     * The first access after loading is reported as a load, the budget may release other buckets at this moment.
+     */
+    private void track() {
+        int v = version;
+        if (tracked == v) {
+            budget.hit(this);
+            return;
+        }
+        synchronized (this) {
+            if (tracked == v) {
+                budget.hit(this);
+                return;
+            }
+            tracked = v;
+        }
+        budget.loaded(this);
+    }
+
+    /**
+     * Releases the loaded map to free memory.
+     * Unlike {@link #clear()}, it is called by the {@link CacheBudget budget}.
+     */
+    void evict() {
+        map.clear();
+        weight = 0;
     }
 
     @Override
@@ -196,6 +270,20 @@ public class CacheObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         hasNew = true;
     }
 
+    @Override
+    public void addAll(Collection<? extends ONTObject<X>> values) {
+        if (values.isEmpty()) return;
+        CachedMap<X, ONTObject<X>> map = getMap();
+        values.forEach(v -> map.put(v.getOWLObject(), v));
+        hasNew = true;
+    }
+
+    @Override
+    public void put(ONTObject<X> value) {
+        if (!isLoaded()) return;
+        getMap().put(value.getOWLObject(), value);
+    }
+
     @Override
     public ONTObject<X> get(X key) {
         return getMap().get(key);
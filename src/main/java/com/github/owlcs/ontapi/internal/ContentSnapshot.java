@@ -0,0 +1,625 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import com.github.owlcs.ontapi.config.AxiomsSettings;
+import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
+import com.github.owlcs.ontapi.jena.impl.OntStatementImpl;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.jena.model.OntStatement;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A persistent (file-based) index of the model content,
+ * that allows to populate the {@link OWLTopObjectType axioms} cache buckets without running
+ * the {@link AxiomTranslator#listStatements(OntModel, AxiomsSettings) statements search} over the whole graph.
+ * <p>
+ * The snapshot does not contain OWL-API objects, instead it records,
+ * for each axiom type, the root triples from which the axioms are translated.
+ * So the snapshot saves only the search of the root statements,
+ * the axioms are still translated from these statements on the first access to a bucket.
+ * The file is keyed by the content fingerprint of the base graph (see {@link #fingerprint(Graph)}),
+ * which does not depend on the triples order and on the blank-node labels,
+ * so a snapshot written for a graph can be reused for the same document loaded again.
+ * Triples with blank nodes are stored as patterns (blank node is replaced by {@link Node#ANY}),
+ * on hydration these patterns are resolved against the graph and the found statements are checked
+ * with the {@link AxiomTranslator#testStatement(OntStatement, AxiomsSettings)} method.
+ * The file is memory-mapped, each bucket is decoded lazily on the first access.
+ * <p>
+ * File layout (all numbers are big-endian, {@code varint} is an unsigned LEB128 integer):
+ * <pre>{@code
+ * int     magic ("ONTC")
+ * int     version
+ * long    fingerprint
+ * long    number of triples
+ * int     axioms settings signature
+ * int     number of sections
+ * section table: [varint name length, name bytes (UTF-8), int offset relative to the body]
+ * body:
+ *   dictionary: varint size, [byte kind, strings...]
+ *   section:    varint size, [byte flags, varint subject, varint predicate, varint object]
+ * }</pre>
+ * Note: the model personality is not a part of the key,
+ * the snapshot must be used with the same personality as it was written.
+ * The mapped file must be less than 2GB.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see com.github.owlcs.ontapi.config.CacheSettings#getContentSnapshotDirectory()
+ * @since 2.1.0
+ */
+public class ContentSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentSnapshot.class);
+
+    /**
+     * The snapshot file extension.
+     */
+    public static final String FILE_EXTENSION = ".ontc";
+
+    private static final int MAGIC = 0x4f4e5443; // "ONTC"
+    private static final int VERSION = 1;
+    // the id for blank nodes, that is used as a wildcard
+    private static final int ANY = 0;
+    private static final byte URI_NODE = 1;
+    private static final byte LITERAL_NODE = 2;
+    private static final byte ROOT_FLAG = 1;
+    // FNV-1a constants
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long BLANK_HASH = 0x62d3b5f1a8c4e907L;
+    // the calculated fingerprints, a graph is held weakly, a value is reset by the graph listener on any change
+    private static final Map<Graph, Fingerprint> FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ByteBuffer data;
+    private final long fingerprint;
+    private final long size;
+    private final int settings;
+    private final Map<OWLTopObjectType, Integer> sections;
+    private final int body;
+    private volatile Node[] dictionary;
+
+    protected ContentSnapshot(ByteBuffer data) throws IOException {
+        this.data = Objects.requireNonNull(data);
+        try {
+            ByteBuffer buf = data.duplicate();
+            if (buf.getInt() != MAGIC) {
+                throw new IOException("Not a content snapshot");
+            }
+            int version = buf.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported content snapshot version: " + version);
+            }
+            this.fingerprint = buf.getLong();
+            this.size = buf.getLong();
+            this.settings = buf.getInt();
+            int count = buf.getInt();
+            Map<OWLTopObjectType, Integer> sections = new EnumMap<>(OWLTopObjectType.class);
+            for (int i = 0; i < count; i++) {
+                OWLTopObjectType type = OWLTopObjectType.valueOf(readString(buf));
+                sections.put(type, buf.getInt());
+            }
+            this.sections = Collections.unmodifiableMap(sections);
+            this.body = buf.position();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Broken content snapshot", e);
+        }
+    }
+
+    /**
+     * Reads the snapshot from the given file.
+     * The file is mapped into memory, the content is decoded on demand.
+     *
+     * @param file {@link Path}, not {@code null}
+     * @return {@link ContentSnapshot}
+     * @throws IOException if the file cannot be read or has wrong format
+     */
+    public static ContentSnapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new ContentSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Finds a snapshot for the given graph and settings in the specified directory.
+     * Any I/O problem is logged and treated as absence of the snapshot.
+     *
+     * @param dir    {@link Path} - the directory to search in, not {@code null}
+     * @param graph  {@link Graph} - the base graph, not {@code null}
+     * @param config {@link AxiomsSettings} to control reading axioms, not {@code null}
+     * @return {@code Optional} of {@link ContentSnapshot}
+     */
+    public static Optional<ContentSnapshot> find(Path dir, Graph graph, AxiomsSettings config) {
+        if (!hasSnapshots(dir)) {
+            return Optional.empty();
+        }
+        long[] key = fingerprint(graph);
+        Path file = dir.resolve(toFileName(key[0]));
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        ContentSnapshot res;
+        try {
+            res = read(file);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read content snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+        if (res.fingerprint != key[0] || res.size != key[1] || res.settings != signature(config)) {
+            LOGGER.debug("Content snapshot {} does not match the graph or settings", file);
+            return Optional.empty();
+        }
+        return Optional.of(res);
+    }
+
+    /**
+     * Writes a snapshot for the given model into the specified directory.
+     * The file name is derived from the base graph fingerprint, an existing file is replaced.
+     *
+     * @param model  {@link OntModel}, not {@code null}
+     * @param config {@link AxiomsSettings} to control reading axioms, not {@code null}
+     * @param dir    {@link Path} - the directory, not {@code null}
+     * @return {@link Path} of the written file
+     * @throws IOException if the file cannot be written
+     */
+    public static Path write(OntModel model, AxiomsSettings config, Path dir) throws IOException {
+        long[] key = fingerprint(model.getBaseGraph());
+        Map<Node, Integer> dictionary = new LinkedHashMap<>();
+        Map<OWLTopObjectType, byte[]> sections = new EnumMap<>(OWLTopObjectType.class);
+        for (OWLTopObjectType type : (Iterable<OWLTopObjectType>) OWLTopObjectType.axioms()::iterator) {
+            Set<Entry> entries = new LinkedHashSet<>();
+            ExtendedIterator<OntStatement> it = type.getTranslator().listStatements(model, config);
+            try {
+                while (it.hasNext()) {
+                    OntStatement s = it.next();
+                    entries.add(new Entry(toId(dictionary, s.getSubject().asNode()),
+                            toId(dictionary, s.getPredicate().asNode()),
+                            toId(dictionary, s.getObject().asNode()), isRoot(s)));
+                }
+            } finally {
+                it.close();
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            writeVarInt(bytes, entries.size());
+            for (Entry e : entries) {
+                bytes.write(e.root ? ROOT_FLAG : 0);
+                writeVarInt(bytes, e.subject);
+                writeVarInt(bytes, e.predicate);
+                writeVarInt(bytes, e.object);
+            }
+            sections.put(type, bytes.toByteArray());
+        }
+        ByteArrayOutputStream nodes = new ByteArrayOutputStream();
+        writeVarInt(nodes, dictionary.size());
+        for (Node n : dictionary.keySet()) {
+            writeNode(nodes, n);
+        }
+
+        Path file = dir.resolve(toFileName(key[0]));
+        Path tmp = Files.createTempFile(dir, "snapshot", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(key[0]);
+            out.writeLong(key[1]);
+            out.writeInt(signature(config));
+            out.writeInt(sections.size());
+            int offset = nodes.size();
+            for (Map.Entry<OWLTopObjectType, byte[]> e : sections.entrySet()) {
+                writeString(out, e.getKey().name());
+                out.writeInt(offset);
+                offset += e.getValue().length;
+            }
+            nodes.writeTo(out);
+            for (byte[] section : sections.values()) {
+                out.write(section);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        return Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Answers {@code true} if the directory contains at least one snapshot file.
+     * This is a cheap check that allows to skip calculating the graph fingerprint.
+     *
+     * @param dir {@link Path}, not {@code null}
+     * @return boolean
+     */
+    private static boolean hasSnapshots(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return false;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + FILE_EXTENSION)) {
+            return files.iterator().hasNext();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to list content snapshots in {}: {}", dir, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Answers the content fingerprint of the given graph.
+     * The fingerprint is a sum of 64-bit hashes of all triples,
+     * so it does not depend on the order of triples; blank nodes have the same constant hash.
+     * The value is calculated once and then cached until the graph is changed,
+     * the changes are tracked by a {@link GraphListener graph listener}.
+     *
+     * @param graph {@link Graph}, not {@code null}
+     * @return {@code long[]} - a pair of the hash and the number of triples
+     */
+    public static long[] fingerprint(Graph graph) {
+        Fingerprint res = FINGERPRINTS.computeIfAbsent(graph, g -> {
+            Fingerprint f = new Fingerprint();
+            g.getEventManager().register(f);
+            return f;
+        });
+        long[] key = res.value;
+        if (key == null) {
+            long version = res.version;
+            key = calcFingerprint(graph);
+            synchronized (res) {
+                if (version == res.version) {
+                    res.value = key;
+                }
+            }
+        }
+        return key.clone();
+    }
+
+    /**
+     * Calculates the content fingerprint of the given graph performing a full scan.
+     *
+     * @param graph {@link Graph}, not {@code null}
+     * @return {@code long[]} - a pair of the hash and the number of triples
+     */
+    protected static long[] calcFingerprint(Graph graph) {
+        long hash = 0;
+        long count = 0;
+        ExtendedIterator<Triple> it = graph.find(Node.ANY, Node.ANY, Node.ANY);
+        try {
+            while (it.hasNext()) {
+                Triple t = it.next();
+                long h = hash(t.getSubject());
+                h = mix(h * 31 + hash(t.getPredicate()));
+                h = mix(h * 31 + hash(t.getObject()));
+                hash += h;
+                count++;
+            }
+        } finally {
+            it.close();
+        }
+        return new long[]{mix(hash ^ count), count};
+    }
+
+    /**
+     * Answers the fingerprint of the graph for which the snapshot was written.
+     *
+     * @return long
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Answers {@code true} if the snapshot has a section for the given type.
+     *
+     * @param type {@link OWLTopObjectType}, not {@code null}
+     * @return boolean
+     */
+    public boolean contains(OWLTopObjectType type) {
+        return sections.containsKey(type);
+    }
+
+    /**
+     * Lists all {@link ONTObject}s of the given type, using the root statements recorded in this snapshot.
+     * Each found statement is translated as usual, only the statements search is skipped.
+     * The model must have the same base graph, for which the snapshot has been written.
+     *
+     * @param type    {@link OWLTopObjectType}, an axiom type that must be {@link #contains(OWLTopObjectType) present}
+     * @param model   {@link OntGraphModelImpl} to read statements, not {@code null}
+     * @param factory {@link ONTObjectFactory} to produce OWL-API objects, not {@code null}
+     * @param config  {@link AxiomsSettings}, not {@code null}
+     * @param <X>     subtype of {@link OWLObject}
+     * @return {@link ExtendedIterator} of {@link ONTObject}s
+     */
+    public <X extends OWLObject> ExtendedIterator<ONTObject<X>> listONTObjects(OWLTopObjectType type,
+                                                                              OntGraphModelImpl model,
+                                                                              ONTObjectFactory factory,
+                                                                              AxiomsSettings config) {
+        AxiomTranslator<OWLAxiom> translator = type.getTranslator();
+        ExtendedIterator<OntStatement> statements = Iter.create(() -> listStatements(type, translator, model, config));
+        return BaseSearcher.cast(BaseSearcher.translate(translator, statements, factory, config));
+    }
+
+    /**
+     * Decodes the section and resolves all its entries into statements.
+     *
+     * @param type       {@link OWLTopObjectType}
+     * @param translator {@link AxiomTranslator}
+     * @param model      {@link OntGraphModelImpl}
+     * @param config     {@link AxiomsSettings}
+     * @return {@code Iterator} of {@link OntStatement}s, without duplicates
+     */
+    protected Iterator<OntStatement> listStatements(OWLTopObjectType type,
+                                                    AxiomTranslator<OWLAxiom> translator,
+                                                    OntGraphModelImpl model,
+                                                    AxiomsSettings config) {
+        Integer offset = sections.get(type);
+        if (offset == null) {
+            throw new IllegalArgumentException("No section for " + type);
+        }
+        Node[] nodes = getDictionary();
+        Graph graph = model.getBaseGraph();
+        ByteBuffer buf = data.duplicate();
+        ((Buffer) buf).position(body + offset);
+        int count = readVarInt(buf);
+        Map<Triple, OntStatement> res = new LinkedHashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean root = (buf.get() & ROOT_FLAG) != 0;
+            Node s = nodes[readVarInt(buf)];
+            Node p = nodes[readVarInt(buf)];
+            Node o = nodes[readVarInt(buf)];
+            if (s.isConcrete() && o.isConcrete()) {
+                Triple t = Triple.create(s, p, o);
+                res.put(t, toStatement(model, t, root));
+                continue;
+            }
+            ExtendedIterator<Triple> it = graph.find(s, p, o);
+            try {
+                while (it.hasNext()) {
+                    Triple t = it.next();
+                    if (res.containsKey(t)) continue;
+                    OntStatement st = toStatement(model, t, root);
+                    if (!translator.testStatement(st, config)) continue;
+                    res.put(t, st);
+                }
+            } finally {
+                it.close();
+            }
+        }
+        return res.values().iterator();
+    }
+
+    private static boolean isRoot(OntStatement s) {
+        return s instanceof OntStatementImpl && ((OntStatementImpl) s).isRootStatement();
+    }
+
+    private static OntStatement toStatement(OntGraphModelImpl model, Triple t, boolean root) {
+        OntStatementImpl res = model.asStatement(t);
+        return root ? res.asRootStatement() : res;
+    }
+
+    /**
+     * Returns the nodes dictionary, decoding it on the first call.
+     * The element at the position {@link #ANY} is the wildcard.
+     *
+     * @return array of {@link Node}s
+     */
+    protected Node[] getDictionary() {
+        Node[] res = dictionary;
+        if (res != null) return res;
+        synchronized (this) {
+            if (dictionary != null) return dictionary;
+            ByteBuffer buf = data.duplicate();
+            ((Buffer) buf).position(body);
+            int size = readVarInt(buf);
+            res = new Node[size + 1];
+            res[ANY] = Node.ANY;
+            for (int i = 1; i <= size; i++) {
+                res[i] = readNode(buf);
+            }
+            return dictionary = res;
+        }
+    }
+
+    /**
+     * Calculates a signature of the settings that affect axioms reading.
+     *
+     * @param config {@link AxiomsSettings}
+     * @return int
+     */
+    static int signature(AxiomsSettings config) {
+        int res = 0;
+        if (config.isLoadAnnotationAxioms()) res |= 1;
+        if (config.isAllowBulkAnnotationAssertions()) res |= 1 << 1;
+        if (config.isIgnoreAnnotationAxiomOverlaps()) res |= 1 << 2;
+        if (config.isAllowReadDeclarations()) res |= 1 << 3;
+        if (config.isSplitAxiomAnnotations()) res |= 1 << 4;
+        if (config.isIgnoreAxiomsReadErrors()) res |= 1 << 5;
+        return res;
+    }
+
+    private static String toFileName(long fingerprint) {
+        return String.format("%016x", fingerprint) + FILE_EXTENSION;
+    }
+
+    private static int toId(Map<Node, Integer> dictionary, Node node) {
+        if (node.isBlank()) return ANY;
+        return dictionary.computeIfAbsent(node, n -> dictionary.size() + 1);
+    }
+
+    private static long hash(Node node) {
+        if (node.isBlank()) return BLANK_HASH;
+        if (node.isURI()) return hash(FNV_OFFSET, node.getURI());
+        long res = hash(FNV_OFFSET ^ 1, node.getLiteralLexicalForm());
+        res = hash(res, node.getLiteralDatatypeURI());
+        return hash(res, node.getLiteralLanguage());
+    }
+
+    private static long hash(long res, String str) {
+        if (str == null) return res;
+        for (int i = 0; i < str.length(); i++) {
+            res ^= str.charAt(i);
+            res *= FNV_PRIME;
+        }
+        return res;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static void writeNode(OutputStream out, Node n) throws IOException {
+        if (n.isURI()) {
+            out.write(URI_NODE);
+            writeString(out, n.getURI());
+            return;
+        }
+        out.write(LITERAL_NODE);
+        writeString(out, n.getLiteralLexicalForm());
+        writeString(out, n.getLiteralLanguage());
+        writeString(out, n.getLiteralDatatypeURI());
+    }
+
+    private static Node readNode(ByteBuffer buf) {
+        byte kind = buf.get();
+        if (kind == URI_NODE) {
+            return NodeFactory.createURI(readString(buf));
+        }
+        if (kind != LITERAL_NODE) {
+            throw new IllegalStateException("Unexpected node kind: " + kind);
+        }
+        String lex = readString(buf);
+        String lang = readString(buf);
+        String datatype = readString(buf);
+        if (!lang.isEmpty()) {
+            return NodeFactory.createLiteral(lex, lang);
+        }
+        return NodeFactory.createLiteral(lex, TypeMapper.getInstance().getSafeTypeByName(datatype));
+    }
+
+    private static void writeString(OutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buf) {
+        byte[] bytes = new byte[readVarInt(buf)];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buf) {
+        int res = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get();
+            res |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return res;
+    }
+
+    /**
+     * A cached graph fingerprint, that is also a {@link GraphListener} to reset the value on any graph change.
+     * It does not refer to the graph, so the graph (the {@link #FINGERPRINTS} weak key) can be collected.
+     */
+    private static class Fingerprint extends GraphListenerBase {
+        private volatile long[] value;
+        private volatile long version;
+
+        private synchronized void reset() {
+            value = null;
+            version++;
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            reset();
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            reset();
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            reset();
+        }
+    }
+
+    /**
+     * A section entry: an encoded triple (or a triple pattern) and the root flag.
+     */
+    private static class Entry {
+        private final int subject;
+        private final int predicate;
+        private final int object;
+        private final boolean root;
+
+        private Entry(int subject, int predicate, int object, boolean root) {
+            this.subject = subject;
+            this.predicate = predicate;
+            this.object = object;
+            this.root = root;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Entry other = (Entry) o;
+            return subject == other.subject && predicate == other.predicate
+                    && object == other.object && root == other.root;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(subject, predicate, object, root);
+        }
+    }
+}
@@ -147,4 +147,9 @@ public class DirectObjectMapImpl<X extends OWLObject> implements ObjectMap<X> {
         // nothing
     }
 
+    @Override
+    public void put(ONTObject<X> value) {
+        // nothing
+    }
+
 }
@@ -240,6 +240,35 @@ public interface InternalCache<K, V> {
         return res.asLoading(loader);
     }
 
+    /**
+     * Creates a bounded concurrent {@link Cache Caffeine} cache with weak reference values.
+     * An entry is released either when its value is no longer used anywhere else
+     * or when the cache size exceeds the limit.
+     * Can be used as an interning pool.
+     *
+     * @param size long, the maximum size of the cache
+     * @param <K>  the type of keys maintained by the return cache
+     * @param <V>  the type of mapped values
+     * @return {@link InternalCache}
+     * @since 2.1.0
+     */
+    static <K, V> InternalCache<K, V> createWeak(long size) {
+        return new CaffeineWrapper<>(Caffeine.newBuilder().weakValues().maximumSize(size).build());
+    }
+
+    /**
+     * Creates an unbounded concurrent {@link Cache Caffeine} cache with weak reference keys and soft reference values.
+     * Note: the keys are compared by identity.
+     *
+     * @param <K> the type of keys maintained by the return cache
+     * @param <V> the type of mapped values
+     * @return {@link InternalCache}
+     * @since 2.1.0
+     */
+    static <K, V> InternalCache<K, V> createIdentitySoft() {
+        return new CaffeineWrapper<>(Caffeine.newBuilder().weakKeys().softValues().build());
+    }
+
     /**
      * Creates an unbounded LRU cache with soft reference values,
      * that wraps either {@link Cache Caffeine} or simple {@link LinkedHashMap} based cache.
@@ -68,6 +68,8 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
             map.put(Key.CACHE_NODES_SIZE, delegate.getLoadNodesCacheSize());
             map.put(Key.CACHE_OBJECTS_SIZE, delegate.getLoadObjectsCacheSize());
             map.put(Key.CONTENT_CACHE_LEVEL, delegate.getModelCacheLevel());
+            map.put(Key.CONTENT_SNAPSHOT_DIRECTORY, delegate.getContentSnapshotDirectory());
+            map.put(Key.CONTENT_LOADING_PARALLELISM, delegate.getContentLoadingParallelism());
         }
 
         @SuppressWarnings("unchecked")
@@ -120,6 +122,16 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
             return get(Key.CONTENT_CACHE_LEVEL);
         }
 
+        @Override
+        public String getContentSnapshotDirectory() {
+            return get(Key.CONTENT_SNAPSHOT_DIRECTORY);
+        }
+
+        @Override
+        public int getContentLoadingParallelism() {
+            return get(Key.CONTENT_LOADING_PARALLELISM);
+        }
+
         @Override
         public boolean parallel() {
             return parallel;
@@ -152,6 +164,8 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
             CACHE_NODES_SIZE,
             CACHE_OBJECTS_SIZE,
             CONTENT_CACHE_LEVEL,
+            CONTENT_SNAPSHOT_DIRECTORY,
+            CONTENT_LOADING_PARALLELISM,
         }
     }
 
@@ -208,6 +222,16 @@ public interface InternalConfig extends CacheSettings, AxiomsSettings {
                 return conf.getModelCacheLevel();
             }
 
+            @Override
+            public String getContentSnapshotDirectory() {
+                return conf.getContentSnapshotDirectory();
+            }
+
+            @Override
+            public int getContentLoadingParallelism() {
+                return conf.getContentLoadingParallelism();
+            }
+
         };
     }
 }
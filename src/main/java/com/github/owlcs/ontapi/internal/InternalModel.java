@@ -21,6 +21,7 @@ import com.github.owlcs.ontapi.jena.model.OntModel;
 import org.apache.jena.rdf.model.Model;
 import org.semanticweb.owlapi.model.*;
 
+import java.util.Collection;
 import java.util.stream.Stream;
 
 /**
@@ -71,6 +72,23 @@ public interface InternalModel extends OntModel, PersonalityModel, HasOntologyID
      */
     Stream<OWLAnnotation> listOWLAnnotations();
 
+    /**
+     * Lists all axioms in the form of {@link ONTObject}s in a streaming manner.
+     * Unlike {@link #listOWLAxioms()}, this method does not load the content cache
+     * and does not retain any of the read objects:
+     * the axioms of each type whose cache is not loaded yet are read directly from the graph
+     * using a temporary reading context, which is released along with the stream.
+     * The stream is distinct, but this requires double reading for the axiom types
+     * that may produce duplicates (see {@link OWLTopObjectType#isDistinct()}).
+     * It is intended for one-time scanning of large ontologies,
+     * the stream is not thread-safe and must not be used while the model is being modified.
+     *
+     * @return a {@code Stream} of {@link ONTObject}s with {@link OWLAxiom}s
+     * @see #listOWLAxioms()
+     * @since 2.1.0
+     */
+    Stream<ONTObject<OWLAxiom>> listONTAxioms();
+
     /**
      * Lists all class expressions (both anonymous and named) in the form of OWL-API objects.
      *
@@ -325,6 +343,29 @@ public interface InternalModel extends OntModel, PersonalityModel, HasOntologyID
      */
     boolean remove(OWLAnnotation annotation);
 
+    /**
+     * Adds all the given axioms to the model as a single batch.
+     * Unlike a sequence of {@link #add(OWLAxiom)} calls,
+     * the axioms are grouped by their types, each cache bucket is updated once,
+     * and the component caches are invalidated once at the end.
+     *
+     * @param axioms {@code Collection} of {@link OWLAxiom}s, not {@code null}
+     * @return {@code true} if any axiom has been added to the graph
+     * @see #add(OWLAxiom)
+     * @since 2.1.0
+     */
+    boolean addAxioms(Collection<? extends OWLAxiom> axioms);
+
+    /**
+     * Removes all the given axioms from the model as a single batch.
+     *
+     * @param axioms {@code Collection} of {@link OWLAxiom}s, not {@code null}
+     * @return {@code true} if the graph has been changed
+     * @see #remove(OWLAxiom)
+     * @since 2.1.0
+     */
+    boolean removeAxioms(Collection<? extends OWLAxiom> axioms);
+
     /**
      * Invalidates all caches.
      */
@@ -332,9 +373,46 @@ public interface InternalModel extends OntModel, PersonalityModel, HasOntologyID
 
     /**
      * Forcibly loads the whole content cache.
+     * The cache buckets may be loaded concurrently,
+     * see {@link com.github.owlcs.ontapi.config.CacheSettings#getContentLoadingParallelism()}.
      */
     void forceLoad();
 
+    /**
+     * Sets the model whose content cache can be reused by this model,
+     * provided that the base graph of this model is a copy-on-write overlay over the base graph of the source.
+     *
+     * @param source {@link InternalModel} or {@code null} to reset
+     * @see com.github.owlcs.ontapi.jena.CopyOnWriteGraph
+     * @since 2.1.0
+     */
+    void setContentSource(InternalModel source);
+
+    /**
+     * Sets the cache of translated content, that is shared between the models with the same base graph.
+     *
+     * @param cache {@link SharedContentCache} or {@code null} to disable
+     * @since 2.1.0
+     */
+    void setSharedContentCache(SharedContentCache cache);
+
+    /**
+     * Sets the memory budget, that controls the content and component caches of this model.
+     *
+     * @param budget {@link CacheBudget} or {@code null} to disable
+     * @since 2.1.0
+     */
+    void setCacheBudget(CacheBudget budget);
+
+    /**
+     * Returns the planner, that chooses the way to search axioms referencing a primitive,
+     * with its statistics (observed latencies, per-predicate triple counts, cache sizes).
+     *
+     * @return {@link SearchPlanner}
+     * @since 2.1.0
+     */
+    SearchPlanner getSearchPlanner();
+
     /**
      * Invalidates the cache if needed.
      * <p>
@@ -18,26 +18,31 @@ import com.github.owlcs.ontapi.DataFactory;
 import com.github.owlcs.ontapi.ID;
 import com.github.owlcs.ontapi.OntApiException;
 import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.config.AxiomsSettings;
+import com.github.owlcs.ontapi.internal.objects.AsStatement;
 import com.github.owlcs.ontapi.jena.UnionGraph;
 import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
 import com.github.owlcs.ontapi.jena.impl.conf.OntPersonality;
 import com.github.owlcs.ontapi.jena.model.OntID;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.model.OntObject;
+import com.github.owlcs.ontapi.jena.model.OntStatement;
 import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.jena.vocabulary.OWL;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphEventManager;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.shared.JenaException;
 import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.*;
 
 import javax.annotation.Nonnull;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * A Buffer Graph OWL model, which supports both listing OWL-API objects (OWL Axioms, Entities and Annotations)
@@ -74,6 +79,27 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
      * The direct listener, it monitors changes that occur through the main (Jena) interface.
      */
     protected final DirectListener directListener;
+    /**
+     * The subjects of the triples that have been changed directly (through the Jena interface),
+     * the cached objects rooted in these subjects are refreshed lazily, on the next access to the content.
+     *
+     * @see #refreshCache(Triple)
+     */
+    protected final Set<Node> changedSubjects = new HashSet<>();
+    /**
+     * A flag for the lock-free fast path: {@code true} while there are {@link #changedSubjects pending subjects}
+     * or their refresh is in progress.
+     * It is reset only after the refresh has completed, so the readers that see it wait on the
+     * {@link #changedSubjects} monitor and never read half-refreshed buckets.
+     */
+    protected volatile boolean hasChangedSubjects;
+    // true while the current thread (the owner of the changedSubjects monitor) refreshes the caches
+    private boolean refreshing;
+    /**
+     * The maximum number of {@link #changedSubjects pending subjects},
+     * if it is exceeded the whole cache is released, since a full reload is cheaper than a big partial refresh.
+     */
+    protected static final int MAX_CHANGED_SUBJECTS = 1024;
 
     /**
      * Constructs a model instance.
@@ -206,6 +232,7 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
             return false;
         }
         map.add(value);
+        addReferences(container);
         // put new components into objects cache
         cacheComponents(container);
         // clear search model and object factory
@@ -229,33 +256,158 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
     protected boolean remove(OWLTopObjectType key, OWLObject container) {
         try {
             disableDirectListening();
-            ObjectMap<OWLObject> map = getContentCache(key);
-            ONTObject<OWLObject> value = map.get(container);
-            if (value == null) {
-                // this may happen in case the method is called by some native OWL-parsers:
-                // they, sometimes, do not be aware what they do
-                return false;
+            return removeContainer(key, container);
+        } finally {
+            enableDirectListening();
+        }
+    }
+
+    /**
+     * Removes the given {@code container} from the corresponding {@link ObjectMap cache} and the model.
+     * It is expected that the {@link #directListener} is disabled.
+     *
+     * @param key       {@link OWLTopObjectType}, not {@code null}
+     * @param container either {@link OWLAxiom} or {@link OWLAnnotation},
+     *                  that corresponds to the {@code key}, not {@code null}
+     * @return {@code true} if the graph has been changed
+     * @see #remove(OWLTopObjectType, OWLObject)
+     */
+    protected boolean removeContainer(OWLTopObjectType key, OWLObject container) {
+        ObjectMap<OWLObject> map = getContentCache(key);
+        ONTObject<OWLObject> value = map.get(container);
+        if (value == null) {
+            // this may happen in case the method is called by some native OWL-parsers:
+            // they, sometimes, do not be aware what they do
+            return false;
+        }
+        map.remove(container);
+        container = value.getOWLObject();
+        removeReferences(container);
+        OntModel m = toModel(value);
+        // triples that are used by other content objects:
+        Set<Triple> used = getUsedTriples(m, container);
+        // remove related components from the objects cache
+        // (even there is no graph changes);
+        // do it before graph modification since ONTObject's may rely on graph
+        clearComponents(container);
+        // physically delete triples:
+        Graph g = m.getBaseGraph();
+        long size = g.size();
+        g.find().filterDrop(used::contains).forEachRemaining(this::delete);
+        boolean res = size != g.size();
+        // clear search model and object factory
+        clearOtherCaches();
+        return res;
+    }
+
+    @Override
+    public boolean addAxioms(Collection<? extends OWLAxiom> axioms) {
+        Map<OWLTopObjectType, List<OWLObject>> groups = groupByType(axioms);
+        if (groups.isEmpty()) {
+            return false;
+        }
+        // all buckets must be loaded before graph modification
+        groups.keySet().forEach(k -> getContentCache(k).load());
+        OWLTriples.Listener listener = OWLTriples.createListener();
+        GraphEventManager evm = getGraph().getEventManager();
+        boolean res = false;
+        try {
+            disableDirectListening();
+            evm.register(listener);
+            for (Map.Entry<OWLTopObjectType, List<OWLObject>> e : groups.entrySet()) {
+                OWLTopObjectType key = e.getKey();
+                List<ONTObject<OWLObject>> values = new ArrayList<>(e.getValue().size());
+                try {
+                    for (OWLObject container : e.getValue()) {
+                        try {
+                            key.write(this, container);
+                        } catch (Exception ex) {
+                            listener.getTriples().forEach(this::delete);
+                            if (ex instanceof OntApiException)
+                                throw ex;
+                            throw new OntApiException(String.format("OWLObject: %s, message: '%s'",
+                                    container, ex.getMessage()), ex);
+                        }
+                        OWLTriples<OWLObject> value = listener.flush(container);
+                        if (value.isDefinitelyEmpty()) {
+                            LOGGER.warn("Attempt to add empty OWL object: {}", container);
+                            continue;
+                        }
+                        values.add(value);
+                        addReferences(container);
+                    }
+                } finally {
+                    // the successfully written objects must be in the cache even in case of error
+                    getContentCache(key).addAll(values);
+                    res |= !values.isEmpty();
+                }
             }
-            map.remove(container);
-            container = value.getOWLObject();
+        } finally {
+            evm.unregister(listener);
+            enableDirectListening();
+            if (res) {
+                // the components are not collected one by one, as in the single mode,
+                // but are just released once for the whole batch
+                clearComponentsCaches();
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public boolean removeAxioms(Collection<? extends OWLAxiom> axioms) {
+        Map<OWLTopObjectType, List<OWLObject>> groups = groupByType(axioms);
+        if (groups.isEmpty()) {
+            return false;
+        }
+        // first, detach all containers from the caches,
+        // so that the triples shared only between the removed containers are not considered as used
+        List<ONTObject<OWLObject>> values = new ArrayList<>();
+        for (Map.Entry<OWLTopObjectType, List<OWLObject>> e : groups.entrySet()) {
+            ObjectMap<OWLObject> map = getContentCache(e.getKey());
+            for (OWLObject container : e.getValue()) {
+                ONTObject<OWLObject> value = map.get(container);
+                if (value == null) {
+                    continue;
+                }
+                map.remove(container);
+                removeReferences(value.getOWLObject());
+                values.add(value);
+            }
+        }
+        if (values.isEmpty()) {
+            return false;
+        }
+        // then collect the triples to delete, while the graph is still untouched (ONTObject's may rely on graph):
+        Set<Triple> triples = new LinkedHashSet<>();
+        for (ONTObject<OWLObject> value : values) {
             OntModel m = toModel(value);
-            // triples that are used by other content objects:
-            Set<Triple> used = getUsedTriples(m, container);
-            // remove related components from the objects cache
-            // (even there is no graph changes);
-            // do it before graph modification since ONTObject's may rely on graph
-            clearComponents(container);
-            // physically delete triples:
-            Graph g = m.getBaseGraph();
-            long size = g.size();
-            g.find().filterDrop(used::contains).forEachRemaining(this::delete);
-            boolean res = size != g.size();
-            // clear search model and object factory
-            clearOtherCaches();
-            return res;
+            Set<Triple> used = getUsedTriples(m, value.getOWLObject());
+            m.getBaseGraph().find().filterDrop(used::contains).forEachRemaining(triples::add);
+        }
+        // physically delete triples in one pass and invalidate caches once:
+        Graph g = getBaseGraph();
+        long size = g.size();
+        try {
+            disableDirectListening();
+            triples.forEach(this::delete);
         } finally {
             enableDirectListening();
+            clearComponentsCaches();
         }
+        return size != g.size();
+    }
+
+    /**
+     * Groups the given axioms by their {@link OWLTopObjectType types}, preserving the order within each group.
+     *
+     * @param axioms {@code Collection} of {@link OWLAxiom}s
+     * @return {@code Map} with {@link OWLTopObjectType}s as keys
+     */
+    protected static Map<OWLTopObjectType, List<OWLObject>> groupByType(Collection<? extends OWLAxiom> axioms) {
+        Map<OWLTopObjectType, List<OWLObject>> res = new EnumMap<>(OWLTopObjectType.class);
+        axioms.forEach(a -> res.computeIfAbsent(OWLTopObjectType.get(a.getAxiomType()), k -> new ArrayList<>()).add(a));
+        return res;
     }
 
     /**
@@ -405,17 +557,44 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
     @Override
     public void clearCache() {
         cachedID = null;
+        synchronized (changedSubjects) {
+            changedSubjects.clear();
+            hasChangedSubjects = false;
+        }
         content.clear();
+        references.clear();
         config.clear();
         clearComponentsCaches();
     }
 
     /**
-     * Invalidates {@link #components}, {@link #objectFactory} and {@link #searchModel} caches.
+     * Puts the given {@code container} into the {@link #references references index}, if it is present.
+     *
+     * @param container {@link OWLObject}, not {@code null}
+     */
+    protected void addReferences(OWLObject container) {
+        if (references.isEmpty() || !(container instanceof OWLAxiom)) return;
+        references.get(this).add((OWLAxiom) container);
+    }
+
+    /**
+     * Removes the given {@code container} from the {@link #references references index}, if it is present.
+     *
+     * @param container {@link OWLObject}, not {@code null}
+     */
+    protected void removeReferences(OWLObject container) {
+        if (references.isEmpty() || !(container instanceof OWLAxiom)) return;
+        references.get(this).remove((OWLAxiom) container);
+    }
+
+    /**
+     * Invalidates {@link #components}, {@link #objectFactory} and {@link #searchModel} caches,
+     * and the graph statistics of the {@link #planner}.
      * Auxiliary method.
      */
     protected void clearComponentsCaches() {
         components.clear();
+        planner.invalidate();
         clearOtherCaches();
     }
 
@@ -470,8 +649,163 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
         });
     }
 
+    /**
+     * Registers the given triple, which has been added to or deleted from the graph directly,
+     * i.e. through the Jena interface, bypassing the OWL-API methods.
+     * The content caches are not synchronized immediately:
+     * the subject is just remembered and the affected objects are refreshed once, on the next access to the content
+     * (see {@link #refreshContentCaches()}), so a bulk edit does not cause a scan of the cache per each triple.
+     * The component caches, the search model and the object factory are always released.
+     * If the change cannot be localized, the whole cache is released (see {@link #clearCache()}).
+     * This is the case of a blank-node subject (the triple can be a part of any anonymous construction),
+     * the ontology header, and the {@code rdf:type} predicate, since declarations affect the parsing of any axiom.
+     * The whole cache is also released if there are too many pending subjects (see {@link #MAX_CHANGED_SUBJECTS}).
+     *
+     * @param triple {@link Triple}, that has been changed, not {@code null}
+     * @since 2.1.0
+     */
+    protected void refreshCache(Triple triple) {
+        Node subject = triple.getSubject();
+        if (!subject.isURI() || RDF.Nodes.type.equals(triple.getPredicate())
+                || getBaseGraph().contains(subject, RDF.Nodes.type, OWL.Ontology.asNode())) {
+            clearCache();
+            return;
+        }
+        references.clear();
+        clearComponentsCaches();
+        if (content.isEmpty()) {
+            return;
+        }
+        synchronized (changedSubjects) {
+            changedSubjects.add(subject);
+            hasChangedSubjects = true;
+            if (changedSubjects.size() <= MAX_CHANGED_SUBJECTS) {
+                return;
+            }
+        }
+        clearCache();
+    }
+
+    /**
+     * Gets the content store, refreshing the objects affected by the direct graph changes, if any.
+     *
+     * @return {@code Map}
+     * @see #refreshCache(Triple)
+     */
+    @Override
+    protected Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> getContentStore() {
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> res = super.getContentStore();
+        if (hasChangedSubjects) {
+            refreshContentCaches();
+        }
+        return res;
+    }
+
+    /**
+     * Re-translates all objects of the loaded content caches
+     * that are rooted in the subjects collected by the {@link #refreshCache(Triple)} method.
+     * Each loaded bucket is scanned only once regardless of the number of the changed triples.
+     * The whole refresh is performed under the {@link #changedSubjects} monitor,
+     * the pending subjects are released only when it is completed.
+     */
+    protected void refreshContentCaches() {
+        synchronized (changedSubjects) {
+            if (refreshing || changedSubjects.isEmpty()) {
+                // either a nested call from the refresh itself, or the refresh has been completed by another thread
+                return;
+            }
+            refreshing = true;
+            try {
+                refreshContentCaches(new HashSet<>(changedSubjects));
+            } finally {
+                refreshing = false;
+                changedSubjects.clear();
+                hasChangedSubjects = false;
+            }
+        }
+    }
+
+    /**
+     * Re-translates all objects of the loaded content caches that are rooted in the given subjects.
+     *
+     * @param subjects {@code Set} of {@link Node}s - the subjects of the changed triples, not {@code null}
+     */
+    private void refreshContentCaches(Set<Node> subjects) {
+        if (content.isEmpty()) {
+            return;
+        }
+        List<OWLTopObjectType> keys = OWLTopObjectType.axioms()
+                .filter(k -> k != OWLTopObjectType.DECLARATION && getContentCache(k).isLoaded())
+                .collect(Collectors.toList());
+        if (keys.isEmpty()) {
+            return;
+        }
+        InternalConfig conf = getConfig();
+        ModelObjectFactory factory = getObjectFactory();
+        OntModel m = getSearchModel();
+        try {
+            List<OntStatement> statements = subjects.stream()
+                    .flatMap(x -> m.localStatements(m.getResource(x.getURI()), null, null))
+                    .collect(Collectors.toList());
+            keys.forEach(key -> refreshContentCache(key, subjects, statements, m, factory, conf));
+        } catch (JenaException | OntApiException e) {
+            LOGGER.warn("Can't refresh cache for the subjects {}: '{}'", subjects, e.getMessage());
+            clearCache();
+        }
+    }
+
+    /**
+     * Re-translates all objects of the given bucket that are rooted in the specified {@code subjects}.
+     *
+     * @param key        {@link OWLTopObjectType} - the axiom type, not {@code null}
+     * @param subjects   {@code Set} of {@link Node}s - the subjects of the changed triples, not {@code null}
+     * @param statements {@code List} of all local {@link OntStatement}s for the {@code subjects}
+     * @param model      {@link OntModel} to search in
+     * @param factory    {@link ModelObjectFactory}
+     * @param conf       {@link InternalConfig}
+     */
+    protected void refreshContentCache(OWLTopObjectType key,
+                                       Set<Node> subjects,
+                                       List<OntStatement> statements,
+                                       OntModel model,
+                                       ModelObjectFactory factory,
+                                       InternalConfig conf) {
+        ObjectMap<OWLObject> map = getContentCache(key);
+        if (map.hasNew()) {
+            // manually added objects cannot be derived from the graph
+            map.clear();
+            return;
+        }
+        Set<OWLObject> removed = map.values().filter(x -> isRootedIn(x, subjects))
+                .map(ONTObject::getOWLObject).collect(Collectors.toSet());
+        removed.forEach(map::remove);
+        AxiomTranslator<OWLAxiom> translator = key.getTranslator();
+        ExtendedIterator<OntStatement> res = Iter.create(statements).filterKeep(x -> translator.testStatement(x, conf));
+        BaseSearcher.<ONTObject<OWLObject>>cast(BaseSearcher.translate(translator, res, factory, conf))
+                .forEachRemaining(map::put);
+        // an object may be derived from several statements with different subjects (e.g. equivalent classes):
+        ObjectsSearcher<OWLObject> searcher = key.getSearcher();
+        removed.stream().filter(x -> !map.contains(x))
+                .forEach(x -> searcher.findONTObject(x, model, factory, conf).ifPresent(map::put));
+    }
+
+    /**
+     * Answers {@code true} if the given object is rooted in a statement with one of the specified subjects.
+     *
+     * @param value    {@link ONTObject}
+     * @param subjects {@code Set} of {@link Node}s
+     * @return boolean
+     */
+    private static boolean isRootedIn(ONTObject<?> value, Set<Node> subjects) {
+        if (value instanceof AsStatement) {
+            return subjects.contains(((AsStatement) value).asTriple().getSubject());
+        }
+        return value.triples().anyMatch(t -> subjects.contains(t.getSubject()) && !RDF.Nodes.type.equals(t.getPredicate()));
+    }
+
     @Override
     public void forceLoad() {
+        loadContentCaches(OWLTopObjectType.all());
         contentCaches().forEach(ObjectMap::load);
     }
 
@@ -489,17 +823,12 @@ public class InternalModelImpl extends InternalReadModel implements InternalMode
 
         @Override
         protected void addEvent(Triple t) {
-            // we don't know which axiom would own this triple, so we clear the whole cache.
-            invalidate();
+            refreshCache(t);
         }
 
         @Override
         protected void deleteEvent(Triple t) {
-            // Although it is possible to detect only those cache elements,
-            // that are really affected by deleting the triple,
-            // but such a calculation would be rather too complicated and time-consuming and (therefore) possibly buggy.
-            // So it seems to be better just release all caches.
-            invalidate();
+            refreshCache(t);
         }
 
         @Override
@@ -17,19 +17,25 @@ package com.github.owlcs.ontapi.internal;
 import com.github.owlcs.ontapi.DataFactory;
 import com.github.owlcs.ontapi.ID;
 import com.github.owlcs.ontapi.OntApiException;
+import com.github.owlcs.ontapi.config.AxiomsSettings;
 import com.github.owlcs.ontapi.internal.axioms.AbstractNaryTranslator;
 import com.github.owlcs.ontapi.internal.searchers.axioms.*;
 import com.github.owlcs.ontapi.internal.searchers.objects.ClassSearcher;
+import com.github.owlcs.ontapi.jena.CopyOnWriteGraph;
 import com.github.owlcs.ontapi.jena.OntJenaException;
 import com.github.owlcs.ontapi.jena.RWLockedGraph;
+import com.github.owlcs.ontapi.jena.impl.IndividualIndex;
 import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
 import com.github.owlcs.ontapi.jena.impl.conf.OntPersonality;
 import com.github.owlcs.ontapi.jena.model.*;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.mem.GraphMem;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -40,13 +46,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -110,6 +123,37 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
      * @see ObjectMap
      */
     protected final InternalCache.Loading<InternalReadModel, Map<OWLComponentType, ObjectMap<OWLObject>>> components;
+    /**
+     * The inverted index to search axioms by primitives.
+     * It is calculated from the {@link #content} and is used only if the corresponding option is enabled.
+     *
+     * @see InternalConfig#useReferencesCache()
+     */
+    protected final InternalCache.Loading<InternalReadModel, ReferencesIndex> references;
+    /**
+     * A model whose {@link #content} can be reused by this model, if any.
+     *
+     * @see #setContentSource(InternalModel)
+     */
+    protected volatile InternalReadModel contentSource;
+    /**
+     * A cache of translated content shared between the models with the same base graph, if any.
+     *
+     * @see #setSharedContentCache(SharedContentCache)
+     */
+    protected volatile SharedContentCache sharedContent;
+    /**
+     * A memory budget, that controls the content and component caches of all the models of a manager, if any.
+     *
+     * @see #setCacheBudget(CacheBudget)
+     */
+    protected volatile CacheBudget budget;
+    /**
+     * The planner to choose the way to search axioms by a primitive, it keeps the per-model statistics.
+     *
+     * @see #planReferencingAxiomsSearch(OWLPrimitive, OWLComponentType, InternalConfig)
+     */
+    protected final SearchPlanner planner = new SearchPlanner();
 
     // Helpers to provide searching axioms by some objects (referencing by primitives).
     protected final ByObjectSearcher<OWLAxiom, OWLClass> byClass = new ByClass();
@@ -147,6 +191,22 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     // To search OWLObjects
     protected final ObjectsSearcher<OWLClass> classSearcher = new ClassSearcher();
 
+    /**
+     * A reading context of the current fork-join task while loading the content cache concurrently.
+     * Each task gets its own search model and object factory,
+     * since their internal caches are not designed for intensive multithreaded access.
+     *
+     * @see #loadContentCaches(Stream)
+     */
+    private final ThreadLocal<LoadingContext> loadingContext = new ThreadLocal<>();
+    /**
+     * The fork-join pools to load the content cache concurrently, one per parallelism level.
+     * The pools are shared between all models, their worker threads are daemons and are retired when idle.
+     *
+     * @see #loadContentCaches(Stream)
+     */
+    private static final Map<Integer, ForkJoinPool> LOADING_POOLS = new ConcurrentHashMap<>();
+
     InternalReadModel(Graph base,
                       OntPersonality personality,
                       InternalConfig config,
@@ -160,6 +220,7 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         this.searchModel = InternalCache.createSoftSingleton(x -> createSearchModel());
         this.content = InternalCache.createSingleton(x -> createContentStore());
         this.components = InternalCache.createSingleton(x -> createComponentStore());
+        this.references = InternalCache.createSingleton(x -> createReferencesIndex());
     }
 
     public ID getOntologyID() {
@@ -256,6 +317,11 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
             public ModelObjectFactory getObjectFactory() {
                 return InternalReadModel.this.getObjectFactory();
             }
+
+            @Override
+            public IndividualIndex getIndividualIndex() {
+                return InternalReadModel.this.getIndividualIndex();
+            }
         };
     }
 
@@ -596,9 +662,13 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     }
 
     public Stream<OWLAxiom> listOWLAxioms(OWLPrimitive primitive) {
-        OWLComponentType filter = OWLComponentType.get(primitive);
         InternalConfig config = getConfig();
-        if (useReferencingAxiomsSearchOptimization(filter, config)) {
+        if (config.useReferencesCache()) {
+            return references.get(this).axioms(primitive);
+        }
+        OWLComponentType filter = OWLComponentType.get(primitive);
+        SearchPlanner.Plan plan = planReferencingAxiomsSearch(primitive, filter, config);
+        if (plan.isGraph()) {
             ExtendedIterator<ONTObject<OWLAxiom>> res;
             OntModel model = getSearchModel();
             ModelObjectFactory factory = getObjectFactory();
@@ -623,67 +693,89 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
             } else {
                 throw new OntApiException.IllegalArgument("Wrong type: " + filter);
             }
+            if (plan.isPlanned()) {
+                res = planner.measure(res, plan);
+            }
             return ModelIterators.reduceDistinct(res.mapWith(ONTObject::getOWLObject), config);
         }
         // the default way:
         if (OWLTopObjectType.ANNOTATION.hasComponent(filter)) {
             // is type of annotation -> any axiom may contain the primitive
-            return ModelIterators.reduce(OWLTopObjectType.axioms().flatMap(k -> {
+            return ModelIterators.reduce(measure(OWLTopObjectType.axioms().flatMap(k -> {
                 ObjectMap<OWLAxiom> axioms = getContentCache(k);
                 Predicate<OWLAxiom> p = k.hasComponent(filter) ? a -> true : k::hasAnnotations;
                 return axioms.keys().filter(x -> p.test(x) && filter.contains(x, primitive));
-            }), config);
+            }), plan), config);
         }
         // select only those container-types, that are capable to contain the primitive
-        return ModelIterators.flatMap(filteredAxiomsCaches(OWLTopObjectType.axioms().filter(x -> x.hasComponent(filter))),
-                k -> k.keys().filter(x -> filter.contains(x, primitive)), config);
+        return measure(ModelIterators.flatMap(filteredAxiomsCaches(OWLTopObjectType.axioms()
+                        .filter(x -> x.hasComponent(filter))),
+                k -> k.keys().filter(x -> filter.contains(x, primitive)), config), plan);
     }
 
     /**
-     * Answers {@code true} if the graph optimization for referencing axioms functionality is allowed and makes sense.
+     * Wraps the stream to measure the latency of the planned strategy, if needed.
+     *
+     * @param stream {@code Stream} of {@link X}s
+     * @param plan   {@link SearchPlanner.Plan}
+     * @param <X>    anything
+     * @return {@code Stream} of {@link X}s
+     */
+    private <X> Stream<X> measure(Stream<X> stream, SearchPlanner.Plan plan) {
+        if (!plan.isPlanned()) {
+            return stream;
+        }
+        // keep the source's close handlers:
+        return Iter.<X>asStream(planner.measure(stream.iterator(), plan)).onClose(stream::close);
+    }
+
+    /**
+     * Chooses the way to search axioms referencing the given primitive:
+     * either the graph search or the parsing of the content cache.
+     * If all the axiom buckets of the content cache are loaded,
+     * the choice is made by the {@link #planner cost-based planner}, otherwise the graph way is used.
+     *
+     * @param primitive {@link OWLPrimitive}
+     * @param type      {@link OWLComponentType} of the primitive
+     * @param config    {@link InternalConfig}
+     * @return {@link SearchPlanner.Plan}
+     * @see #useReferencingAxiomsSearchOptimization(OWLComponentType, InternalConfig)
+     * @see SearchPlanner
+     */
+    protected SearchPlanner.Plan planReferencingAxiomsSearch(OWLPrimitive primitive,
+                                                             OWLComponentType type,
+                                                             InternalConfig config) {
+        if (!useReferencingAxiomsSearchOptimization(type, config)) {
+            return SearchPlanner.Plan.CACHE;
+        }
+        if (!config.useContentCache() || !planner.isSupported(type)
+                || !OWLTopObjectType.axioms().allMatch(x -> getContentCache(x).isLoaded())) {
+            return SearchPlanner.Plan.GRAPH;
+        }
+        Node node = NodeFactory.createURI(((OWLEntity) primitive).getIRI().getIRIString());
+        boolean property = OWLComponentType.NAMED_OBJECT_PROPERTY == type
+                || OWLComponentType.DATATYPE_PROPERTY == type || OWLComponentType.ANNOTATION_PROPERTY == type;
+        long graphUnits = planner.countReferences(getBaseGraph(), node, property);
+        boolean any = OWLTopObjectType.ANNOTATION.hasComponent(type);
+        long cacheUnits = OWLTopObjectType.axioms().filter(x -> any || x.hasComponent(type))
+                .mapToLong(x -> getContentCache(x).count()).sum();
+        return planner.choose(type, graphUnits, cacheUnits);
+    }
+
+    /**
+     * Answers {@code true} if the graph optimization for referencing axioms functionality is allowed.
+     * Whether it makes sense is decided by the {@link #planner}.
      *
      * @param type   {@link OWLComponentType}
      * @param config {@link InternalConfig}
      * @return boolean
      * @see #useAxiomsSearchOptimization(InternalConfig)
+     * @see #planReferencingAxiomsSearch(OWLPrimitive, OWLComponentType, InternalConfig)
      */
     protected boolean useReferencingAxiomsSearchOptimization(OWLComponentType type, InternalConfig config) {
-        if (!config.useContentCache()) {
-            // no cache at all -> always use the graph way
-            return true;
-        }
-        if (hasManuallyAddedAxioms()) {
-            // manually added axioms cannot be derived from the graph
-            return false;
-        }
-        // if cache is loaded - decide which way to use:
-        // either the graph-optimization way or straightforward cache parsing
-        if (contentCaches().allMatch(ObjectMap::isLoaded)) {
-            // The empirical founded threshold (right now I do not see a better solution)
-            // (for small ontologies it is better to use cache traversing instead of graph searching)
-            long threshold = -1;
-            if (type == OWLComponentType.DATATYPE) {
-                // the graph-optimized-way has usually worse performance in comparison with the classic cache parsing
-                // maybe it is because there are usually only a few owl-datatypes, but many theirs entrances;
-                return false;
-            } else if (type == OWLComponentType.CLASS) {
-                threshold = 200;
-            } else if (type == OWLComponentType.NAMED_OBJECT_PROPERTY) {
-                threshold = 2000;
-            } else if (type == OWLComponentType.ANNOTATION_PROPERTY) {
-                threshold = 2000;
-            } else if (type == OWLComponentType.DATATYPE_PROPERTY) {
-                threshold = 100;
-            } else if (type == OWLComponentType.NAMED_INDIVIDUAL) {
-                // the graph-way is usually faster, especially for big ontologies,
-                // but it may be not true in case of special complexity (e.g. with owl:AllDifferent)
-                threshold = 3000;
-            }
-            // for IRI graph optimization is always faster
-            // for literals and anonymous individuals too
-            return getOWLAxiomCount() >= threshold;
-        }
-        return true;
+        // no cache at all -> always use the graph way;
+        // manually added axioms cannot be derived from the graph
+        return !config.useContentCache() || !hasManuallyAddedAxioms();
     }
 
     /**
@@ -699,16 +791,38 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     }
 
     public Stream<OWLAxiom> listOWLAxioms() {
+        loadContentCaches(OWLTopObjectType.axioms());
         return ModelIterators.flatMap(filteredAxiomsCaches(OWLTopObjectType.axioms()), ObjectMap::keys, getConfig());
     }
 
+    public Stream<ONTObject<OWLAxiom>> listONTAxioms() {
+        InternalConfig conf = getConfig();
+        // a temporary context, which is not shared with the model
+        LoadingContext context = createLoadingContext(getDataFactory());
+        return OWLTopObjectType.axioms().flatMap(key -> {
+            ObjectMap<OWLAxiom> cache = getContentCache(key);
+            if (cache.isLoaded()) {
+                return cache.values();
+            }
+            ObjectsSearcher<OWLAxiom> searcher = BaseSearcher.cast(key.getSearcher());
+            Supplier<Iterator<ONTObject<OWLAxiom>>> loader =
+                    () -> searcher.listONTObjects(context.model, context.factory, conf);
+            if (key.isDistinct()) {
+                return Iter.asStream(loader.get());
+            }
+            return ModelIterators.distinct(loader, ONTObject::getOWLObject);
+        });
+    }
+
     @SuppressWarnings("unchecked")
     public Stream<OWLLogicalAxiom> listOWLLogicalAxioms() {
+        loadContentCaches(OWLTopObjectType.logical());
         return ModelIterators.flatMap(filteredAxiomsCaches(OWLTopObjectType.logical()),
                 m -> (Stream<OWLLogicalAxiom>) m.keys(), getConfig());
     }
 
     public Stream<OWLAxiom> listOWLAxioms(Iterable<AxiomType<?>> filter) {
+        loadContentCaches(OWLTopObjectType.axioms(filter));
         return ModelIterators.flatMap(filteredAxiomsCaches(OWLTopObjectType.axioms(filter)), ObjectMap::keys, getConfig());
     }
 
@@ -738,6 +852,7 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
     }
 
     public long getOWLAxiomCount() {
+        loadContentCaches(OWLTopObjectType.axioms());
         return getContentStore().entrySet().stream()
                 .filter(x -> x.getKey().isAxiom())
                 .mapToLong(x -> x.getValue().count()).sum();
@@ -847,7 +962,7 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
      *
      * @param type {@link OWLComponentType}, not {@code null}
      * @return {@link ObjectMap}
-     * @see #createContentObjectMap(OWLTopObjectType)
+     * @see #createContentObjectMap(OWLTopObjectType, ContentSnapshot)
      * @see OWLComponentType
      */
     protected ObjectMap<OWLObject> createComponentObjectMap(OWLComponentType type) {
@@ -864,7 +979,8 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         }
         boolean parallel = conf.parallel();
         boolean fastIterator = conf.useIteratorCache();
-        return new CacheObjectMapImpl<>(loader, false, parallel, fastIterator);
+        return new CacheObjectMapImpl<>(loader, false, parallel, fastIterator,
+                budget, CacheBudget.COMPONENT_OBJECT_WEIGHT);
     }
 
     /**
@@ -1022,6 +1138,107 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         return getContentStore().values().stream();
     }
 
+    /**
+     * Loads the content caches for the given keys concurrently,
+     * if it is allowed by the {@link InternalConfig#useParallelContentLoading() config settings}.
+     * Only not yet loaded caches are processed; no-op if there is less than two such caches.
+     * The calling thread waits until all caches are loaded,
+     * so the whole operation is performed under the same lock (if any) as the caller holds.
+     *
+     * @param keys {@code Stream} of {@link OWLTopObjectType}s
+     * @see com.github.owlcs.ontapi.config.CacheSettings#getContentLoadingParallelism()
+     */
+    protected void loadContentCaches(Stream<OWLTopObjectType> keys) {
+        InternalConfig conf = getConfig();
+        if (!conf.useParallelContentLoading()) {
+            return;
+        }
+        Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> store = getContentStore();
+        List<ObjectMap<?>> caches = keys.map(store::get).filter(x -> !x.isLoaded()).collect(Collectors.toList());
+        if (caches.size() < 2) {
+            return;
+        }
+        DataFactory df = getObjectFactory().getOWLDataFactory();
+        List<Callable<Void>> tasks = new ArrayList<>(caches.size());
+        caches.forEach(x -> tasks.add(() -> {
+            loadingContext.set(createLoadingContext(df));
+            try {
+                x.load();
+            } finally {
+                loadingContext.remove();
+            }
+            return null;
+        }));
+        ForkJoinPool pool = LOADING_POOLS.computeIfAbsent(conf.getContentLoadingParallelism(), ForkJoinPool::new);
+        try {
+            for (Future<Void> f : pool.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OntApiException("Interrupted while loading content cache", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new OntApiException("Unable to load content cache", cause);
+        }
+    }
+
+    /**
+     * Creates a fresh reading context for a fork-join task.
+     * The searcher runs on the task-local search model of the context, that has its own node cache;
+     * the task-local object factory is a fresh one too, but its model supplier points to the common
+     * {@link #getSearchModel()}, so the produced {@link ONTObject}s are bound to the common model.
+     *
+     * @param df {@link DataFactory}
+     * @return {@link LoadingContext}
+     */
+    protected LoadingContext createLoadingContext(DataFactory df) {
+        InternalConfig conf = getConfig();
+        ModelObjectFactory factory = createObjectFactory(df, Collections.emptyMap());
+        SearchModel model = new SearchModel(getGraph(), getOntPersonality(), conf, conf.useLoadNodesCache()) {
+            @Override
+            @Nonnull
+            public ModelObjectFactory getObjectFactory() {
+                return factory;
+            }
+        };
+        return new LoadingContext(model, factory);
+    }
+
+    /**
+     * Returns the model to read content, which is either the task-specific or the common {@link #getSearchModel()}.
+     *
+     * @return {@link OntGraphModelImpl}
+     */
+    protected OntGraphModelImpl getLoadingModel() {
+        LoadingContext res = loadingContext.get();
+        return res == null ? getSearchModel() : res.model;
+    }
+
+    /**
+     * Returns the factory to read content, which is either the task-specific or the common {@link #getObjectFactory()}.
+     *
+     * @return {@link ModelObjectFactory}
+     */
+    protected ModelObjectFactory getLoadingFactory() {
+        LoadingContext res = loadingContext.get();
+        return res == null ? getObjectFactory() : res.factory;
+    }
+
+    /**
+     * Creates the references index from the content cache.
+     *
+     * @return {@link ReferencesIndex}
+     */
+    protected ReferencesIndex createReferencesIndex() {
+        ReferencesIndex res = new ReferencesIndex();
+        listOWLAxioms().forEach(res::add);
+        return res;
+    }
+
     /**
      * Creates a content store {@code Map}.
      *
@@ -1029,17 +1246,38 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
      * @see #createComponentStore()
      */
     protected Map<OWLTopObjectType, ObjectMap<? extends OWLObject>> createContentStore() {
-        return createMapStore(OWLTopObjectType.class, OWLTopObjectType.all(), this::createContentObjectMap);
+        ContentSnapshot snapshot = findContentSnapshot();
+        return createMapStore(OWLTopObjectType.class, OWLTopObjectType.all(), k -> createContentObjectMap(k, snapshot));
+    }
+
+    /**
+     * Finds a persistent {@link ContentSnapshot} for the current state of the base graph.
+     *
+     * @return {@link ContentSnapshot} or {@code null} if snapshots are disabled or there is no matching file
+     * @see com.github.owlcs.ontapi.config.CacheSettings#getContentSnapshotDirectory()
+     */
+    protected ContentSnapshot findContentSnapshot() {
+        InternalConfig conf = getConfig();
+        if (!conf.useContentSnapshot()) {
+            return null;
+        }
+        ContentSnapshot res = ContentSnapshot.find(Paths.get(conf.getContentSnapshotDirectory()), getBaseGraph(), conf)
+                .orElse(null);
+        if (res != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("[{}]Use content snapshot {}", getID(), String.format("%016x", res.getFingerprint()));
+        }
+        return res;
     }
 
     /**
      * Creates a {@link ObjectMap} container for the given {@link OWLTopObjectType}.
      *
-     * @param key {@link OWLTopObjectType}
+     * @param key      {@link OWLTopObjectType}
+     * @param snapshot {@link ContentSnapshot} to hydrate the cache from, can be {@code null}
      * @return {@link ObjectMap}
      * @see #createComponentObjectMap(OWLComponentType)
      */
-    protected ObjectMap<OWLObject> createContentObjectMap(OWLTopObjectType key) {
+    protected ObjectMap<OWLObject> createContentObjectMap(OWLTopObjectType key, ContentSnapshot snapshot) {
         ObjectsSearcher<OWLObject> searcher = key.getSearcher();
         InternalConfig conf = getConfig();
         if (!conf.useContentCache()) {
@@ -1048,11 +1286,25 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         boolean parallel = conf.parallel();
         boolean fastIterator = conf.useIteratorCache();
         boolean withMerge = !key.isDistinct();
+        Supplier<Iterator<ONTObject<OWLObject>>> fromGraph = snapshot != null && snapshot.contains(key) ?
+                () -> snapshot.listONTObjects(key, getLoadingModel(), getLoadingFactory(), getConfig()) :
+                toLoader(searcher);
+        Supplier<Iterator<ONTObject<OWLObject>>> loader = () -> {
+            Iterator<ONTObject<OWLObject>> res = listSharedContent(key);
+            if (res != null) {
+                return res;
+            }
+            SharedContentCache shared = this.sharedContent;
+            return shared != null ? shared.listContent(getGraph(), getOntPersonality(), getDataFactory(), getConfig(),
+                    key, fromGraph) : fromGraph.get();
+        };
+        CacheBudget budget = this.budget;
+        long weight = CacheBudget.CONTENT_OBJECT_WEIGHT;
         if (!LOGGER.isDebugEnabled()) {
-            return new CacheObjectMapImpl<>(toLoader(searcher), withMerge, parallel, fastIterator);
+            return new CacheObjectMapImpl<>(loader, withMerge, parallel, fastIterator, budget, weight);
         }
         OntID id = getID();
-        return new CacheObjectMapImpl<OWLObject>(toLoader(searcher), withMerge, parallel, fastIterator) {
+        return new CacheObjectMapImpl<OWLObject>(loader, withMerge, parallel, fastIterator, budget, weight) {
             @Override
             protected CachedMap<OWLObject, ONTObject<OWLObject>> loadMap() {
                 Instant start = Instant.now();
@@ -1069,8 +1321,96 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         };
     }
 
+    /**
+     * Sets the model whose content cache can be reused by this model.
+     * It makes sense only if the base graph of this model is a {@link CopyOnWriteGraph}
+     * over the base graph of the {@code source}:
+     * while the overlay is not modified, this model has exactly the same content,
+     * so the axioms, that have already been translated for the source, are taken from its cache as is.
+     * If the overlay has been modified by the moment of loading,
+     * or the axioms settings differ, the content is read from the graph as usual.
+     * The source must not be modified while this model is in use.
+     *
+     * @param source {@link InternalModel} or {@code null} to reset
+     * @since 2.1.0
+     */
+    public void setContentSource(InternalModel source) {
+        this.contentSource = (InternalReadModel) source;
+    }
+
+    /**
+     * Sets the cache of translated content, that is shared between the models with the same base graph.
+     * The content cache buckets of this model are loaded through it.
+     *
+     * @param cache {@link SharedContentCache} or {@code null} to disable
+     * @since 2.1.0
+     */
+    public void setSharedContentCache(SharedContentCache cache) {
+        this.sharedContent = cache;
+    }
+
+    /**
+     * Sets the memory budget for the content and component caches.
+     * It affects only the caches that are created after this call (i.e. after {@link #clearCache()}).
+     *
+     * @param budget {@link CacheBudget} or {@code null} to disable
+     * @since 2.1.0
+     */
+    public void setCacheBudget(CacheBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the planner, that chooses the way to search axioms by a primitive.
+     *
+     * @return {@link SearchPlanner}
+     * @since 2.1.0
+     */
+    public SearchPlanner getSearchPlanner() {
+        return planner;
+    }
+
+    /**
+     * Lists the content of the specified type from the {@link #contentSource} cache, if it is possible.
+     *
+     * @param key {@link OWLTopObjectType}
+     * @return {@code Iterator} or {@code null} if the source content cannot be reused
+     */
+    protected Iterator<ONTObject<OWLObject>> listSharedContent(OWLTopObjectType key) {
+        InternalReadModel source = this.contentSource;
+        if (source == null) {
+            return null;
+        }
+        Graph graph = Graphs.getBase(getBaseGraph());
+        if (!(graph instanceof CopyOnWriteGraph)) {
+            return null;
+        }
+        CopyOnWriteGraph overlay = (CopyOnWriteGraph) graph;
+        if (overlay.isModified() || overlay.getBase() != Graphs.getBase(source.getBaseGraph())
+                || !sameAxiomsSettings(getConfig(), source.getConfig())) {
+            return null;
+        }
+        return source.<OWLObject>getContentCache(key).values().iterator();
+    }
+
+    /**
+     * Answers {@code true} if the both settings produce the same axioms from the same graph.
+     *
+     * @param left  {@link AxiomsSettings}, not {@code null}
+     * @param right {@link AxiomsSettings}, not {@code null}
+     * @return boolean
+     */
+    static boolean sameAxiomsSettings(AxiomsSettings left, AxiomsSettings right) {
+        return left.isLoadAnnotationAxioms() == right.isLoadAnnotationAxioms()
+                && left.isAllowBulkAnnotationAssertions() == right.isAllowBulkAnnotationAssertions()
+                && left.isIgnoreAnnotationAxiomOverlaps() == right.isIgnoreAnnotationAxiomOverlaps()
+                && left.isAllowReadDeclarations() == right.isAllowReadDeclarations()
+                && left.isSplitAxiomAnnotations() == right.isSplitAxiomAnnotations()
+                && left.isIgnoreAxiomsReadErrors() == right.isIgnoreAxiomsReadErrors();
+    }
+
     private <X extends OWLObject> Supplier<Iterator<ONTObject<X>>> toLoader(ObjectsSearcher<X> searcher) {
-        return () -> searcher.listONTObjects(getSearchModel(), getObjectFactory(), getConfig());
+        return () -> searcher.listONTObjects(getLoadingModel(), getLoadingFactory(), getConfig());
     }
 
     private <X extends OWLObject> Function<X, Optional<ONTObject<X>>> toFinder(ObjectsSearcher<X> searcher) {
@@ -1081,4 +1421,16 @@ abstract class InternalReadModel extends OntGraphModelImpl implements ListAxioms
         return k -> searcher.containsONTObject(k, getSearchModel(), getObjectFactory(), getConfig());
     }
 
+    /**
+     * A reading context (a model and an object factory) of a content loading task.
+     */
+    protected static class LoadingContext {
+        private final OntGraphModelImpl model;
+        private final ModelObjectFactory factory;
+
+        protected LoadingContext(OntGraphModelImpl model, ModelObjectFactory factory) {
+            this.model = Objects.requireNonNull(model);
+            this.factory = Objects.requireNonNull(factory);
+        }
+    }
 }
@@ -17,10 +17,9 @@ package com.github.owlcs.ontapi.internal;
 import com.github.owlcs.ontapi.jena.utils.Iter;
 import org.apache.jena.util.iterator.ExtendedIterator;
 
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
-import java.util.Spliterator;
+import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -159,4 +158,56 @@ class ModelIterators {
         return stream.map(map).collect(Collectors.toList()).stream().flatMap(Function.identity());
     }
 
+    /**
+     * Makes a lazy distinct stream from the given re-iterable source spending a bounded amount of memory.
+     * Unlike {@link Stream#distinct()}, the method does not remember every element:
+     * the source is iterated twice, the first pass collects the {@code hashCode}s of keys into a primitive array,
+     * which is then reduced to the set of repeated hashes,
+     * and the second pass yields the elements remembering only those with a repeated hash.
+     * So, the memory usage is four bytes per element while the first pass and is proportional
+     * to the number of possible duplicates while the second pass,
+     * the price is double iterating.
+     *
+     * @param source {@code Supplier} to provide a fresh {@code Iterator} over {@link R}s, each time the same
+     * @param key    {@code Function} to get a key from the element to compare by
+     * @param <R>    anything
+     * @param <K>    the key type, must have good {@code equals} and {@code hashCode}
+     * @return a {@code Stream} of distinct {@link R}s
+     */
+    static <R, K> Stream<R> distinct(Supplier<? extends Iterator<R>> source, Function<R, K> key) {
+        int[] hashes = new int[1024];
+        int size = 0;
+        Iterator<R> it = source.get();
+        while (it.hasNext()) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, hashes.length * 2);
+            }
+            hashes[size++] = key.apply(it.next()).hashCode();
+        }
+        if (size < 2) {
+            return Iter.asStream(source.get());
+        }
+        Arrays.sort(hashes, 0, size);
+        int count = 0;
+        for (int i = 1; i < size; i++) {
+            if (hashes[i] == hashes[i - 1] && (i == 1 || hashes[i - 1] != hashes[i - 2])) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return Iter.asStream(source.get());
+        }
+        int[] repeated = new int[count];
+        for (int i = 1, j = 0; i < size; i++) {
+            if (hashes[i] == hashes[i - 1] && (i == 1 || hashes[i - 1] != hashes[i - 2])) {
+                repeated[j++] = hashes[i];
+            }
+        }
+        Set<K> seen = new HashSet<>();
+        return Iter.asStream(Iter.create(source.get()).filterKeep(x -> {
+            K k = key.apply(x);
+            return Arrays.binarySearch(repeated, k.hashCode()) < 0 || seen.add(k);
+        }));
+    }
+
 }
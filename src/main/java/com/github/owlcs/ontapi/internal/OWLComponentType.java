@@ -17,6 +17,7 @@ package com.github.owlcs.ontapi.internal;
 import com.github.owlcs.ontapi.OntApiException;
 import com.github.owlcs.ontapi.OwlObjects;
 import com.github.owlcs.ontapi.jena.model.*;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
 import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.utils.OntModels;
 import org.apache.jena.rdf.model.Literal;
@@ -54,19 +55,7 @@ public enum OWLComponentType {
 
         @Override
         ExtendedIterator<Resource> listObjects(OntModel model) {
-            return Iter.create(() -> {
-                Set<Resource> res = new HashSet<>();
-                model.getBaseModel().listStatements().forEachRemaining(s -> {
-                    res.add(s.getPredicate().inModel(model));
-                    if (s.getSubject().isURIResource()) {
-                        res.add(s.getSubject().inModel(model));
-                    }
-                    if (s.getObject().isURIResource()) {
-                        res.add(s.getResource().inModel(model));
-                    }
-                });
-                return res.iterator();
-            });
+            return Graphs.listURINodes(model.getBaseGraph()).mapWith(model::wrapAsResource);
         }
 
     },
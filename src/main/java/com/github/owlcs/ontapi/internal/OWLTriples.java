@@ -105,5 +105,21 @@ public class OWLTriples<V extends OWLObject> extends ONTWrapperImpl<V> {
         public <X extends OWLObject> OWLTriples<X> toObject(X key) {
             return new OWLTriples<>(key, triples);
         }
+
+        /**
+         * Makes a {@link OWLTriples}-container from the triples collected so far,
+         * and then clears the listener to collect the triples of the next object.
+         * Used while adding objects in a batch.
+         *
+         * @param key {@link X} the {@link OWLObject}, not {@code null}
+         * @param <X> any subtype of {@link OWLObject}
+         * @return {@link OWLTriples}
+         * @since 2.1.0
+         */
+        public <X extends OWLObject> OWLTriples<X> flush(X key) {
+            OWLTriples<X> res = new OWLTriples<>(key, new HashSet<>(triples));
+            triples.clear();
+            return res;
+        }
     }
 }
@@ -16,6 +16,7 @@ package com.github.owlcs.ontapi.internal;
 
 import org.semanticweb.owlapi.model.OWLObject;
 
+import java.util.Collection;
 import java.util.stream.Stream;
 
 /**
@@ -82,6 +83,28 @@ public interface ObjectMap<X extends OWLObject> {
      */
     void add(ONTObject<X> value);
 
+    /**
+     * Adds all the given objects with their associated triples to internal map, if is is supported.
+     *
+     * @param values {@code Collection} of {@link ONTObject}s, not {@code null}
+     * @see #add(ONTObject)
+     * @since 2.1.0
+     */
+    default void addAll(Collection<? extends ONTObject<X>> values) {
+        values.forEach(this::add);
+    }
+
+    /**
+     * Puts the given object, that has been read from the graph, into internal map, if it is supported.
+     * Unlike {@link #add(ONTObject)}, the object is not considered as manually added.
+     * If the map already contains an equal object, they are merged.
+     * No-op in case the map is not {@link #isLoaded() loaded}.
+     *
+     * @param value {@link ONTObject} of {@link X}, not {@code null}
+     * @since 2.1.0
+     */
+    void put(ONTObject<X> value);
+
     /**
      * Removes the given object and all its associated triples from internal map, if is is supported.
      *
@@ -0,0 +1,101 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.internal;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLPrimitive;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An inverted index that maps each {@link OWLPrimitive primitive} component
+ * (i.e. {@link org.semanticweb.owlapi.model.IRI IRI}, {@link org.semanticweb.owlapi.model.OWLEntity entity},
+ * {@link org.semanticweb.owlapi.model.OWLLiteral literal}
+ * or {@link org.semanticweb.owlapi.model.OWLAnonymousIndividual anonymous individual})
+ * to the set of axioms that reference it.
+ * It is built from the content cache and is used to answer the referencing axioms queries
+ * (see {@link InternalReadModel#listOWLAxioms(OWLPrimitive)}) in time proportional to the size of the result.
+ * The index is not thread-safe: modifications are expected to be guarded by the model write lock.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see com.github.owlcs.ontapi.config.CacheSettings#useReferencesCache()
+ * @since 2.1.0
+ */
+public class ReferencesIndex {
+    private static final List<OWLComponentType> TYPES = Arrays.stream(OWLComponentType.values())
+            .filter(OWLComponentType::isPrimitive).collect(Collectors.toList());
+
+    private final Map<OWLObject, Set<OWLAxiom>> map = new HashMap<>();
+
+    /**
+     * Lists all primitive components of the given axiom.
+     *
+     * @param axiom {@link OWLAxiom}
+     * @return {@code Stream} of {@link OWLObject}s
+     */
+    private static Stream<OWLObject> components(OWLAxiom axiom) {
+        return TYPES.stream().flatMap(t -> t.select(axiom)).distinct();
+    }
+
+    /**
+     * Indexes the given axiom.
+     *
+     * @param axiom {@link OWLAxiom}, not {@code null}
+     */
+    public void add(OWLAxiom axiom) {
+        components(axiom).forEach(k -> map.computeIfAbsent(k, x -> new HashSet<>()).add(axiom));
+    }
+
+    /**
+     * Removes the given axiom from the index.
+     *
+     * @param axiom {@link OWLAxiom}, not {@code null}
+     */
+    public void remove(OWLAxiom axiom) {
+        components(axiom).forEach(k -> {
+            Set<OWLAxiom> res = map.get(k);
+            if (res == null) return;
+            res.remove(axiom);
+            if (res.isEmpty()) {
+                map.remove(k);
+            }
+        });
+    }
+
+    /**
+     * Lists all axioms that reference the given primitive.
+     * The returned stream is a snapshot and is not affected by further modifications of the index.
+     *
+     * @param primitive {@link OWLPrimitive}, not {@code null}
+     * @return a {@code Stream} of {@link OWLAxiom}s
+     */
+    public Stream<OWLAxiom> axioms(OWLPrimitive primitive) {
+        Set<OWLAxiom> res = map.get(primitive);
+        return res == null ? Stream.empty() : new ArrayList<>(res).stream();
+    }
+
+    /**
+     * Answers the number of indexed primitives.
+     *
+     * @return long
+     */
+    public long size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.internal;
+
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cost-based planner that chooses the way to search axioms referencing a primitive
+ * (see {@link InternalReadModel#listOWLAxioms(org.semanticweb.owlapi.model.OWLPrimitive)}):
+ * either the graph search ({@link ByObjectSearcher}) or the straightforward parsing of the loaded content cache.
+ * The estimated cost of a strategy is the number of units to process multiplied by the cost of a unit:
+ * for the graph way a unit is a triple, that refers to the primitive
+ * (the number is taken from the graph indexes and the per-predicate statistics),
+ * for the cache way a unit is an axiom from the buckets, that are capable to contain the primitive.
+ * The costs of units are initialized with the empirical values (the former hard-coded thresholds)
+ * and then refined with the observed latencies of the both strategies;
+ * to keep the statistics up to date, the other strategy is tried periodically,
+ * but only if its estimated cost is comparable to the cost of the preferred one.
+ * The graph statistics (triple counts) are per-model, they are cached and must be {@link #invalidate() invalidated}
+ * on any change.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see InternalModel#getSearchPlanner()
+ * @since 2.1.0
+ */
+public class SearchPlanner {
+    /**
+     * The default cost of an axiom from a content cache bucket, in nanoseconds.
+     */
+    public static final double DEFAULT_CACHE_COST = 50;
+    /**
+     * Each {@code EXPLORATION_PERIOD}-th choice for a component type is given to the more expensive strategy
+     * to refresh its observed cost, if it is not too expensive (see {@link #EXPLORATION_FACTOR}).
+     */
+    public static final long EXPLORATION_PERIOD = 64;
+    /**
+     * The exploration is postponed while the estimate of the more expensive strategy
+     * exceeds the estimate of the cheaper one more than in {@code EXPLORATION_FACTOR} times,
+     * so that a periodic refresh of the costs never turns into a latency spike.
+     */
+    public static final double EXPLORATION_FACTOR = 4;
+    /**
+     * The maximum number of nodes whose reference counts are remembered.
+     */
+    protected static final long REFERENCES_CACHE_SIZE = 4096;
+    /**
+     * The maximum number of triples to count while estimating the graph way.
+     */
+    protected static final long COUNT_LIMIT = 100_000;
+    // the weight of a new observation in the moving average
+    private static final double ALPHA = 0.3;
+
+    private final Map<OWLComponentType, Stats> stats;
+    // per-predicate triple counts, calculated on demand
+    private final Map<Node, Long> predicates = new ConcurrentHashMap<>();
+    // per-node (subject + object) triple counts, calculated on demand, LRU
+    private final InternalCache<Node, Long> references = InternalCache.createBounded(true, REFERENCES_CACHE_SIZE);
+
+    public SearchPlanner() {
+        Map<OWLComponentType, Stats> res = new EnumMap<>(OWLComponentType.class);
+        // the former empirical thresholds in terms of the costs ratio:
+        res.put(OWLComponentType.CLASS, new Stats(40));
+        res.put(OWLComponentType.NAMED_OBJECT_PROPERTY, new Stats(200));
+        res.put(OWLComponentType.ANNOTATION_PROPERTY, new Stats(200));
+        res.put(OWLComponentType.DATATYPE_PROPERTY, new Stats(20));
+        res.put(OWLComponentType.NAMED_INDIVIDUAL, new Stats(300));
+        // there are usually only a few datatypes, but many their entrances:
+        res.put(OWLComponentType.DATATYPE, new Stats(10_000));
+        this.stats = Collections.unmodifiableMap(res);
+    }
+
+    /**
+     * Answers {@code true} if the choice is planned for the given component type.
+     * For other types (IRI, literal, anonymous individual) the graph way is always faster.
+     *
+     * @param type {@link OWLComponentType}
+     * @return boolean
+     */
+    public boolean isSupported(OWLComponentType type) {
+        return stats.containsKey(type);
+    }
+
+    /**
+     * Chooses the strategy.
+     *
+     * @param type       {@link OWLComponentType}, must be {@link #isSupported(OWLComponentType) supported}
+     * @param graphUnits long, the number of triples to process in the graph way
+     * @param cacheUnits long, the number of axioms to process in the cache way
+     * @return {@link Plan}
+     */
+    public Plan choose(OWLComponentType type, long graphUnits, long cacheUnits) {
+        Stats s = get(type);
+        s.graphUnits = graphUnits;
+        s.cacheUnits = cacheUnits;
+        double graph = s.estimate(Strategy.GRAPH, graphUnits);
+        double cache = s.estimate(Strategy.CACHE, cacheUnits);
+        Strategy res = graph < cache ? Strategy.GRAPH : Strategy.CACHE;
+        if (s.choices.incrementAndGet() % EXPLORATION_PERIOD == 0) {
+            s.explore = true;
+        }
+        if (s.explore && Math.max(graph, cache) <= EXPLORATION_FACTOR * Math.min(graph, cache)) {
+            // the exploration is due and not too expensive
+            s.explore = false;
+            res = res == Strategy.GRAPH ? Strategy.CACHE : Strategy.GRAPH;
+        }
+        s.chosen[res.ordinal()].incrementAndGet();
+        return new Plan(res, type, res == Strategy.GRAPH ? graphUnits : cacheUnits);
+    }
+
+    /**
+     * Wraps the iterator to measure the time spent to exhaust it.
+     * The observation is taken into account only if the iterator is fully consumed.
+     * Closing the returned iterator closes the source, if it is {@link ExtendedIterator}.
+     *
+     * @param iterator {@code Iterator} of the chosen strategy
+     * @param plan     {@link Plan}, that has been made by this planner
+     * @param <X>      anything
+     * @return {@link ExtendedIterator}
+     */
+    public <X> ExtendedIterator<X> measure(Iterator<X> iterator, Plan plan) {
+        ExtendedIterator<X> source = Iter.create(iterator);
+        if (plan.type == null) {
+            return source;
+        }
+        Stats s = get(plan.type);
+        Strategy strategy = plan.strategy;
+        long units = plan.units;
+        return new NiceIterator<X>() {
+            private long time;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                long start = System.nanoTime();
+                boolean res = source.hasNext();
+                time += System.nanoTime() - start;
+                if (!res && !done) {
+                    done = true;
+                    s.observe(strategy, time, units);
+                    source.close();
+                }
+                return res;
+            }
+
+            @Override
+            public X next() {
+                long start = System.nanoTime();
+                X res = source.next();
+                time += System.nanoTime() - start;
+                return res;
+            }
+
+            @Override
+            public void close() {
+                source.close();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of triples with the given predicate.
+     * The value is cached until the next {@link #invalidate()}.
+     *
+     * @param graph     {@link Graph}
+     * @param predicate {@link Node}
+     * @return long
+     */
+    public long getPredicateCount(Graph graph, Node predicate) {
+        return predicates.computeIfAbsent(predicate, p -> count(graph, Node.ANY, p, Node.ANY));
+    }
+
+    /**
+     * Counts the triples referring the node in subject, object and, optionally, predicate position.
+     * The values are cached until the next {@link #invalidate()}, at most {@link #REFERENCES_CACHE_SIZE} nodes.
+     *
+     * @param graph     {@link Graph}
+     * @param node      {@link Node}
+     * @param predicate boolean, if {@code true} the node is also a property
+     * @return long
+     */
+    public long countReferences(Graph graph, Node node, boolean predicate) {
+        long res = references.get(node,
+                n -> count(graph, n, Node.ANY, Node.ANY) + count(graph, Node.ANY, Node.ANY, n));
+        return predicate ? res + getPredicateCount(graph, node) : res;
+    }
+
+    private static long count(Graph graph, Node s, Node p, Node o) {
+        ExtendedIterator<?> it = graph.find(s, p, o);
+        try {
+            long res = 0;
+            while (res < COUNT_LIMIT && it.hasNext()) {
+                it.next();
+                res++;
+            }
+            return res;
+        } finally {
+            it.close();
+        }
+    }
+
+    /**
+     * Releases the graph statistics.
+     * The observed costs are kept, since they do not depend on the particular data.
+     */
+    public void invalidate() {
+        predicates.clear();
+        references.clear();
+    }
+
+    /**
+     * Returns the cached per-predicate triple counts.
+     *
+     * @return unmodifiable {@code Map}
+     */
+    public Map<Node, Long> getPredicateCounts() {
+        return Collections.unmodifiableMap(new HashMap<>(predicates));
+    }
+
+    /**
+     * Returns the current cost of a unit for the type and strategy.
+     *
+     * @param type     {@link OWLComponentType}
+     * @param strategy {@link Strategy}
+     * @return double, nanoseconds
+     */
+    public double getCost(OWLComponentType type, Strategy strategy) {
+        return get(type).cost(strategy);
+    }
+
+    /**
+     * Returns the number of observed latencies for the type and strategy.
+     *
+     * @param type     {@link OWLComponentType}
+     * @param strategy {@link Strategy}
+     * @return long
+     */
+    public long getSampleCount(OWLComponentType type, Strategy strategy) {
+        return get(type).samples[strategy.ordinal()].get();
+    }
+
+    /**
+     * Returns the number of times the strategy has been chosen for the type.
+     *
+     * @param type     {@link OWLComponentType}
+     * @param strategy {@link Strategy}
+     * @return long
+     */
+    public long getChoiceCount(OWLComponentType type, Strategy strategy) {
+        return get(type).chosen[strategy.ordinal()].get();
+    }
+
+    /**
+     * Returns the number of axioms in the cache buckets, that has been considered by the last choice for the type.
+     *
+     * @param type {@link OWLComponentType}
+     * @return long
+     */
+    public long getCacheSize(OWLComponentType type) {
+        return get(type).cacheUnits;
+    }
+
+    /**
+     * Returns the number of triples, that has been considered by the last choice for the type.
+     *
+     * @param type {@link OWLComponentType}
+     * @return long
+     */
+    public long getGraphSize(OWLComponentType type) {
+        return get(type).graphUnits;
+    }
+
+    private Stats get(OWLComponentType type) {
+        Stats res = stats.get(type);
+        if (res == null) {
+            throw new IllegalArgumentException("Not supported: " + type);
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder res = new StringBuilder("SearchPlanner{");
+        stats.forEach((k, v) -> res.append(k)
+                .append("=[graph: ").append(v.cost(Strategy.GRAPH)).append("ns x").append(v.chosen[0])
+                .append(", cache: ").append(v.cost(Strategy.CACHE)).append("ns x").append(v.chosen[1])
+                .append("], "));
+        return res.append("predicates=").append(predicates.size()).append('}').toString();
+    }
+
+    /**
+     * The search strategies.
+     */
+    public enum Strategy {
+        /**
+         * To search in the graph using {@link ByObjectSearcher}.
+         */
+        GRAPH,
+        /**
+         * To parse the loaded content cache.
+         */
+        CACHE,
+    }
+
+    /**
+     * A planned strategy.
+     */
+    public static class Plan {
+        /**
+         * The graph way, that is not chosen by the planner.
+         */
+        public static final Plan GRAPH = new Plan(Strategy.GRAPH, null, 0);
+        /**
+         * The cache way, that is not chosen by the planner.
+         */
+        public static final Plan CACHE = new Plan(Strategy.CACHE, null, 0);
+
+        private final Strategy strategy;
+        private final OWLComponentType type;
+        private final long units;
+
+        protected Plan(Strategy strategy, OWLComponentType type, long units) {
+            this.strategy = Objects.requireNonNull(strategy);
+            this.type = type;
+            this.units = units;
+        }
+
+        /**
+         * Returns the chosen strategy.
+         *
+         * @return {@link Strategy}
+         */
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * Answers {@code true} if the strategy has been chosen by the planner,
+         * and therefore its latency should be {@link #measure(Iterator, Plan) measured}.
+         *
+         * @return boolean
+         */
+        public boolean isPlanned() {
+            return type != null;
+        }
+
+        /**
+         * Answers {@code true} if the graph way is chosen.
+         *
+         * @return boolean
+         */
+        public boolean isGraph() {
+            return strategy == Strategy.GRAPH;
+        }
+    }
+
+    /**
+     * The statistics for a component type.
+     */
+    private static class Stats {
+        private final double[] costs;
+        private final AtomicLong[] samples = {new AtomicLong(), new AtomicLong()};
+        private final AtomicLong[] chosen = {new AtomicLong(), new AtomicLong()};
+        private final AtomicLong choices = new AtomicLong();
+        // true if the exploration is due, but has been postponed as too expensive
+        private volatile boolean explore;
+        private volatile long graphUnits;
+        private volatile long cacheUnits;
+
+        private Stats(double ratio) {
+            this.costs = new double[]{DEFAULT_CACHE_COST * ratio, DEFAULT_CACHE_COST};
+        }
+
+        private synchronized double cost(Strategy strategy) {
+            return costs[strategy.ordinal()];
+        }
+
+        private double estimate(Strategy strategy, long units) {
+            return cost(strategy) * Math.max(units, 1);
+        }
+
+        private synchronized void observe(Strategy strategy, long time, long units) {
+            int i = strategy.ordinal();
+            double cost = (double) time / Math.max(units, 1);
+            costs[i] = samples[i].getAndIncrement() == 0 ? cost : costs[i] + ALPHA * (cost - costs[i]);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.internal;
+
+import com.github.owlcs.ontapi.DataFactory;
+import com.github.owlcs.ontapi.config.AxiomsSettings;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.impl.conf.OntPersonality;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A cache of translated content ({@link ONTObject} axioms and header annotations),
+ * that can be shared between different models built over the same base graph.
+ * An entry is keyed by the identity of the base graph,
+ * and is valid only for the same imports closure (the same base graphs in the same order),
+ * for the same {@link AxiomsSettings axioms settings}, {@link OntPersonality personality} and {@link DataFactory},
+ * since the translation depends on them (e.g. an entity type may be declared in an imported graph).
+ * The entry listens all the graphs of the closure and is dropped on any change in any of them,
+ * so the content is translated again by the next model asking for it.
+ * The graph listener refers to the entry weakly,
+ * so the entries are also released under memory pressure.
+ * <p>
+ * The cache is attached to a manager
+ * (see {@link com.github.owlcs.ontapi.OntologyManagerImpl#setSharedContentCache(SharedContentCache)}),
+ * and the same instance can be given to several managers.
+ * Note: the shared {@link ONTObject}s are attached to the model, that has translated them;
+ * this is correct while the graphs are the same, but that model will not be garbage collected until the entry is.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @since 2.1.0
+ */
+public class SharedContentCache {
+    protected final InternalCache<Graph, Entry> entries = InternalCache.createIdentitySoft();
+
+    /**
+     * Lists the content of the given type for the given model graph.
+     * If there is no valid entry, the {@code loader} is called once and its result is stored.
+     *
+     * @param graph       {@link UnionGraph} of the model, not {@code null}
+     * @param personality {@link OntPersonality} of the model, not {@code null}
+     * @param factory     {@link DataFactory} of the model, not {@code null}
+     * @param settings    {@link AxiomsSettings}, not {@code null}
+     * @param key         {@link OWLTopObjectType}, not {@code null}
+     * @param loader      a {@code Supplier} to translate the content from the graph, not {@code null}
+     * @return {@code Iterator} over {@link ONTObject}s
+     */
+    public Iterator<ONTObject<OWLObject>> listContent(UnionGraph graph,
+                                                      OntPersonality personality,
+                                                      DataFactory factory,
+                                                      AxiomsSettings settings,
+                                                      OWLTopObjectType key,
+                                                      Supplier<Iterator<ONTObject<OWLObject>>> loader) {
+        return getEntry(graph, personality, factory, settings).get(key, loader).iterator();
+    }
+
+    /**
+     * Drops the entry for the given base graph, if any.
+     *
+     * @param base {@link Graph}
+     */
+    public void invalidate(Graph base) {
+        Entry res;
+        synchronized (entries) {
+            res = entries.get(Graphs.getBase(base));
+            if (res == null) return;
+            entries.remove(res.base);
+        }
+        res.detach();
+    }
+
+    /**
+     * Drops all the entries.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Answers the number of entries, i.e. the number of base graphs that have cached content.
+     *
+     * @return long
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    protected Entry getEntry(UnionGraph graph,
+                             OntPersonality personality,
+                             DataFactory factory,
+                             AxiomsSettings settings) {
+        Graph base = Graphs.getBase(graph.getBaseGraph());
+        List<Graph> closure = graph.listBaseGraphs().mapWith(Graphs::getBase).toList();
+        Entry res;
+        Entry prev;
+        synchronized (entries) {
+            prev = res = entries.get(base);
+            if (res != null && res.matches(closure, personality, factory, settings)) {
+                return res;
+            }
+            res = new Entry(base, closure, personality, factory, settings);
+            entries.put(base, res);
+        }
+        if (prev != null) {
+            prev.detach();
+        }
+        res.attach();
+        return res;
+    }
+
+    private void drop(Entry entry) {
+        synchronized (entries) {
+            if (entries.get(entry.base) == entry) {
+                entries.remove(entry.base);
+            }
+        }
+        entry.detach();
+    }
+
+    /**
+     * A cached content of a base graph.
+     */
+    protected class Entry {
+        protected final Graph base;
+        protected final List<Graph> closure;
+        protected final OntPersonality personality;
+        protected final DataFactory factory;
+        protected final AxiomsSettings settings;
+        protected final Listener listener;
+        protected final Map<OWLTopObjectType, Bucket> buckets = new ConcurrentHashMap<>();
+        protected volatile boolean valid = true;
+
+        protected Entry(Graph base,
+                        List<Graph> closure,
+                        OntPersonality personality,
+                        DataFactory factory,
+                        AxiomsSettings settings) {
+            this.base = base;
+            this.closure = closure;
+            this.personality = personality;
+            this.factory = factory;
+            this.settings = settings;
+            this.listener = new Listener(this);
+        }
+
+        protected boolean matches(List<Graph> closure,
+                                  OntPersonality personality,
+                                  DataFactory factory,
+                                  AxiomsSettings settings) {
+            if (!valid || this.personality != personality || this.factory != factory
+                    || this.closure.size() != closure.size()
+                    || !InternalReadModel.sameAxiomsSettings(this.settings, settings)) {
+                return false;
+            }
+            for (int i = 0; i < closure.size(); i++) {
+                if (this.closure.get(i) != closure.get(i)) return false;
+            }
+            return true;
+        }
+
+        protected List<ONTObject<OWLObject>> get(OWLTopObjectType key,
+                                                 Supplier<Iterator<ONTObject<OWLObject>>> loader) {
+            return buckets.computeIfAbsent(key, k -> new Bucket()).get(loader, this);
+        }
+
+        protected void attach() {
+            closure.forEach(g -> g.getEventManager().register(listener));
+        }
+
+        protected void detach() {
+            valid = false;
+            listener.detach();
+        }
+
+        protected void invalidate() {
+            if (valid) {
+                drop(this);
+            }
+        }
+    }
+
+    /**
+     * A {@link org.apache.jena.graph.GraphListener} to drop an {@link Entry} on any change in the closure graphs.
+     * It holds the entry and the graphs weakly, so the graphs do not keep the cached content
+     * (and the model that has translated it) in memory;
+     * if the entry has been collected, the listener unregisters itself on the next event.
+     */
+    protected static class Listener extends GraphListenerBase {
+        private final WeakReference<Entry> entry;
+        private final List<WeakReference<Graph>> graphs;
+
+        protected Listener(Entry entry) {
+            this.entry = new WeakReference<>(entry);
+            this.graphs = entry.closure.stream().map(WeakReference::new).collect(Collectors.toList());
+        }
+
+        protected void invalidate() {
+            Entry res = entry.get();
+            if (res == null) {
+                detach();
+                return;
+            }
+            res.invalidate();
+        }
+
+        protected void detach() {
+            graphs.forEach(ref -> {
+                Graph g = ref.get();
+                if (g != null) {
+                    g.getEventManager().unregister(this);
+                }
+            });
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            invalidate();
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            invalidate();
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph other) {
+            invalidate();
+        }
+
+        @Override
+        public void notifyDeleteGraph(Graph g, Graph other) {
+            invalidate();
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            invalidate();
+        }
+    }
+
+    /**
+     * A lazily translated list of objects of a single {@link OWLTopObjectType}.
+     */
+    protected static class Bucket {
+        private volatile List<ONTObject<OWLObject>> values;
+
+        protected List<ONTObject<OWLObject>> get(Supplier<Iterator<ONTObject<OWLObject>>> loader, Entry owner) {
+            List<ONTObject<OWLObject>> res = values;
+            if (res != null) {
+                return res;
+            }
+            synchronized (this) {
+                if ((res = values) != null) {
+                    return res;
+                }
+                List<ONTObject<OWLObject>> list = new ArrayList<>();
+                loader.get().forEachRemaining(list::add);
+                res = Collections.unmodifiableList(list);
+                if (owner.valid) {
+                    // do not keep the content, if the graph has been changed while loading
+                    values = res;
+                }
+                return res;
+            }
+        }
+    }
+}
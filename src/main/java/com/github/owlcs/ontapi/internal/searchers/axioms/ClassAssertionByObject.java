@@ -14,9 +14,14 @@
 
 package com.github.owlcs.ontapi.internal.searchers.axioms;
 
+import com.github.owlcs.ontapi.jena.impl.IndividualIndex;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.model.OntStatement;
+import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.OWLClassExpression;
 
@@ -27,7 +32,14 @@ public class ClassAssertionByObject extends ClassAssertionByOperand<OWLClassExpr
 
     @Override
     protected ExtendedIterator<OntStatement> listStatements(OntModel model, OWLClassExpression clazz) {
-        return listByPredicateAndObject(model, RDF.type, asResource(clazz));
+        Resource object = asResource(clazz);
+        IndividualIndex index = getIndividualIndex(model);
+        if (index == null) {
+            return listByPredicateAndObject(model, RDF.type, object);
+        }
+        Node o = object.asNode();
+        return listLocalStatements(model, Iter.create(index.getIndividuals(o))
+                .mapWith(i -> Triple.create(i, RDF.Nodes.type, o)));
     }
 
 }
@@ -19,8 +19,12 @@ import com.github.owlcs.ontapi.internal.ONTObject;
 import com.github.owlcs.ontapi.internal.ONTObjectFactory;
 import com.github.owlcs.ontapi.internal.OWLTopObjectType;
 import com.github.owlcs.ontapi.internal.axioms.ClassAssertionTranslator;
+import com.github.owlcs.ontapi.jena.impl.IndividualIndex;
+import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.model.OntStatement;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLObject;
@@ -33,6 +37,28 @@ abstract class ClassAssertionByOperand<O extends OWLObject> extends BaseByObject
 
     protected abstract ExtendedIterator<OntStatement> listStatements(OntModel model, O operand);
 
+    /**
+     * Returns the {@link IndividualIndex} of the model if it is enabled.
+     *
+     * @param model {@link OntModel}
+     * @return {@link IndividualIndex} or {@code null}
+     */
+    static IndividualIndex getIndividualIndex(OntModel model) {
+        return model instanceof OntGraphModelImpl ? ((OntGraphModelImpl) model).getIndividualIndex() : null;
+    }
+
+    /**
+     * Lists the given class assertions which are present in the base graph.
+     *
+     * @param model      {@link OntModel}
+     * @param assertions {@link ExtendedIterator} of {@link Triple}s
+     * @return {@link ExtendedIterator} of {@link OntStatement}s
+     */
+    static ExtendedIterator<OntStatement> listLocalStatements(OntModel model, ExtendedIterator<Triple> assertions) {
+        Graph base = model.getBaseGraph();
+        return assertions.filterKeep(base::contains).mapWith(model::asStatement);
+    }
+
     @Override
     public final ExtendedIterator<ONTObject<OWLClassAssertionAxiom>> listONTAxioms(O operand,
                                                                                    OntModel model,
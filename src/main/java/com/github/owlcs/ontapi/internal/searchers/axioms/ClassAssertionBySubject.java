@@ -14,9 +14,14 @@
 
 package com.github.owlcs.ontapi.internal.searchers.axioms;
 
+import com.github.owlcs.ontapi.jena.impl.IndividualIndex;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.model.OntStatement;
+import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.OWLIndividual;
 
@@ -27,7 +32,14 @@ public class ClassAssertionBySubject extends ClassAssertionByOperand<OWLIndividu
 
     @Override
     protected ExtendedIterator<OntStatement> listStatements(OntModel model, OWLIndividual individual) {
-        return listBySubjectAndPredicate(model, asResource(individual), RDF.type);
+        Resource subject = asResource(individual);
+        IndividualIndex index = getIndividualIndex(model);
+        if (index == null) {
+            return listBySubjectAndPredicate(model, subject, RDF.type);
+        }
+        Node s = subject.asNode();
+        return listLocalStatements(model, Iter.create(index.getClasses(s))
+                .mapWith(c -> Triple.create(s, RDF.Nodes.type, c)));
     }
 
 }
@@ -0,0 +1,231 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.jena;
+
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import org.apache.jena.graph.Capabilities;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.mem.GraphMem;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.shared.impl.PrefixMappingImpl;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.util.Objects;
+
+/**
+ * A {@code Graph} that is an overlay over a frozen (i.e. never modified) base graph.
+ * All modifications are recorded in two in-memory delta graphs (the added and the deleted triples),
+ * the base graph is never touched.
+ * So the creation of such a graph costs nothing, whatever the size of the base is,
+ * and the memory consumption is proportional to the number of changes only.
+ * Many overlays may share the same base.
+ * <p>
+ * The invariants are: the added triples are not in the base, the deleted triples are in the base.
+ * So, {@code find} is {@code base - deleted + added}, and the graph is distinct if the base is distinct.
+ * The prefixes of the base are copied on the first access.
+ * The triples are matched by term-equality, like in {@link VersionedGraph}.
+ * <p>
+ * The base must not be modified while the overlay is in use, this is not controlled.
+ * Use {@link VersionedGraph#snapshot()} to get a truly frozen base from a mutable graph.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @since 2.1.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class CopyOnWriteGraph extends GraphBase {
+    protected final Graph base;
+    protected final Graph added;
+    protected final Graph deleted;
+
+    /**
+     * Creates an overlay over the given graph.
+     *
+     * @param base {@link Graph}, not {@code null}
+     */
+    public CopyOnWriteGraph(Graph base) {
+        this.base = Objects.requireNonNull(base, "Null base graph");
+        this.added = new GraphMem();
+        this.deleted = new GraphMem();
+    }
+
+    /**
+     * Returns the frozen base graph.
+     *
+     * @return {@link Graph}
+     */
+    public Graph getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the triples that have been added to this graph and are absent in the base.
+     *
+     * @return {@link Graph}
+     */
+    public Graph getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the triples of the base that have been deleted from this graph.
+     *
+     * @return {@link Graph}
+     */
+    public Graph getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Answers {@code true} if the content of this graph differs from the base.
+     *
+     * @return boolean
+     */
+    public boolean isModified() {
+        return !added.isEmpty() || !deleted.isEmpty();
+    }
+
+    /**
+     * Creates a new overlay with the same content, that shares the base with this graph.
+     * The delta is copied.
+     *
+     * @return {@link CopyOnWriteGraph}
+     */
+    public CopyOnWriteGraph fork() {
+        CopyOnWriteGraph res = new CopyOnWriteGraph(base);
+        added.find().forEachRemaining(res.added::add);
+        deleted.find().forEachRemaining(res.deleted::add);
+        res.getPrefixMapping().setNsPrefixes(getPrefixMapping());
+        return res;
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        if (contains(deleted, t)) {
+            deleted.delete(t);
+            return;
+        }
+        if (!contains(base, t)) {
+            added.add(t);
+        }
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        if (contains(added, t)) {
+            added.delete(t);
+            return;
+        }
+        if (contains(base, t)) {
+            deleted.add(t);
+        }
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        ExtendedIterator<Triple> res = base.find(m);
+        if (!deleted.isEmpty()) {
+            res = res.filterDrop(t -> contains(deleted, t));
+        }
+        return added.isEmpty() ? res : res.andThen(added.find(m));
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        if (!t.isConcrete()) {
+            return super.graphBaseContains(t);
+        }
+        return contains(added, t) || !contains(deleted, t) && contains(base, t);
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return (int) (Graphs.size(base) - deleted.size() + added.size());
+    }
+
+    @Override
+    protected PrefixMapping createPrefixMapping() {
+        return new PrefixMappingImpl().setNsPrefixes(base.getPrefixMapping());
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return capabilities == null ? capabilities = new Capabilities() {
+            @Override
+            public boolean sizeAccurate() {
+                return true;
+            }
+
+            @Override
+            public boolean addAllowed() {
+                return true;
+            }
+
+            @Override
+            public boolean addAllowed(boolean every) {
+                return true;
+            }
+
+            @Override
+            public boolean deleteAllowed() {
+                return true;
+            }
+
+            @Override
+            public boolean deleteAllowed(boolean every) {
+                return true;
+            }
+
+            @Override
+            public boolean iteratorRemoveAllowed() {
+                return false;
+            }
+
+            @Override
+            public boolean canBeEmpty() {
+                return true;
+            }
+
+            @Override
+            public boolean findContractSafe() {
+                return true;
+            }
+
+            @Override
+            public boolean handlesLiteralTyping() {
+                return false;
+            }
+        } : capabilities;
+    }
+
+    /**
+     * Answers {@code true} if the graph contains exactly the given triple (term-equality).
+     * Note: {@link GraphMem} matches literals by value, which is not acceptable here.
+     *
+     * @param g {@link Graph}
+     * @param t {@link Triple}, concrete
+     * @return boolean
+     */
+    private static boolean contains(Graph g, Triple t) {
+        Node o = t.getObject();
+        if (!o.isLiteral()) {
+            return g.contains(t);
+        }
+        return Iter.anyMatch(g.find(t), t::equals);
+    }
+}
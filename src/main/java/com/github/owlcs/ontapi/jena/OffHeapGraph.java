@@ -0,0 +1,629 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena;
+
+import org.apache.jena.graph.*;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary-encoded in-memory {@code Graph}, that keeps its triple indexes outside the java heap.
+ * It is intended to be used as a base graph for really large ontologies instead of
+ * the {@link org.apache.jena.mem.GraphMem}, where each triple is a separate heap object
+ * referenced from three hash-indexes, which leads to a high memory consumption and long GC pauses.
+ * <p>
+ * Each distinct {@link Node} is encoded as an {@code int} identifier (the dictionary),
+ * and each triple is stored as a fixed-size record of {@code int}s in the direct (off-heap) memory.
+ * A record contains the subject, predicate and object identifiers and
+ * links to the previous and next records with the same subject, predicate and object,
+ * so there are three doubly-linked indexes: by subject (SPO), by predicate (POS) and by object (OSP).
+ * Every node also has off-heap heads and lengths of its three chains,
+ * the shortest chain among the bound positions is used to answer a {@link #find(Triple) find} query.
+ * The only heap-resident part is the array of the distinct {@code Node}s themselves;
+ * the {@code Node -> id} hash table is also off-heap.
+ * <p>
+ * Notes:
+ * <ul>
+ * <li>The dictionary is append-only: nodes are not removed from it when their last triple is deleted,
+ * this is the same as string interning.</li>
+ * <li>The nodes are matched by term-equality, i.e. this graph does not handle literal typing
+ * (see {@link Capabilities#handlesLiteralTyping()}): {@code "1"^^xsd:int} and {@code "01"^^xsd:int}
+ * are two different objects.</li>
+ * <li>The graph is not thread-safe, as well as the {@code GraphMem}.
+ * Use {@link RWLockedGraph} to share it between threads.
+ * The iterators are fail-fast, but support {@link java.util.Iterator#remove()}.</li>
+ * <li>The off-heap memory is not freed explicitly: the pages are direct {@code ByteBuffer}s,
+ * which are reclaimed by the JVM when they become unreachable.
+ * {@link #close() Closing} the graph drops all references to the pages, so the memory is returned
+ * after the next garbage collection, not immediately;
+ * the total amount is limited by the {@code -XX:MaxDirectMemorySize} option.</li>
+ * </ul>
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @since 2.1.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class OffHeapGraph extends GraphBase {
+    protected static final int NIL = -1;
+
+    // triple record layout: [s, p, o, next-s, next-p, next-o, prev-s, prev-p, prev-o]
+    protected static final int NEXT = 3;
+    protected static final int PREV = 6;
+    protected static final int TRIPLE_RECORD = 9;
+    // node record layout: [head-s, head-p, head-o, count-s, count-p, count-o]
+    protected static final int COUNT = 3;
+    protected static final int NODE_RECORD = 6;
+
+    protected Dictionary dictionary;
+    protected IntArray triples;
+    protected IntArray nodes;
+    // the head of the free records list, the records are linked through the next-s field
+    protected int free;
+    // the number of used (both live and free) records
+    protected int top;
+    protected int size;
+    protected int modCount;
+
+    public OffHeapGraph() {
+        init();
+    }
+
+    /**
+     * Resets the storage.
+     */
+    protected void init() {
+        this.dictionary = new Dictionary();
+        this.triples = new IntArray();
+        this.nodes = new IntArray();
+        this.free = NIL;
+        this.top = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        int s = encode(t.getSubject());
+        int p = encode(t.getPredicate());
+        int o = encode(t.getObject());
+        if (findRecord(s, p, o) != NIL) {
+            return;
+        }
+        int res = allocate();
+        long base = (long) res * TRIPLE_RECORD;
+        triples.set(base, s);
+        triples.set(base + 1, p);
+        triples.set(base + 2, o);
+        link(res, 0, s);
+        link(res, 1, p);
+        link(res, 2, o);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        int s = dictionary.find(t.getSubject());
+        int p = dictionary.find(t.getPredicate());
+        int o = dictionary.find(t.getObject());
+        if (s == NIL || p == NIL || o == NIL) {
+            return;
+        }
+        int res = findRecord(s, p, o);
+        if (res == NIL) {
+            return;
+        }
+        unlink(res, 0, s);
+        unlink(res, 1, p);
+        unlink(res, 2, o);
+        long base = (long) res * TRIPLE_RECORD;
+        triples.set(base, NIL);
+        triples.set(base + NEXT, free);
+        free = res;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        init();
+        getEventManager().notifyEvent(this, GraphEvents.removeAll);
+    }
+
+    @Override
+    public void close() {
+        dictionary.release();
+        triples.release();
+        nodes.release();
+        super.close();
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return size;
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        if (!t.isConcrete()) {
+            return super.graphBaseContains(t);
+        }
+        int s = dictionary.find(t.getSubject());
+        int p = dictionary.find(t.getPredicate());
+        int o = dictionary.find(t.getObject());
+        return s != NIL && p != NIL && o != NIL && findRecord(s, p, o) != NIL;
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        int[] pattern = new int[3];
+        int position = NIL;
+        int min = Integer.MAX_VALUE;
+        Node[] match = {m.getMatchSubject(), m.getMatchPredicate(), m.getMatchObject()};
+        for (int i = 0; i < 3; i++) {
+            if (match[i] == null) {
+                pattern[i] = NIL;
+                continue;
+            }
+            int id = dictionary.find(match[i]);
+            if (id == NIL) {
+                return NiceIterator.emptyIterator();
+            }
+            pattern[i] = id;
+            int count = count(id, i);
+            if (count < min) {
+                min = count;
+                position = i;
+            }
+        }
+        if (min == 0) {
+            return NiceIterator.emptyIterator();
+        }
+        return new TripleIterator(pattern, position);
+    }
+
+    @Override
+    protected GraphStatisticsHandler createStatisticsHandler() {
+        return (s, p, o) -> {
+            Node[] match = {s, p, o};
+            int position = NIL;
+            int id = NIL;
+            for (int i = 0; i < 3; i++) {
+                if (match[i] == null || !match[i].isConcrete()) continue;
+                if (position != NIL) return -1;
+                position = i;
+                id = dictionary.find(match[i]);
+                if (id == NIL) return 0;
+            }
+            return position == NIL ? size : count(id, position);
+        };
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return capabilities == null ? capabilities = new Capabilities() {
+            @Override
+            public boolean sizeAccurate() {
+                return true;
+            }
+
+            @Override
+            public boolean addAllowed() {
+                return true;
+            }
+
+            @Override
+            public boolean addAllowed(boolean every) {
+                return true;
+            }
+
+            @Override
+            public boolean deleteAllowed() {
+                return true;
+            }
+
+            @Override
+            public boolean deleteAllowed(boolean every) {
+                return true;
+            }
+
+            @Override
+            public boolean iteratorRemoveAllowed() {
+                return true;
+            }
+
+            @Override
+            public boolean canBeEmpty() {
+                return true;
+            }
+
+            @Override
+            public boolean findContractSafe() {
+                return true;
+            }
+
+            @Override
+            public boolean handlesLiteralTyping() {
+                return false;
+            }
+        } : capabilities;
+    }
+
+    /**
+     * Answers the identifier of the given node, creating a new dictionary entry if needed.
+     *
+     * @param node {@link Node}, not {@code null}
+     * @return int
+     */
+    protected int encode(Node node) {
+        int res = dictionary.find(node);
+        if (res != NIL) {
+            return res;
+        }
+        res = dictionary.add(node);
+        long base = (long) res * NODE_RECORD;
+        nodes.ensure(base + NODE_RECORD);
+        for (int i = 0; i < COUNT; i++) {
+            nodes.set(base + i, NIL);
+            nodes.set(base + COUNT + i, 0);
+        }
+        return res;
+    }
+
+    /**
+     * Finds the record for the given encoded triple.
+     *
+     * @param s int, subject id
+     * @param p int, predicate id
+     * @param o int, object id
+     * @return int, the record number or {@link #NIL}
+     */
+    protected int findRecord(int s, int p, int o) {
+        int[] ids = {s, p, o};
+        int position = 0;
+        int min = count(s, 0);
+        for (int i = 1; i < 3; i++) {
+            int c = count(ids[i], i);
+            if (c < min) {
+                min = c;
+                position = i;
+            }
+        }
+        int res = head(ids[position], position);
+        while (res != NIL) {
+            long base = (long) res * TRIPLE_RECORD;
+            if (triples.get(base) == s && triples.get(base + 1) == p && triples.get(base + 2) == o) {
+                return res;
+            }
+            res = triples.get(base + NEXT + position);
+        }
+        return NIL;
+    }
+
+    /**
+     * Takes a record either from the free list or from the end of the storage.
+     *
+     * @return int
+     */
+    protected int allocate() {
+        if (free != NIL) {
+            int res = free;
+            free = triples.get((long) res * TRIPLE_RECORD + NEXT);
+            return res;
+        }
+        int res = top++;
+        triples.ensure((long) top * TRIPLE_RECORD);
+        return res;
+    }
+
+    /**
+     * Inserts the record at the beginning of the node chain for the specified position.
+     *
+     * @param record   int
+     * @param position int, {@code 0} - subject, {@code 1} - predicate, {@code 2} - object
+     * @param node     int, the node id
+     */
+    protected void link(int record, int position, int node) {
+        long base = (long) record * TRIPLE_RECORD;
+        long nodeBase = (long) node * NODE_RECORD;
+        int head = nodes.get(nodeBase + position);
+        triples.set(base + NEXT + position, head);
+        triples.set(base + PREV + position, NIL);
+        if (head != NIL) {
+            triples.set((long) head * TRIPLE_RECORD + PREV + position, record);
+        }
+        nodes.set(nodeBase + position, record);
+        nodes.set(nodeBase + COUNT + position, nodes.get(nodeBase + COUNT + position) + 1);
+    }
+
+    /**
+     * Removes the record from the node chain for the specified position.
+     *
+     * @param record   int
+     * @param position int, {@code 0} - subject, {@code 1} - predicate, {@code 2} - object
+     * @param node     int, the node id
+     */
+    protected void unlink(int record, int position, int node) {
+        long base = (long) record * TRIPLE_RECORD;
+        long nodeBase = (long) node * NODE_RECORD;
+        int next = triples.get(base + NEXT + position);
+        int prev = triples.get(base + PREV + position);
+        if (prev == NIL) {
+            nodes.set(nodeBase + position, next);
+        } else {
+            triples.set((long) prev * TRIPLE_RECORD + NEXT + position, next);
+        }
+        if (next != NIL) {
+            triples.set((long) next * TRIPLE_RECORD + PREV + position, prev);
+        }
+        nodes.set(nodeBase + COUNT + position, nodes.get(nodeBase + COUNT + position) - 1);
+    }
+
+    protected int head(int node, int position) {
+        return nodes.get((long) node * NODE_RECORD + position);
+    }
+
+    protected int count(int node, int position) {
+        return nodes.get((long) node * NODE_RECORD + COUNT + position);
+    }
+
+    /**
+     * Decodes the record into the {@link Triple}.
+     *
+     * @param record int
+     * @return {@link Triple}
+     */
+    protected Triple decode(int record) {
+        long base = (long) record * TRIPLE_RECORD;
+        return Triple.create(dictionary.get(triples.get(base)),
+                dictionary.get(triples.get(base + 1)),
+                dictionary.get(triples.get(base + 2)));
+    }
+
+    /**
+     * A fail-fast iterator over the records,
+     * that either walks through a node chain or, if there is no bound position, scans the whole storage.
+     */
+    protected class TripleIterator extends NiceIterator<Triple> {
+        private final int[] pattern;
+        private final int position;
+        private int expectedModCount = modCount;
+        // the next candidate record for scanning, the prepared record for chain walking
+        private int next;
+        private int current = NIL;
+        private Triple last;
+
+        protected TripleIterator(int[] pattern, int position) {
+            this.pattern = pattern;
+            this.position = position;
+            this.next = position == NIL ? seek(0) : skip(head(pattern[position], position));
+        }
+
+        private boolean matches(int record) {
+            long base = (long) record * TRIPLE_RECORD;
+            for (int i = 0; i < 3; i++) {
+                if (pattern[i] != NIL && triples.get(base + i) != pattern[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int seek(int from) {
+            for (int i = from; i < top; i++) {
+                if (triples.get((long) i * TRIPLE_RECORD) != NIL) {
+                    return i;
+                }
+            }
+            return NIL;
+        }
+
+        private int skip(int from) {
+            int res = from;
+            while (res != NIL && !matches(res)) {
+                res = triples.get((long) res * TRIPLE_RECORD + NEXT + position);
+            }
+            return res;
+        }
+
+        private void checkModCount() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkModCount();
+            return next != NIL;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            last = decode(current);
+            next = position == NIL ? seek(current + 1) :
+                    skip(triples.get((long) current * TRIPLE_RECORD + NEXT + position));
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            checkModCount();
+            delete(last);
+            last = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * The {@code Node <-> int} dictionary.
+     * The identifiers are assigned sequentially and are never reused.
+     * The reverse index is an off-heap open-addressing hash table with linear probing.
+     */
+    protected static class Dictionary {
+        private Node[] values = new Node[1024];
+        private int count;
+        private IntArray table = new IntArray();
+        private int mask;
+
+        protected Dictionary() {
+            resize(1 << 11);
+        }
+
+        private static int hash(Node node) {
+            int h = node.hashCode();
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * Answers the node by its identifier.
+         *
+         * @param id int
+         * @return {@link Node}
+         */
+        public Node get(int id) {
+            return values[id];
+        }
+
+        /**
+         * Finds the identifier of the given node.
+         *
+         * @param node {@link Node}
+         * @return int or {@link #NIL}
+         */
+        public int find(Node node) {
+            int i = hash(node) & mask;
+            while (true) {
+                int res = table.get(i) - 1;
+                if (res == NIL) {
+                    return NIL;
+                }
+                if (node.equals(values[res])) {
+                    return res;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        /**
+         * Adds the new node, that must be absent in the dictionary.
+         *
+         * @param node {@link Node}
+         * @return int - a fresh identifier
+         */
+        public int add(Node node) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            int res = count++;
+            values[res] = node;
+            if (count * 2 > mask) {
+                resize((mask + 1) * 2);
+            } else {
+                put(node, res);
+            }
+            return res;
+        }
+
+        private void put(Node node, int id) {
+            int i = hash(node) & mask;
+            while (table.get(i) != 0) {
+                i = (i + 1) & mask;
+            }
+            // zero means an empty slot
+            table.set(i, id + 1);
+        }
+
+        private void resize(int capacity) {
+            table.release();
+            table = new IntArray();
+            table.ensure(capacity);
+            mask = capacity - 1;
+            for (int i = 0; i < count; i++) {
+                put(values[i], i);
+            }
+        }
+
+        protected void release() {
+            table.release();
+            values = new Node[0];
+            count = 0;
+        }
+    }
+
+    /**
+     * A growable {@code int}-array, that is stored in the direct (off-heap) memory as a list of fixed-size pages.
+     * A newly allocated page is filled by zeros.
+     */
+    protected static class IntArray {
+        private static final int PAGE_BITS = 14;
+        private static final int PAGE_SIZE = 1 << PAGE_BITS;
+        private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+        private IntBuffer[] pages = new IntBuffer[0];
+        private int length;
+
+        public int get(long index) {
+            return pages[(int) (index >>> PAGE_BITS)].get((int) (index & PAGE_MASK));
+        }
+
+        public void set(long index, int value) {
+            pages[(int) (index >>> PAGE_BITS)].put((int) (index & PAGE_MASK), value);
+        }
+
+        /**
+         * Ensures this array can hold at least the specified number of elements.
+         *
+         * @param size long
+         */
+        public void ensure(long size) {
+            int required = (int) ((size + PAGE_MASK) >>> PAGE_BITS);
+            if (required <= length) {
+                return;
+            }
+            if (required > pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(required, pages.length * 2));
+            }
+            for (int i = length; i < required; i++) {
+                pages[i] = ByteBuffer.allocateDirect(PAGE_SIZE * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+            length = required;
+        }
+
+        /**
+         * Drops all the pages, making them available to the garbage collector.
+         */
+        public void release() {
+            pages = new IntBuffer[0];
+            length = 0;
+        }
+    }
+}
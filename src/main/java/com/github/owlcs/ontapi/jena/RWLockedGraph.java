@@ -53,6 +53,11 @@ import java.util.stream.Collectors;
  * since the root triple {@code _:x rdf:type owl:Class} may be deleted by another thread
  * immediately after retrieving it.
  * <p>
+ * If the base graph is a {@link VersionedGraph}, which provides a consistent snapshot for each iterator,
+ * the iterators are not tracked: the read lock is taken only to obtain the snapshot
+ * (so that it never contains a half-written compound change) and is released immediately,
+ * and writers, therefore, do not wait for the iteration.
+ * <p>
  * Note: currently this {@code Graph} does not support transactions.
  * I.e. the method {@link TransactionHandler#transactionsSupported()} returns {@code false}.
  * <p>
@@ -81,6 +86,12 @@ public class RWLockedGraph implements Graph {
      * {@link GraphEventManager}, cannot be {@code null}
      */
     protected final GraphEventManager gem;
+    /**
+     * {@code true} if the base graph iterators are not affected by modifications.
+     *
+     * @see VersionedGraph
+     */
+    protected final boolean snapshots;
 
     /**
      * Constructs a new {@link RWLockedGraph Read/Write Locked Graph Wrapper}
@@ -125,6 +136,7 @@ public class RWLockedGraph implements Graph {
         if (delayInMilliseconds <= 0)
             throw new IllegalArgumentException("Non-positive delay specified.");
         this.delay = delayInMilliseconds;
+        this.snapshots = base instanceof VersionedGraph;
     }
 
     /**
@@ -211,6 +223,10 @@ public class RWLockedGraph implements Graph {
      */
     @Override
     public ExtendedIterator<Triple> find(Triple m) {
+        if (snapshots) {
+            // the lock is held only to get a snapshot between the compound changes
+            return withReadLock(() -> base.find(m));
+        }
         lock.readLock().lock();
         try {
             return new WIT<>(base.find(m));
@@ -231,6 +247,10 @@ public class RWLockedGraph implements Graph {
      */
     @Override
     public ExtendedIterator<Triple> find(Node s, Node p, Node o) {
+        if (snapshots) {
+            // the lock is held only to get a snapshot between the compound changes
+            return withReadLock(() -> base.find(s, p, o));
+        }
         lock.readLock().lock();
         try {
             return new WIT<>(base.find(s, p, o));
@@ -363,6 +383,9 @@ public class RWLockedGraph implements Graph {
      * but this number may vary depending on the environment.
      */
     protected void waitForEmptyIterators() {
+        if (snapshots) {
+            return;
+        }
         Collection<WIT<?>> iterators;
         while (!(iterators = findOtherIterators()).isEmpty()) {
             selectOldestIterator(iterators).ifPresent(this::makeIteratorSnapshot);
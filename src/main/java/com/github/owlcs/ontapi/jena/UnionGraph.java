@@ -20,12 +20,18 @@ import org.apache.jena.graph.Triple;
 import org.apache.jena.graph.compose.CompositionBase;
 import org.apache.jena.graph.impl.SimpleEventManager;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
 import org.apache.jena.util.CollectionFactory;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import com.github.owlcs.ontapi.jena.utils.Graphs;
 import com.github.owlcs.ontapi.jena.utils.Iter;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -61,6 +67,25 @@ public class UnionGraph extends CompositionBase {
      * This {@code Set} cannot contain {@link UnionGraph}s.
      */
     protected Set<Graph> graphs;
+    /**
+     * Internal cache to hold an {@link OverlapIndex} for all base graphs,
+     * used while distinct {@link Graph#find(Triple) #find(..)}.
+     * It is reset together with the {@link #graphs} cache.
+     * Only the top graph of a hierarchy holds the index, the nested union graphs share it.
+     */
+    protected volatile OverlapIndex overlaps;
+    /**
+     * The number of triples, that have passed through the duplicate checking without the {@link #overlaps index}
+     * since the last reset.
+     * The index is built only when this number reaches the {@link #indexThreshold total size} of the base graphs,
+     * so that the full scan costs no more than the work that has already been done without it.
+     */
+    protected final LongAdder unindexed = new LongAdder();
+    /**
+     * The number of {@link #unindexed} triples to build the {@link #overlaps index},
+     * {@code 0} - if it is not calculated yet, {@code Long.MAX_VALUE} - if the index is not applicable.
+     */
+    protected volatile long indexThreshold;
 
     /**
      * Creates an instance with default settings.
@@ -214,7 +239,23 @@ public class UnionGraph extends CompositionBase {
      * Clears the {@link #graphs cache}.
      */
     protected void resetGraphsCache() {
-        collectAllUnionGraphs().forEach(x -> x.graphs = null);
+        collectAllUnionGraphs().forEach(x -> {
+            x.graphs = null;
+            x.resetOverlapIndex();
+        });
+    }
+
+    /**
+     * Detaches and clears the {@link #overlaps overlap index} cache.
+     */
+    protected void resetOverlapIndex() {
+        OverlapIndex res = overlaps;
+        overlaps = null;
+        indexThreshold = 0;
+        unindexed.reset();
+        if (res != null) {
+            res.detach();
+        }
     }
 
     /**
@@ -302,12 +343,105 @@ public class UnionGraph extends CompositionBase {
         if (!distinct) {
             return Iter.flatMap(listBaseGraphs(), x -> x.find(m));
         }
-        // The logic and the comment below have been copy-pasted from the org.apache.jena.graph.compose.Union:
-        // To find in the union, find in the components, concatenate the results, and omit duplicates.
-        // That last is a performance penalty,
-        // but I see no way to remove it unless we know the graphs do not overlap.
-        Set<Triple> seen = createSet();
-        return Iter.flatMap(listBaseGraphs(), x -> recording(rejecting(x.find(m), seen), seen));
+        UnionGraph owner = getOverlapIndexOwner();
+        OverlapIndex index = owner.getOverlapIndex();
+        if (index == null) {
+            // The logic and the comment below have been copy-pasted from the org.apache.jena.graph.compose.Union:
+            // To find in the union, find in the components, concatenate the results, and omit duplicates.
+            // That last is a performance penalty,
+            // but I see no way to remove it unless we know the graphs do not overlap.
+            Set<Triple> seen = createSet();
+            LongAdder counter = owner.unindexed;
+            return Iter.flatMap(listBaseGraphs(), x -> recording(rejecting(x.find(m), seen), seen)).filterKeep(t -> {
+                counter.increment();
+                return true;
+            });
+        }
+        // A triple that is present only in a single base graph cannot be a duplicate,
+        // so only the (usually small) overlapping part is recorded into the Set
+        Predicate<Triple> filter = new Predicate<Triple>() {
+            private Set<Triple> seen;
+
+            @Override
+            public boolean test(Triple t) {
+                if (!index.mayOverlap(t)) {
+                    return true;
+                }
+                if (seen == null) {
+                    seen = createSet();
+                }
+                return seen.add(t);
+            }
+        };
+        return Iter.flatMap(listBaseGraphs(), x -> x.find(m).filterKeep(filter));
+    }
+
+    /**
+     * Returns the union graph, that holds the {@link OverlapIndex} to be used by this graph.
+     * It is the top graph of the hierarchy (if there are several, any of them).
+     * An index of an enclosing hierarchy is also valid for this graph:
+     * a triple that belongs to several graphs of this hierarchy belongs to several graphs of the enclosing one too.
+     * So there is only one index per hierarchy and the nested graphs do not duplicate it.
+     *
+     * @return {@link UnionGraph}, this instance if there are no parents or the hierarchy is recursive
+     */
+    protected UnionGraph getOverlapIndexOwner() {
+        UnionGraph res = this;
+        Set<UnionGraph> seen = new HashSet<>();
+        while (seen.add(res)) {
+            Iterator<UnionGraph> parents = res.parents.iterator();
+            if (!parents.hasNext()) {
+                return res;
+            }
+            res = parents.next();
+        }
+        return this;
+    }
+
+    /**
+     * Returns the {@link OverlapIndex} for the current collection of {@link #listBaseGraphs() base graphs},
+     * building it if necessary.
+     * The index is available only if all base graphs are in-memory
+     * (i.e. {@link Graphs#isSized(Graph) sized} and notifying about their changes)
+     * and their total size does not exceed {@link OverlapIndex#MAX_TRIPLES};
+     * for other graphs (e.g. persistent or virtual) a full scan to build the index would be too expensive.
+     * The index is built lazily, only after the distinct finds have processed as many triples as the graphs contain,
+     * so that a few finds over a large hierarchy do not pay for a full scan.
+     *
+     * @return {@link OverlapIndex} or {@code null} if the index is not applicable or not built yet
+     * @see #getOverlapIndexOwner()
+     */
+    protected OverlapIndex getOverlapIndex() {
+        OverlapIndex res = overlaps;
+        if (res != null && !res.isStale()) {
+            return res;
+        }
+        long threshold = indexThreshold;
+        if (res == null && threshold != 0 && unindexed.sum() < threshold) {
+            return null;
+        }
+        synchronized (this) {
+            res = overlaps;
+            if (res != null && !res.isStale()) {
+                return res;
+            }
+            Set<Graph> graphs = listBaseGraphs().toSet();
+            long size = graphs.stream().allMatch(Graphs::isSized) ?
+                    graphs.stream().mapToLong(Graphs::size).sum() : Long.MAX_VALUE;
+            if (res != null) {
+                res.detach();
+                overlaps = null;
+            }
+            if (size > OverlapIndex.MAX_TRIPLES) {
+                indexThreshold = Long.MAX_VALUE;
+                return null;
+            }
+            if (res == null && unindexed.sum() < size) {
+                indexThreshold = Math.max(size, 1);
+                return null;
+            }
+            return overlaps = OverlapIndex.create(graphs, size);
+        }
     }
 
     /**
@@ -329,6 +463,7 @@ public class UnionGraph extends CompositionBase {
      */
     @Override
     public void close() {
+        resetOverlapIndex();
         listBaseGraphs().forEachRemaining(Graph::close);
         collectUnionGraphs().forEach(x -> x.closed = true);
     }
@@ -524,6 +659,195 @@ public class UnionGraph extends CompositionBase {
         }
     }
 
+    /**
+     * An index to answer whether a triple may belong to more than one base graph of the hierarchy.
+     * It consists of two Bloom filters:
+     * the first one contains all triples from all graphs,
+     * the second one contains only those triples that were encountered at least twice.
+     * The answer {@code false} is exact (a triple is definitely present in no more than one graph),
+     * the answer {@code true} means the triple <b>may</b> be shared between graphs.
+     * The index is kept up to date through a {@link GraphListener} attached to each of the graphs;
+     * deletions are ignored, since they can only make the answer more conservative.
+     * When the number of additions exceeds the designed capacity the index becomes {@link #isStale() stale}
+     * and should be rebuilt.
+     * The bits are set atomically under the index monitor, so that the concurrent additions
+     * to different graphs never lose an overlap, the readers do not lock.
+     */
+    protected static class OverlapIndex {
+        private static final int BITS_PER_TRIPLE = 8;
+        private static final int NUMBER_OF_HASHES = 4;
+        private static final int MIN_CAPACITY = 1024;
+        // 16 MB for each of the two filters
+        private static final int MAX_BITS = 1 << 27;
+        /**
+         * The maximum total number of triples in the graphs to build the index for.
+         * For larger hierarchies the index is not built, this bounds its memory.
+         */
+        protected static final long MAX_TRIPLES = MAX_BITS / BITS_PER_TRIPLE / 2;
+
+        private final Collection<Graph> graphs;
+        private final AtomicLongArray all;
+        private final AtomicLongArray overlaps;
+        private final int mask;
+        private final long capacity;
+        private final Listener listener;
+        private volatile long count;
+
+        protected OverlapIndex(Collection<Graph> graphs, long expected) {
+            this.graphs = Objects.requireNonNull(graphs);
+            this.capacity = 2 * Math.max(expected, MIN_CAPACITY);
+            long bits = Math.min(MAX_BITS, Long.highestOneBit(capacity * BITS_PER_TRIPLE - 1) << 1);
+            this.all = new AtomicLongArray((int) (bits >>> 6));
+            this.overlaps = new AtomicLongArray(all.length());
+            this.mask = (int) bits - 1;
+            this.listener = new Listener(this);
+        }
+
+        /**
+         * Builds a fresh index for the given collection of graphs and attaches it to them.
+         *
+         * @param graphs a {@code Collection} of {@link Graphs#isSized(Graph) sized} {@link Graph}s
+         * @param size   long, the total number of triples in the graphs
+         * @return {@link OverlapIndex}
+         */
+        public static OverlapIndex create(Collection<Graph> graphs, long size) {
+            OverlapIndex res = new OverlapIndex(graphs, size);
+            // each graph is a set, so a triple can be seen twice only if it belongs to two different graphs
+            graphs.forEach(g -> g.find().forEachRemaining(res::add));
+            res.attach();
+            return res;
+        }
+
+        /**
+         * Answers {@code true} if the given triple may be present in more than one graph.
+         *
+         * @param t {@link Triple}, not {@code null}
+         * @return boolean, {@code false} if the triple is definitely not shared
+         */
+        public boolean mayOverlap(Triple t) {
+            return test(overlaps, t.hashCode());
+        }
+
+        /**
+         * Answers {@code true} if the index has exceeded its capacity,
+         * and therefore its false-positive rate is too high.
+         *
+         * @return boolean
+         */
+        public boolean isStale() {
+            return count > capacity;
+        }
+
+        /**
+         * Registers a triple.
+         * The method is synchronized: the check-and-set of several bits must be atomic,
+         * otherwise two threads adding the same triple to different graphs
+         * may both see it as new and the overlap will be lost.
+         *
+         * @param t {@link Triple}, not {@code null}
+         */
+        protected synchronized void add(Triple t) {
+            int h = t.hashCode();
+            if (!set(all, h)) {
+                set(overlaps, h);
+            }
+            count++;
+        }
+
+        protected void attach() {
+            graphs.forEach(g -> g.getEventManager().register(listener));
+        }
+
+        protected void detach() {
+            listener.detach();
+        }
+
+        /**
+         * Sets the bits for the given hash.
+         *
+         * @param bits  {@link AtomicLongArray}
+         * @param hash  int
+         * @return {@code true} if at least one bit has been changed
+         */
+        private boolean set(AtomicLongArray bits, int hash) {
+            int h1 = mix(hash);
+            int h2 = mix(h1) | 1;
+            boolean res = false;
+            for (int i = 0; i < NUMBER_OF_HASHES; i++) {
+                int index = (h1 + i * h2) & mask;
+                long bit = 1L << index;
+                long prev;
+                while (((prev = bits.get(index >>> 6)) & bit) == 0) {
+                    if (bits.compareAndSet(index >>> 6, prev, prev | bit)) {
+                        res = true;
+                        break;
+                    }
+                }
+            }
+            return res;
+        }
+
+        private boolean test(AtomicLongArray bits, int hash) {
+            int h1 = mix(hash);
+            int h2 = mix(h1) | 1;
+            for (int i = 0; i < NUMBER_OF_HASHES; i++) {
+                int index = (h1 + i * h2) & mask;
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * A {@link GraphListener} to keep the index up to date.
+         * It holds the index and the graphs weakly, so neither an abandoned index
+         * nor the other graphs of the hierarchy are kept in memory by a shared (imported) graph,
+         * the listener unregisters itself on the next event in that case.
+         */
+        protected static class Listener extends GraphListenerBase {
+            private final List<WeakReference<Graph>> graphs;
+            private final WeakReference<OverlapIndex> index;
+
+            protected Listener(OverlapIndex index) {
+                this.graphs = index.graphs.stream().map(WeakReference::new).collect(Collectors.toList());
+                this.index = new WeakReference<>(index);
+            }
+
+            @Override
+            protected void addEvent(Triple t) {
+                OverlapIndex res = index.get();
+                if (res == null) {
+                    detach();
+                    return;
+                }
+                res.add(t);
+            }
+
+            @Override
+            protected void deleteEvent(Triple t) {
+                // nothing: the Bloom filter does not support deletion, the extra bits are harmless
+            }
+
+            protected void detach() {
+                graphs.forEach(ref -> {
+                    Graph g = ref.get();
+                    if (g != null) {
+                        g.getEventManager().unregister(this);
+                    }
+                });
+            }
+        }
+    }
+
     /**
      * An extended {@link org.apache.jena.graph.GraphEventManager Jena Graph Event Manager},
      * a holder for {@link GraphListener}s.
@@ -0,0 +1,486 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena;
+
+import com.github.andrewoma.dexx.collection.HashMap;
+import com.github.andrewoma.dexx.collection.HashSet;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import org.apache.jena.graph.*;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.graph.impl.SimpleEventManager;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.shared.impl.PrefixMappingImpl;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A thread-safe in-memory {@code Graph} with multi-version concurrency control (MVCC).
+ * <p>
+ * The data is kept in an immutable {@link Store} made of three persistent (structurally shared) hash indexes:
+ * by subject, by predicate and by object.
+ * Each modification produces a new version of the store, that shares almost all its structure with the previous one,
+ * and publishes it through a single {@code volatile} reference.
+ * Readers never lock: each {@link #find(Triple) find} iterates over the version
+ * that was current at the moment of the call, and is not affected by any subsequent changes,
+ * so there is no {@link java.util.ConcurrentModificationException} and no need to copy iterators.
+ * Writers are serialized among themselves, but never wait for readers.
+ * Use {@link #snapshot()} to get a consistent read-only view for a series of queries.
+ * <p>
+ * Notes:
+ * <ul>
+ * <li>The nodes are matched by term-equality, i.e. this graph does not handle literal typing
+ * (see {@link Capabilities#handlesLiteralTyping()}).</li>
+ * <li>{@link java.util.Iterator#remove()} is supported: it deletes the last returned triple from the graph,
+ * the iterator itself continues to walk through its own version.</li>
+ * <li>When wrapped with {@link RWLockedGraph} (concurrent ONT-API managers),
+ * the iterators are not tracked and writers do not wait for them.</li>
+ * <li>The persistent collections come from the <a href="https://github.com/andrewoma/dexx">dexx</a> library,
+ * which is a dependency of jena-base.</li>
+ * </ul>
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @since 2.1.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class VersionedGraph extends GraphBase {
+    private final Object writeLock = new Object();
+    protected volatile Store store;
+
+    public VersionedGraph() {
+        this.store = Store.EMPTY;
+        this.pm = createPrefixMapping();
+        this.gem = new SimpleEventManager();
+    }
+
+    /**
+     * Returns a read-only view of the current version of this graph.
+     * The returned graph never changes, whatever happens to this graph.
+     *
+     * @return {@link Graph}
+     */
+    public Graph snapshot() {
+        return new Snapshot(store, getPrefixMapping());
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        synchronized (writeLock) {
+            store = store.add(t);
+        }
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        synchronized (writeLock) {
+            store = store.delete(t);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            store = Store.EMPTY;
+        }
+        getEventManager().notifyEvent(this, GraphEvents.removeAll);
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return store.size;
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        return store.contains(t);
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        return new TripleIterator(store.find(m));
+    }
+
+    @Override
+    public GraphEventManager getEventManager() {
+        return gem;
+    }
+
+    @Override
+    public PrefixMapping getPrefixMapping() {
+        return pm;
+    }
+
+    @Override
+    protected PrefixMapping createPrefixMapping() {
+        return new SyncPrefixMapping();
+    }
+
+    @Override
+    protected GraphStatisticsHandler createStatisticsHandler() {
+        return (s, p, o) -> store.getStatistic(s, p, o);
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return capabilities == null ? capabilities = new GraphCapabilities(true) : capabilities;
+    }
+
+    /**
+     * An iterator over a version of the store, that deletes the removed triples from the graph.
+     */
+    protected class TripleIterator extends NiceIterator<Triple> {
+        private final Iterator<Triple> base;
+        private Triple last;
+
+        protected TripleIterator(Iterator<Triple> base) {
+            this.base = base;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return base.hasNext();
+        }
+
+        @Override
+        public Triple next() {
+            return last = base.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            delete(last);
+            last = null;
+        }
+    }
+
+    /**
+     * A read-only graph over a fixed version of the store.
+     */
+    protected static class Snapshot extends GraphBase {
+        private final Store store;
+
+        protected Snapshot(Store store, PrefixMapping pm) {
+            this.store = Objects.requireNonNull(store);
+            this.pm = PrefixMapping.Factory.create().setNsPrefixes(pm).lock();
+        }
+
+        @Override
+        protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+            return Iter.create(store.find(m));
+        }
+
+        @Override
+        protected boolean graphBaseContains(Triple t) {
+            return store.contains(t);
+        }
+
+        @Override
+        protected int graphBaseSize() {
+            return store.size;
+        }
+
+        @Override
+        protected GraphStatisticsHandler createStatisticsHandler() {
+            return store::getStatistic;
+        }
+
+        @Override
+        public Capabilities getCapabilities() {
+            return capabilities == null ? capabilities = new GraphCapabilities(false) : capabilities;
+        }
+    }
+
+    /**
+     * An immutable version of the graph data.
+     * Each of the three indexes maps a node to the persistent set of triples,
+     * that have this node in the corresponding position.
+     */
+    protected static final class Store {
+        static final Store EMPTY = new Store(HashMap.empty(), HashMap.empty(), HashMap.empty(), 0);
+
+        private final HashMap<Node, HashSet<Triple>> subjects;
+        private final HashMap<Node, HashSet<Triple>> predicates;
+        private final HashMap<Node, HashSet<Triple>> objects;
+        private final int size;
+
+        private Store(HashMap<Node, HashSet<Triple>> subjects,
+                      HashMap<Node, HashSet<Triple>> predicates,
+                      HashMap<Node, HashSet<Triple>> objects,
+                      int size) {
+            this.subjects = subjects;
+            this.predicates = predicates;
+            this.objects = objects;
+            this.size = size;
+        }
+
+        private static HashSet<Triple> get(HashMap<Node, HashSet<Triple>> index, Node key) {
+            HashSet<Triple> res = index.get(key);
+            return res == null ? HashSet.empty() : res;
+        }
+
+        private static HashMap<Node, HashSet<Triple>> plus(HashMap<Node, HashSet<Triple>> index, Node key, Triple t) {
+            return index.put(key, get(index, key).add(t));
+        }
+
+        private static HashMap<Node, HashSet<Triple>> minus(HashMap<Node, HashSet<Triple>> index, Node key, Triple t) {
+            HashSet<Triple> res = get(index, key).remove(t);
+            return res.isEmpty() ? index.remove(key) : index.put(key, res);
+        }
+
+        private static boolean isAny(Node n) {
+            return n == null || !n.isConcrete();
+        }
+
+        private static boolean matches(Node pattern, Node n) {
+            return isAny(pattern) || pattern.equals(n);
+        }
+
+        Store add(Triple t) {
+            if (contains(t)) {
+                return this;
+            }
+            return new Store(plus(subjects, t.getSubject(), t),
+                    plus(predicates, t.getPredicate(), t),
+                    plus(objects, t.getObject(), t), size + 1);
+        }
+
+        Store delete(Triple t) {
+            if (!contains(t)) {
+                return this;
+            }
+            return new Store(minus(subjects, t.getSubject(), t),
+                    minus(predicates, t.getPredicate(), t),
+                    minus(objects, t.getObject(), t), size - 1);
+        }
+
+        boolean contains(Triple t) {
+            if (!t.isConcrete()) {
+                return find(t).hasNext();
+            }
+            HashSet<Triple> res = subjects.get(t.getSubject());
+            return res != null && res.contains(t);
+        }
+
+        /**
+         * Lists all triples matching the pattern.
+         * The smallest of the bound indexes is chosen, the other positions are filtered.
+         *
+         * @param m {@link Triple} pattern, not {@code null}
+         * @return {@code Iterator} of {@link Triple}s
+         */
+        Iterator<Triple> find(Triple m) {
+            Node s = m.getSubject();
+            Node p = m.getPredicate();
+            Node o = m.getObject();
+            HashSet<Triple> res = null;
+            if (!isAny(s)) {
+                res = get(subjects, s);
+            }
+            if (!isAny(o)) {
+                res = smallest(res, get(objects, o));
+            }
+            if (!isAny(p)) {
+                res = smallest(res, get(predicates, p));
+            }
+            if (res == null) {
+                return Iter.flatMap(Iter.create(subjects.values().iterator()), HashSet::iterator);
+            }
+            if (res.isEmpty()) {
+                return NiceIterator.emptyIterator();
+            }
+            return Iter.create(res.iterator())
+                    .filterKeep(t -> matches(s, t.getSubject())
+                            && matches(p, t.getPredicate()) && matches(o, t.getObject()));
+        }
+
+        private static HashSet<Triple> smallest(HashSet<Triple> left, HashSet<Triple> right) {
+            return left == null || right.size() < left.size() ? right : left;
+        }
+
+        long getStatistic(Node s, Node p, Node o) {
+            Node[] match = {s, p, o};
+            int position = -1;
+            for (int i = 0; i < 3; i++) {
+                if (isAny(match[i])) continue;
+                if (position != -1) return -1;
+                position = i;
+            }
+            switch (position) {
+                case 0:
+                    return get(subjects, s).size();
+                case 1:
+                    return get(predicates, p).size();
+                case 2:
+                    return get(objects, o).size();
+                default:
+                    return size;
+            }
+        }
+    }
+
+    /**
+     * The capabilities of a versioned graph or its read-only snapshot.
+     */
+    protected static class GraphCapabilities implements Capabilities {
+        private final boolean modifiable;
+
+        protected GraphCapabilities(boolean modifiable) {
+            this.modifiable = modifiable;
+        }
+
+        @Override
+        public boolean sizeAccurate() {
+            return true;
+        }
+
+        @Override
+        public boolean addAllowed() {
+            return modifiable;
+        }
+
+        @Override
+        public boolean addAllowed(boolean every) {
+            return modifiable;
+        }
+
+        @Override
+        public boolean deleteAllowed() {
+            return modifiable;
+        }
+
+        @Override
+        public boolean deleteAllowed(boolean every) {
+            return modifiable;
+        }
+
+        @Override
+        public boolean iteratorRemoveAllowed() {
+            return modifiable;
+        }
+
+        @Override
+        public boolean canBeEmpty() {
+            return true;
+        }
+
+        @Override
+        public boolean findContractSafe() {
+            return true;
+        }
+
+        @Override
+        public boolean handlesLiteralTyping() {
+            return false;
+        }
+    }
+
+    /**
+     * A {@link PrefixMapping} with synchronized access, since the graph itself can be shared between threads.
+     */
+    protected static class SyncPrefixMapping extends PrefixMappingImpl {
+
+        @Override
+        public synchronized PrefixMapping lock() {
+            return super.lock();
+        }
+
+        @Override
+        public synchronized PrefixMapping setNsPrefix(String prefix, String uri) {
+            return super.setNsPrefix(prefix, uri);
+        }
+
+        @Override
+        public synchronized PrefixMapping removeNsPrefix(String prefix) {
+            return super.removeNsPrefix(prefix);
+        }
+
+        @Override
+        public synchronized PrefixMapping clearNsPrefixMap() {
+            return super.clearNsPrefixMap();
+        }
+
+        @Override
+        public synchronized PrefixMapping setNsPrefixes(PrefixMapping other) {
+            return super.setNsPrefixes(other);
+        }
+
+        @Override
+        public synchronized PrefixMapping setNsPrefixes(Map<String, String> other) {
+            return super.setNsPrefixes(other);
+        }
+
+        @Override
+        public synchronized PrefixMapping withDefaultMappings(PrefixMapping other) {
+            return super.withDefaultMappings(other);
+        }
+
+        @Override
+        public synchronized String getNsPrefixURI(String prefix) {
+            return super.getNsPrefixURI(prefix);
+        }
+
+        @Override
+        public synchronized Map<String, String> getNsPrefixMap() {
+            return super.getNsPrefixMap();
+        }
+
+        @Override
+        public synchronized String getNsURIPrefix(String uri) {
+            return super.getNsURIPrefix(uri);
+        }
+
+        @Override
+        public synchronized String expandPrefix(String prefixed) {
+            return super.expandPrefix(prefixed);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return super.toString();
+        }
+
+        @Override
+        public synchronized String qnameFor(String uri) {
+            return super.qnameFor(uri);
+        }
+
+        @Override
+        public synchronized String shortForm(String uri) {
+            return super.shortForm(uri);
+        }
+
+        @Override
+        public synchronized boolean samePrefixMappingAs(PrefixMapping other) {
+            return super.samePrefixMappingAs(other);
+        }
+
+        @Override
+        public synchronized boolean hasNoMappings() {
+            return super.hasNoMappings();
+        }
+
+        @Override
+        public synchronized int numPrefixes() {
+            return super.numPrefixes();
+        }
+    }
+}
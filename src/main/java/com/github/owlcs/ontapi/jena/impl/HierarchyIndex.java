@@ -0,0 +1,439 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.jena.impl;
+
+import com.github.owlcs.ontapi.jena.model.OntObject;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * A materialized reachability index to answer indirect hierarchy queries
+ * (e.g. {@link com.github.owlcs.ontapi.jena.model.OntClass#superClasses(boolean)} with {@code direct = false})
+ * without walking the graph.
+ * For each pair of predicate (e.g. {@code rdfs:subClassOf}) and object type (e.g. {@code OntClass})
+ * all the edges are read once into adjacency arrays over dense node ids,
+ * then the closure of a node is calculated on the first request (a traversal marked by a {@link BitSet})
+ * and is kept as a sorted array of ids, so a repeated query costs only the iteration over the result.
+ * The semantic is the same as for {@link OntObjectImpl#getHierarchy(org.apache.jena.rdf.model.Resource,
+ * java.util.function.Function, boolean)}: an edge is taken into account
+ * only if its target can be presented as the given type, the node itself is never included.
+ * <p>
+ * The index is built lazily and is kept up to date through {@link GraphListener}s attached to each base graph
+ * of the model: any change of a hierarchy predicate, {@code rdf:type} declaration
+ * or anonymous structure that is a member of a hierarchy (which may change the types of nodes)
+ * releases the affected data.
+ * A change in the {@code owl:imports} hierarchy is detected on the next query.
+ * The listeners hold the index and the graphs weakly,
+ * and are detached when the index is disabled or the model is closed.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see OntGraphModelImpl#setHierarchyIndexEnabled(boolean)
+ * @since 2.1.0
+ */
+public class HierarchyIndex {
+    private final OntGraphModelImpl model;
+    private final Map<Key, Tree<?>> trees = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong builds = new AtomicLong();
+    private final Listener listener = new Listener(this);
+    private volatile List<Graph> graphs = Collections.emptyList();
+
+    protected HierarchyIndex(OntGraphModelImpl model) {
+        this.model = Objects.requireNonNull(model);
+    }
+
+    /**
+     * Returns all the nodes reachable from the given object through the predicate.
+     *
+     * @param object    {@link X}, not {@code null}
+     * @param type      the class-type of {@link X}
+     * @param predicate {@link Property}, e.g. {@code rdfs:subClassOf}
+     * @param inverse   if {@code true}, use the inverse of {@code predicate} (i.e. list descendants)
+     * @param <X>       subtype of {@link OntObject}
+     * @return unmodifiable {@code Set} of {@link X}s, without the object itself
+     */
+    public <X extends OntObject> Set<X> get(X object, Class<X> type, Property predicate, boolean inverse) {
+        return getTree(type, predicate.asNode()).get(object.asNode(), inverse);
+    }
+
+    /**
+     * Answers {@code true} if the {@code target} is reachable from the {@code object} through the predicate,
+     * e.g. if a class is an indirect sub-class of another class.
+     *
+     * @param object    {@link X}, not {@code null}
+     * @param target    {@link X}, not {@code null}
+     * @param type      the class-type of {@link X}
+     * @param predicate {@link Property}
+     * @param <X>       subtype of {@link OntObject}
+     * @return boolean
+     */
+    public <X extends OntObject> boolean isReachable(X object, X target, Class<X> type, Property predicate) {
+        if (object.equals(target)) return false;
+        Tree<X> tree = getTree(type, predicate.asNode());
+        Integer to = tree.ids.get(target.asNode());
+        return to != null && Arrays.binarySearch(tree.closure(object.asNode(), false), to) >= 0;
+    }
+
+    /**
+     * Returns the number of the index (re)builds.
+     *
+     * @return long
+     */
+    public long getBuildCount() {
+        return builds.get();
+    }
+
+    /**
+     * Releases all the data; the index will be rebuilt on demand.
+     */
+    public void clear() {
+        version.incrementAndGet();
+        trees.clear();
+    }
+
+    /**
+     * Releases all the data and detaches the listeners.
+     */
+    public void close() {
+        clear();
+        listener.detach();
+        graphs = Collections.emptyList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <X extends OntObject> Tree<X> getTree(Class<X> type, Node predicate) {
+        checkGraphs();
+        Key key = new Key(type, predicate);
+        Tree<X> res = (Tree<X>) trees.get(key);
+        long current = version.get();
+        if (res != null && res.version == current) {
+            return res;
+        }
+        res = build(type, predicate, current);
+        trees.put(key, res);
+        return res;
+    }
+
+    /**
+     * Re-attaches the listeners if the collection of base graphs has been changed.
+     */
+    private void checkGraphs() {
+        List<Graph> current = Graphs.baseGraphs(model.getGraph()).collect(Collectors.toList());
+        List<Graph> prev = graphs;
+        if (sameGraphs(prev, current)) {
+            return;
+        }
+        synchronized (this) {
+            if (sameGraphs(graphs, current)) {
+                return;
+            }
+            listener.detach();
+            listener.attach(current);
+            graphs = current;
+            clear();
+        }
+    }
+
+    private static boolean sameGraphs(List<Graph> left, List<Graph> right) {
+        if (left.size() != right.size()) return false;
+        for (int i = 0; i < left.size(); i++) {
+            if (left.get(i) != right.get(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Handles the changed triple.
+     *
+     * @param t {@link Triple}
+     */
+    protected void onChange(Triple t) {
+        if (trees.isEmpty()) return;
+        Node predicate = t.getPredicate();
+        if (RDF.Nodes.type.equals(predicate)
+                || trees.keySet().stream().anyMatch(k -> k.predicate.equals(predicate))) {
+            clear();
+            return;
+        }
+        // a change inside an anonymous structure may change the type of that structure
+        // or of any anonymous structure that refers to it (e.g. through a []-list),
+        // so it is not enough to check the hierarchy members only:
+        if (t.getSubject().isBlank()) {
+            clear();
+        }
+    }
+
+    private <X extends OntObject> Tree<X> build(Class<X> type, Node predicate, long version) {
+        builds.incrementAndGet();
+        Map<Node, Integer> ids = new HashMap<>();
+        List<X> objects = new ArrayList<>();
+        IntList from = new IntList();
+        IntList to = new IntList();
+        ExtendedIterator<Triple> it = model.getGraph().find(Node.ANY, predicate, Node.ANY);
+        try {
+            while (it.hasNext()) {
+                Triple t = it.next();
+                from.add(id(t.getSubject(), type, ids, objects));
+                to.add(id(t.getObject(), type, ids, objects));
+            }
+        } finally {
+            it.close();
+        }
+        int size = objects.size();
+        // up: subject -> object, if the object has the type; down: object -> subject, if the subject has the type
+        int[][] up = adjacency(size, from, to, objects);
+        int[][] down = adjacency(size, to, from, objects);
+        return new Tree<>(version, ids, objects, up, down);
+    }
+
+    private <X extends OntObject> int id(Node node, Class<X> type, Map<Node, Integer> ids, List<X> objects) {
+        Integer res = ids.get(node);
+        if (res != null) return res;
+        res = objects.size();
+        ids.put(node, res);
+        objects.add(node.isLiteral() ? null : model.findNodeAs(node, type));
+        return res;
+    }
+
+    private static int[][] adjacency(int size, IntList from, IntList to, List<?> objects) {
+        int[] counts = new int[size];
+        for (int i = 0; i < from.size; i++) {
+            if (objects.get(to.data[i]) != null) counts[from.data[i]]++;
+        }
+        int[][] res = new int[size][];
+        for (int i = 0; i < size; i++) {
+            res[i] = new int[counts[i]];
+        }
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < from.size; i++) {
+            int f = from.data[i];
+            int t = to.data[i];
+            if (objects.get(t) != null) res[f][counts[f]++] = t;
+        }
+        return res;
+    }
+
+    /**
+     * A key of the index.
+     */
+    private static class Key {
+        private final Class<?> type;
+        private final Node predicate;
+
+        private Key(Class<?> type, Node predicate) {
+            this.type = type;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return type.equals(other.type) && predicate.equals(other.predicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + predicate.hashCode();
+        }
+    }
+
+    /**
+     * The reachability data for a predicate and type.
+     *
+     * @param <X> subtype of {@link OntObject}
+     */
+    private static class Tree<X extends OntObject> {
+        private static final int[] EMPTY = new int[0];
+        private final long version;
+        private final Map<Node, Integer> ids;
+        private final List<X> objects;
+        private final int[][] up;
+        private final int[][] down;
+        private final int[][] ancestors;
+        private final int[][] descendants;
+        private final BitSet seen;
+
+        private Tree(long version, Map<Node, Integer> ids, List<X> objects, int[][] up, int[][] down) {
+            this.version = version;
+            this.ids = ids;
+            this.objects = objects;
+            this.up = up;
+            this.down = down;
+            this.ancestors = new int[objects.size()][];
+            this.descendants = new int[objects.size()][];
+            this.seen = new BitSet(objects.size());
+        }
+
+        private Set<X> get(Node node, boolean inverse) {
+            int[] res = closure(node, inverse);
+            return res.length == 0 ? Collections.emptySet() : new IdSet<>(res, objects);
+        }
+
+        private synchronized int[] closure(Node node, boolean inverse) {
+            Integer id = ids.get(node);
+            if (id == null) return EMPTY;
+            int[][] cache = inverse ? descendants : ancestors;
+            int[] res = cache[id];
+            if (res != null) return res;
+            int[][] edges = inverse ? down : up;
+            seen.clear();
+            seen.set(id);
+            int[] queue = new int[16];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = id;
+            int count = 0;
+            while (head < tail) {
+                for (int next : edges[queue[head++]]) {
+                    if (seen.get(next)) continue;
+                    seen.set(next);
+                    if (tail == queue.length) queue = Arrays.copyOf(queue, tail * 2);
+                    queue[tail++] = next;
+                    count++;
+                }
+            }
+            res = new int[count];
+            int i = 0;
+            for (int next = seen.nextSetBit(0); next >= 0; next = seen.nextSetBit(next + 1)) {
+                if (next != id) res[i++] = next;
+            }
+            return cache[id] = res;
+        }
+    }
+
+    /**
+     * An unmodifiable {@code Set} view over a sorted array of ids.
+     *
+     * @param <X> anything
+     */
+    private static class IdSet<X> extends AbstractSet<X> {
+        private final int[] ids;
+        private final List<X> objects;
+
+        private IdSet(int[] ids, List<X> objects) {
+            this.ids = ids;
+            this.objects = objects;
+        }
+
+        @Override
+        public Iterator<X> iterator() {
+            return new Iterator<X>() {
+                private int i;
+
+                @Override
+                public boolean hasNext() {
+                    return i < ids.length;
+                }
+
+                @Override
+                public X next() {
+                    if (i >= ids.length) throw new NoSuchElementException();
+                    return objects.get(ids[i++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * A growable array of ints.
+     */
+    private static class IntList {
+        private int[] data = new int[64];
+        private int size;
+
+        private void add(int x) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = x;
+        }
+    }
+
+    /**
+     * A {@link GraphListener} to keep the index up to date.
+     * It holds the index and the graphs weakly, so neither the index nor the other graphs of the model
+     * are kept in memory by a shared (imported) graph;
+     * the listener unregisters itself on the next event if the index is abandoned.
+     */
+    protected static class Listener extends GraphListenerBase {
+        private final WeakReference<HierarchyIndex> index;
+        private volatile List<WeakReference<Graph>> graphs = Collections.emptyList();
+
+        protected Listener(HierarchyIndex index) {
+            this.index = new WeakReference<>(index);
+        }
+
+        protected void attach(List<Graph> graphs) {
+            this.graphs = graphs.stream().map(WeakReference::new).collect(Collectors.toList());
+            graphs.forEach(g -> g.getEventManager().register(this));
+        }
+
+        protected void detach() {
+            graphs.forEach(ref -> {
+                Graph g = ref.get();
+                if (g != null) {
+                    g.getEventManager().unregister(this);
+                }
+            });
+            graphs = Collections.emptyList();
+        }
+
+        private HierarchyIndex index() {
+            HierarchyIndex res = index.get();
+            if (res == null) {
+                detach();
+            }
+            return res;
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            HierarchyIndex res = index();
+            if (res != null) res.onChange(t);
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            HierarchyIndex res = index();
+            if (res != null) res.onChange(t);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            super.notifyEvent(source, value);
+            // e.g. GraphEvents.removeAll
+            HierarchyIndex res = index();
+            if (res != null) res.clear();
+        }
+    }
+}
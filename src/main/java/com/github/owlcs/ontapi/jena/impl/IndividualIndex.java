@@ -0,0 +1,363 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.jena.impl;
+
+import com.github.owlcs.ontapi.jena.model.OntClass;
+import com.github.owlcs.ontapi.jena.model.OntIndividual;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.jena.vocabulary.OWL;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * A class-membership index to answer the class assertion queries
+ * (e.g. {@link com.github.owlcs.ontapi.jena.model.OntModel#individuals()} or {@link OntClass#individuals()})
+ * without scanning all {@code rdf:type} statements.
+ * It keeps two maps: individual -&gt; classes and class -&gt; individuals.
+ * The semantic is the same as for {@link OntGraphModelImpl#listIndividuals()}:
+ * an assertion {@code a rdf:type C} is taken into account only if {@code C} is an {@link OntClass}
+ * and {@code a} is an {@link OntIndividual}.
+ * <p>
+ * The index is built lazily on the first query and is kept up to date through {@link GraphListener}s
+ * attached to each base graph of the model.
+ * An assertion {@code a rdf:type C}, where {@code a} is an IRI and {@code C} is an already known class,
+ * is added or removed in place, a declaration {@code a rdf:type owl:NamedIndividual} is ignored.
+ * Any other change of {@code rdf:type} statements and any change of a statement with an anonymous subject or object
+ * (which may change the types of nodes) releases the data, and the index is rebuilt on the next query.
+ * A change in the {@code owl:imports} hierarchy is detected on the next query.
+ * The listeners hold the index and the graphs weakly,
+ * and are detached when the index is disabled or the model is closed.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see OntGraphModelImpl#setIndividualIndexEnabled(boolean)
+ * @since 2.1.0
+ */
+public class IndividualIndex {
+    private static final Node NAMED_INDIVIDUAL = OWL.NamedIndividual.asNode();
+    private final OntGraphModelImpl model;
+    private final AtomicLong builds = new AtomicLong();
+    private final Listener listener = new Listener(this);
+    private volatile List<Graph> graphs = Collections.emptyList();
+    private volatile Data data;
+
+    protected IndividualIndex(OntGraphModelImpl model) {
+        this.model = Objects.requireNonNull(model);
+    }
+
+    /**
+     * Lists all individuals that participate in a class assertion.
+     *
+     * @return {@link ExtendedIterator} of {@link OntIndividual}s, distinct
+     */
+    public ExtendedIterator<OntIndividual> listIndividuals() {
+        return Iter.create(getData().classes.keySet()).mapWith(x -> model.getNodeAs(x, OntIndividual.class));
+    }
+
+    /**
+     * Lists all individuals of the given class (i.e. the subjects of the statements {@code a rdf:type C}).
+     *
+     * @param clazz {@link OntClass}, not {@code null}
+     * @return {@link ExtendedIterator} of {@link OntIndividual}s, distinct
+     */
+    public ExtendedIterator<OntIndividual> listIndividuals(OntClass clazz) {
+        return Iter.create(getIndividuals(clazz.asNode())).mapWith(x -> model.getNodeAs(x, OntIndividual.class));
+    }
+
+    /**
+     * Lists all classes of the given individual (i.e. the objects of the statements {@code a rdf:type C}).
+     *
+     * @param individual {@link OntIndividual}, not {@code null}
+     * @return {@link ExtendedIterator} of {@link OntClass}es, distinct
+     */
+    public ExtendedIterator<OntClass> listClasses(OntIndividual individual) {
+        return Iter.create(getClasses(individual.asNode())).mapWith(x -> model.getNodeAs(x, OntClass.class));
+    }
+
+    /**
+     * Returns the nodes of the individuals of the given class.
+     *
+     * @param clazz {@link Node}
+     * @return unmodifiable (live) {@code Set} of {@link Node}s
+     */
+    public Set<Node> getIndividuals(Node clazz) {
+        return getData().getIndividuals(clazz);
+    }
+
+    /**
+     * Returns the nodes of the classes of the given individual.
+     *
+     * @param individual {@link Node}
+     * @return unmodifiable (live) {@code Set} of {@link Node}s
+     */
+    public Set<Node> getClasses(Node individual) {
+        return getData().getClasses(individual);
+    }
+
+    /**
+     * Returns the number of the index (re)builds.
+     *
+     * @return long
+     */
+    public long getBuildCount() {
+        return builds.get();
+    }
+
+    /**
+     * Releases all the data; the index will be rebuilt on demand.
+     */
+    public void clear() {
+        data = null;
+    }
+
+    /**
+     * Releases all the data and detaches the listeners.
+     */
+    public void close() {
+        clear();
+        listener.detach();
+        graphs = Collections.emptyList();
+    }
+
+    private Data getData() {
+        checkGraphs();
+        Data res = data;
+        if (res != null) {
+            return res;
+        }
+        synchronized (this) {
+            if ((res = data) == null) {
+                data = res = build();
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Re-attaches the listeners if the collection of base graphs has been changed.
+     */
+    private void checkGraphs() {
+        List<Graph> current = Graphs.baseGraphs(model.getGraph()).collect(Collectors.toList());
+        if (sameGraphs(graphs, current)) {
+            return;
+        }
+        synchronized (this) {
+            if (sameGraphs(graphs, current)) {
+                return;
+            }
+            listener.detach();
+            listener.attach(current);
+            graphs = current;
+            clear();
+        }
+    }
+
+    private static boolean sameGraphs(List<Graph> left, List<Graph> right) {
+        if (left.size() != right.size()) return false;
+        for (int i = 0; i < left.size(); i++) {
+            if (left.get(i) != right.get(i)) return false;
+        }
+        return true;
+    }
+
+    private Data build() {
+        builds.incrementAndGet();
+        Data res = new Data();
+        Set<Node> system = model.getSystemResources(OntClass.Named.class);
+        Set<Node> nonClasses = new HashSet<>();
+        Set<Node> nonIndividuals = new HashSet<>();
+        ExtendedIterator<Triple> it = model.getGraph().find(Node.ANY, RDF.Nodes.type, Node.ANY);
+        try {
+            while (it.hasNext()) {
+                Triple t = it.next();
+                Node c = t.getObject();
+                Node i = t.getSubject();
+                if (system.contains(c) || nonClasses.contains(c) || nonIndividuals.contains(i)) {
+                    continue;
+                }
+                if (!res.knownClasses.contains(c)) {
+                    if (model.findNodeAs(c, OntClass.class) == null) {
+                        nonClasses.add(c);
+                        continue;
+                    }
+                    res.knownClasses.add(c);
+                }
+                if (!res.classes.containsKey(i) && !isIndividual(i)) {
+                    nonIndividuals.add(i);
+                    continue;
+                }
+                res.add(i, c);
+            }
+        } finally {
+            it.close();
+        }
+        return res;
+    }
+
+    private boolean isIndividual(Node node) {
+        // do not cache in the model, see OntGraphModelImpl#listIndividuals
+        return OntObjectImpl.wrapAsOntObject(node, model).getAs(OntIndividual.class) != null;
+    }
+
+    /**
+     * Handles the changed triple.
+     *
+     * @param t     {@link Triple}
+     * @param added {@code true} if the triple has been added, {@code false} if deleted
+     */
+    protected synchronized void onChange(Triple t, boolean added) {
+        Data res = data;
+        if (res == null) return;
+        Node s = t.getSubject();
+        Node o = t.getObject();
+        if (s.isBlank() || o.isBlank()) {
+            clear();
+            return;
+        }
+        if (!RDF.Nodes.type.equals(t.getPredicate())) {
+            return;
+        }
+        if (!s.isURI()) {
+            clear();
+            return;
+        }
+        if (NAMED_INDIVIDUAL.equals(o)) {
+            // the declaration does not matter for an individual with class assertions
+            return;
+        }
+        if (!res.knownClasses.contains(o)) {
+            clear();
+            return;
+        }
+        if (added) {
+            if (res.classes.containsKey(s) || isIndividual(s)) {
+                res.add(s, o);
+            }
+            return;
+        }
+        if (model.getGraph().contains(t)) { // still present in another graph
+            return;
+        }
+        res.remove(s, o);
+    }
+
+    /**
+     * The index data.
+     * The {@code Set}s of the maps are concurrent and are changed in place,
+     * the clients get only read-only views.
+     */
+    private static class Data {
+        private final Map<Node, Set<Node>> classes = new ConcurrentHashMap<>();
+        private final Map<Node, Set<Node>> individuals = new ConcurrentHashMap<>();
+        private final Set<Node> knownClasses = ConcurrentHashMap.newKeySet();
+
+        private Set<Node> getClasses(Node individual) {
+            return view(classes.get(individual));
+        }
+
+        private Set<Node> getIndividuals(Node clazz) {
+            return view(individuals.get(clazz));
+        }
+
+        private void add(Node individual, Node clazz) {
+            classes.computeIfAbsent(individual, k -> ConcurrentHashMap.newKeySet()).add(clazz);
+            individuals.computeIfAbsent(clazz, k -> ConcurrentHashMap.newKeySet()).add(individual);
+        }
+
+        private void remove(Node individual, Node clazz) {
+            classes.computeIfPresent(individual, (k, v) -> minus(v, clazz));
+            individuals.computeIfPresent(clazz, (k, v) -> minus(v, individual));
+        }
+
+        private static Set<Node> minus(Set<Node> set, Node node) {
+            set.remove(node);
+            return set.isEmpty() ? null : set;
+        }
+
+        private static Set<Node> view(Set<Node> set) {
+            return set == null ? Collections.emptySet() : Collections.unmodifiableSet(set);
+        }
+    }
+
+    /**
+     * A {@link GraphListener} to keep the index up to date.
+     * It holds the index and the graphs weakly, so neither the index nor the other graphs of the model
+     * are kept in memory by a shared (imported) graph;
+     * the listener unregisters itself on the next event if the index is abandoned.
+     */
+    protected static class Listener extends GraphListenerBase {
+        private final WeakReference<IndividualIndex> index;
+        private volatile List<WeakReference<Graph>> graphs = Collections.emptyList();
+
+        protected Listener(IndividualIndex index) {
+            this.index = new WeakReference<>(index);
+        }
+
+        protected void attach(List<Graph> graphs) {
+            this.graphs = graphs.stream().map(WeakReference::new).collect(Collectors.toList());
+            graphs.forEach(g -> g.getEventManager().register(this));
+        }
+
+        protected void detach() {
+            graphs.forEach(ref -> {
+                Graph g = ref.get();
+                if (g != null) {
+                    g.getEventManager().unregister(this);
+                }
+            });
+            graphs = Collections.emptyList();
+        }
+
+        private IndividualIndex index() {
+            IndividualIndex res = index.get();
+            if (res == null) {
+                detach();
+            }
+            return res;
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            IndividualIndex res = index();
+            if (res != null) res.onChange(t, true);
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            IndividualIndex res = index();
+            if (res != null) res.onChange(t, false);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            super.notifyEvent(source, value);
+            // e.g. GraphEvents.removeAll
+            IndividualIndex res = index();
+            if (res != null) res.clear();
+        }
+    }
+}
@@ -36,10 +36,7 @@ import org.apache.jena.rdf.model.impl.RDFListImpl;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDFS;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Stream;
 
 import static com.github.owlcs.ontapi.jena.impl.WrappedFactoryImpl.of;
@@ -225,6 +222,24 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntClass {
         return Factories.createCommon(maker, RESTRICTION_FINDER, filter);
     }
 
+    /**
+     * Lists all individuals of the class, i.e. the subjects of the statements {@code a rdf:type C}.
+     * If the {@link IndividualIndex} is enabled, it is used instead of the graph search,
+     * in this case only the subjects, that can be viewed as {@link OntIndividual}s, are answered.
+     *
+     * @param model {@link OntGraphModelImpl}
+     * @param clazz {@link OntClass}
+     * @return {@code Stream} of {@link OntIndividual}s
+     * @since 2.1.0
+     */
+    public static Stream<OntIndividual> listIndividuals(OntGraphModelImpl model, OntClass clazz) {
+        IndividualIndex index = model.getIndividualIndex();
+        if (index != null) {
+            return Iter.asStream(index.listIndividuals(clazz));
+        }
+        return model.statements(null, RDF.type, clazz).map(s -> s.getSubject(OntIndividual.class));
+    }
+
     public static boolean isQualified(OntObject c) {
         return c != null && !(OWL.Thing.equals(c) || RDFS.Literal.equals(c));
     }
@@ -373,6 +388,11 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntClass {
         return listHasKeys(getModel(), this);
     }
 
+    @Override
+    public Stream<OntIndividual> individuals() {
+        return listIndividuals(getModel(), this);
+    }
+
     @Override
     public OntCEImpl removeHasKey(Resource list) throws OntJenaException.IllegalArgument {
         removeHasKey(getModel(), this, list);
@@ -465,7 +485,19 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntClass {
         }
 
         public OntFilter getFilter(Class<? extends RDFNode> objectType) {
-            return (n, g) -> isNonQualified(n, g) || isQualified(n, g, objectType);
+            return new OntFilter() {
+                @Override
+                public boolean test(Node n, EnhGraph g) {
+                    return isNonQualified(n, g) || isQualified(n, g, objectType);
+                }
+
+                @Override
+                public List<Set<Triple>> requirements() {
+                    return Collections.singletonList(new HashSet<>(Arrays.asList(
+                            Triple.create(Node.ANY, predicate.asNode(), Node.ANY),
+                            Triple.create(Node.ANY, qualifiedPredicate.asNode(), Node.ANY))));
+                }
+            };
         }
 
         public Property getPredicate(boolean isQualified) {
@@ -512,7 +544,18 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntClass {
         Class<? extends RDFNode> view();
 
         default OntFilter getFilter(Property predicate) {
-            return (node, graph) -> testObjects(predicate, node, graph);
+            return new OntFilter() {
+                @Override
+                public boolean test(Node node, EnhGraph graph) {
+                    return testObjects(predicate, node, graph);
+                }
+
+                @Override
+                public List<Set<Triple>> requirements() {
+                    return Collections.singletonList(Collections.singleton(
+                            Triple.create(Node.ANY, predicate.asNode(), Node.ANY)));
+                }
+            };
         }
 
         default boolean testObjects(Property predicate, Node node, EnhGraph graph) {
@@ -1071,6 +1114,12 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntClass {
         public boolean test(Node n, EnhGraph g) {
             return g.asGraph().contains(n, OWL.hasSelf.asNode(), Models.TRUE.asNode());
         }
+
+        @Override
+        public List<Set<Triple>> requirements() {
+            return Collections.singletonList(Collections.singleton(
+                    Triple.create(Node.ANY, OWL.hasSelf.asNode(), Models.TRUE.asNode())));
+        }
     }
 
     protected static class HasSelfMaker extends OntMaker.WithType {
@@ -65,6 +65,11 @@ public class OntClassImpl extends OntObjectImpl implements OntClass.Named {
         return OntCEImpl.createNamedIndividual(getModel(), this, uri);
     }
 
+    @Override
+    public Stream<OntIndividual> individuals() {
+        return OntCEImpl.listIndividuals(getModel(), this);
+    }
+
     @Override
     public Stream<OntClass> superClasses(boolean direct) {
         return hierarchy(this, OntClass.class, RDFS.subClassOf, false, direct);
@@ -57,6 +57,10 @@ public class OntGraphModelImpl extends UnionModel implements OntModel, Personali
 
     // the model's types mapper
     protected final Map<String, RDFDatatype> dtTypes = new HashMap<>();
+    // the optional index for indirect hierarchy queries
+    protected volatile HierarchyIndex hierarchyIndex;
+    // the optional index for class assertions
+    protected volatile IndividualIndex individualIndex;
 
     /**
      * @param graph       {@link Graph}
@@ -66,6 +70,90 @@ public class OntGraphModelImpl extends UnionModel implements OntModel, Personali
         super(graph, OntPersonality.asJenaPersonality(personality));
     }
 
+    /**
+     * Enables or disables the {@link HierarchyIndex hierarchy index},
+     * that is used to answer the indirect hierarchy queries
+     * (such as {@link com.github.owlcs.ontapi.jena.model.OntClass#superClasses(boolean) superClasses(false)}).
+     * It is disabled by default.
+     *
+     * @param enable boolean
+     * @return this model
+     * @since 2.1.0
+     */
+    public OntGraphModelImpl setHierarchyIndexEnabled(boolean enable) {
+        synchronized (dtTypes) {
+            HierarchyIndex prev = hierarchyIndex;
+            if (enable == (prev != null)) {
+                return this;
+            }
+            if (enable) {
+                hierarchyIndex = new HierarchyIndex(this);
+            } else {
+                hierarchyIndex = null;
+                prev.close();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the {@link HierarchyIndex hierarchy index}, if it is enabled.
+     *
+     * @return {@link HierarchyIndex} or {@code null}
+     * @see #setHierarchyIndexEnabled(boolean)
+     * @since 2.1.0
+     */
+    public HierarchyIndex getHierarchyIndex() {
+        return hierarchyIndex;
+    }
+
+    /**
+     * Enables or disables the {@link IndividualIndex individual index},
+     * that is used to answer the class assertion queries
+     * (such as {@link #individuals()} and {@link OntClass#individuals()}).
+     * It is disabled by default.
+     *
+     * @param enable boolean
+     * @return this model
+     * @since 2.1.0
+     */
+    public OntGraphModelImpl setIndividualIndexEnabled(boolean enable) {
+        synchronized (dtTypes) {
+            IndividualIndex prev = individualIndex;
+            if (enable == (prev != null)) {
+                return this;
+            }
+            if (enable) {
+                individualIndex = new IndividualIndex(this);
+            } else {
+                individualIndex = null;
+                prev.close();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the {@link IndividualIndex individual index}, if it is enabled.
+     *
+     * @return {@link IndividualIndex} or {@code null}
+     * @see #setIndividualIndexEnabled(boolean)
+     * @since 2.1.0
+     */
+    public IndividualIndex getIndividualIndex() {
+        return individualIndex;
+    }
+
+    /**
+     * Closes the model, detaching the optional indexes from the graphs.
+     */
+    @Override
+    public void close() {
+        setHierarchyIndexEnabled(false);
+        setIndividualIndexEnabled(false);
+        super.close();
+    }
+
     /**
      * Creates a fresh ontology resource (i.e. {@code @uri rdf:type owl:Ontology} triple)
      * and moves to it all content from existing ontology resources (if they present).
@@ -519,6 +607,10 @@ public class OntGraphModelImpl extends UnionModel implements OntModel, Personali
      * @return {@link ExtendedIterator} of {@link OntIndividual}s
      */
     public ExtendedIterator<OntIndividual> listIndividuals() {
+        IndividualIndex index = individualIndex;
+        if (index != null) {
+            return index.listIndividuals();
+        }
         return listIndividuals(this,
                 getSystemResources(OntClass.Named.class),
                 getGraph().find(Node.ANY, RDF.Nodes.type, Node.ANY));
@@ -115,6 +115,15 @@ public abstract class OntIndividualImpl extends OntObjectImpl implements OntIndi
             return listClasses().toSet();
         }
         Set<OntClass> res = new HashSet<>();
+        HierarchyIndex index = getModel().getHierarchyIndex();
+        if (index != null) {
+            listObjects(RDF.type, OntClass.class).forEachRemaining(c -> {
+                if (res.add(c)) {
+                    res.addAll(index.get(c, OntClass.class, RDFS.subClassOf, false));
+                }
+            });
+            return res;
+        }
         Function<OntClass, ExtendedIterator<OntClass>> listSuperClasses =
                 x -> ((OntObjectImpl) x).listObjects(RDFS.subClassOf, OntClass.class);
         listObjects(RDF.type, OntClass.class).forEachRemaining(c -> collectIndirect(c, listSuperClasses, res));
@@ -140,7 +140,7 @@ public class OntObjectImpl extends ResourceImpl implements OntObject {
                                                             Property predicate,
                                                             boolean inverse,
                                                             boolean direct) {
-        return Iter.fromSet(() -> getHierarchy(object, getListDirect(type, predicate, inverse), direct));
+        return Iter.fromSet(() -> getHierarchy(object, type, predicate, inverse, direct));
     }
 
     /**
@@ -160,7 +160,34 @@ public class OntObjectImpl extends ResourceImpl implements OntObject {
                                                                           Property predicate,
                                                                           boolean inverse,
                                                                           boolean direct) {
-        return Iter.create(() -> getHierarchy(object, getListDirect(type, predicate, inverse), direct).iterator());
+        return Iter.create(() -> getHierarchy(object, type, predicate, inverse, direct).iterator());
+    }
+
+    /**
+     * Returns a {@code Set} of objects from the hierarchy.
+     * The indirect hierarchy is taken from the model's {@link HierarchyIndex}, if it is enabled.
+     *
+     * @param object    {@link X}
+     * @param type      the class-type of {@link X}
+     * @param predicate the {@link Property} whose values are required
+     * @param inverse   if {@code true}, use the inverse of {@code predicate} rather than {@code predicate}
+     * @param direct    if {@code true}, only returns the direct (adjacent) values
+     * @param <X>       subtype of {@link OntObject}
+     * @return {@code Set} of {@link X}s
+     * @see OntGraphModelImpl#setHierarchyIndexEnabled(boolean)
+     */
+    private static <X extends OntObject> Set<X> getHierarchy(X object,
+                                                             Class<X> type,
+                                                             Property predicate,
+                                                             boolean inverse,
+                                                             boolean direct) {
+        if (!direct) {
+            HierarchyIndex index = ((OntObjectImpl) object).getModel().getHierarchyIndex();
+            if (index != null) {
+                return index.get(object, type, predicate, inverse);
+            }
+        }
+        return getHierarchy(object, getListDirect(type, predicate, inverse), direct);
     }
 
     /**
@@ -21,9 +21,12 @@ import com.github.owlcs.ontapi.jena.model.OntObject;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.util.iterator.ExtendedIterator;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A factory wrapper.
@@ -77,6 +80,11 @@ public class WrappedFactoryImpl extends BaseFactoryImpl {
         return getDelegate(eg).canWrap(node, eg);
     }
 
+    @Override
+    public List<Set<Triple>> requirements(EnhGraph eg) {
+        return getDelegate(eg).requirements(eg);
+    }
+
     @Override
     public EnhNode createInstance(Node node, EnhGraph eg) {
         return getDelegate(eg).createInstance(node, eg);
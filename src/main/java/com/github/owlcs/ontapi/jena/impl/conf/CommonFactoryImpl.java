@@ -17,10 +17,13 @@ package com.github.owlcs.ontapi.jena.impl.conf;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import com.github.owlcs.ontapi.jena.OntJenaException;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Default implementation of {@link ObjectFactory}.
@@ -69,6 +72,11 @@ public class CommonFactoryImpl extends BaseFactoryImpl {
         return filter.test(node, eg);
     }
 
+    @Override
+    public List<Set<Triple>> requirements(EnhGraph eg) {
+        return filter.requirements();
+    }
+
     @Override
     public EnhNode createInGraph(Node node, EnhGraph eg) {
         if (!canCreateInGraph(node, eg))
@@ -17,13 +17,14 @@ package com.github.owlcs.ontapi.jena.impl.conf;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import com.github.owlcs.ontapi.jena.OntJenaException;
+import com.github.owlcs.ontapi.jena.impl.PersonalityModel;
 import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,6 +32,12 @@ import java.util.stream.Stream;
 /**
  * A {@link ObjectFactory Ontology Object Factory} implementation to combine several other factories.
  * <p>
+ * If the sub-factories declare their {@link ObjectFactory#requirements(EnhGraph) requirements},
+ * a node is classified with a {@link DecisionTable decision table}:
+ * the node's outgoing triples are read once, and only the sub-factories,
+ * whose necessary conditions are satisfied by these triples, are probed with {@link ObjectFactory#canWrap(Node, EnhGraph)}.
+ * The order of sub-factories is preserved, so the result is the same as with the sequential probing.
+ * <p>
  * Created by szuev on 07.11.2016.
  */
 @SuppressWarnings("WeakerAccess")
@@ -38,6 +45,7 @@ public class MultiFactoryImpl extends BaseFactoryImpl {
     private final List<ObjectFactory> factories;
     private final OntFinder finder;
     private final OntFilter fittingFilter;
+    private volatile DecisionTable table;
 
     /**
      * Creates a factory instance.
@@ -70,16 +78,64 @@ public class MultiFactoryImpl extends BaseFactoryImpl {
     @Override
     public boolean canWrap(Node node, EnhGraph eg) {
         return !(fittingFilter != null && !fittingFilter.test(node, eg))
-                && Iter.anyMatch(listFactories(), f -> f.canWrap(node, eg));
+                && Iter.anyMatch(listFactories(node, eg), f -> f.canWrap(node, eg));
     }
 
     @Override
     public EnhNode createInstance(Node node, EnhGraph eg) {
         if (fittingFilter != null && !fittingFilter.test(node, eg)) return null;
-        return Iter.findFirst(Iter.filter(listFactories(), f -> f.canWrap(node, eg))
+        return Iter.findFirst(Iter.filter(listFactories(node, eg), f -> f.canWrap(node, eg))
                 .mapWith(f -> f.createInstance(node, eg))).orElse(null);
     }
 
+    @Override
+    public List<Set<Triple>> requirements(EnhGraph eg) {
+        return fittingFilter == null ? Collections.emptyList() : fittingFilter.requirements();
+    }
+
+    /**
+     * Lists the sub-factories that can wrap the given node,
+     * i.e. all sub-factories except those whose necessary conditions are definitely not satisfied.
+     *
+     * @param node {@link Node}
+     * @param eg   {@link EnhGraph}
+     * @return {@link ExtendedIterator} of {@link ObjectFactory}s in the original order
+     * @since 2.1.0
+     */
+    protected ExtendedIterator<? extends ObjectFactory> listFactories(Node node, EnhGraph eg) {
+        DecisionTable table = getDecisionTable(eg);
+        if (table == null) {
+            return listFactories();
+        }
+        int[] res = table.classify(node, eg);
+        if (res == null) {
+            return listFactories();
+        }
+        return Iter.create(Arrays.stream(res).mapToObj(factories::get).iterator());
+    }
+
+    /**
+     * Returns the decision table for the personality of the given model, building it if necessary.
+     * Since {@link com.github.owlcs.ontapi.jena.impl.WrappedFactoryImpl wrapped} sub-factories are resolved through the {@link OntPersonality},
+     * the table is valid only for that personality.
+     *
+     * @param eg {@link EnhGraph}
+     * @return {@link DecisionTable} or {@code null} if it is useless
+     * @since 2.1.0
+     */
+    protected DecisionTable getDecisionTable(EnhGraph eg) {
+        if (factories.size() < 2 || !(eg instanceof PersonalityModel)) {
+            return null;
+        }
+        OntPersonality personality = ((PersonalityModel) eg).getOntPersonality();
+        DecisionTable res = table;
+        if (res != null && res.personality == personality) {
+            return res.isEmpty() ? null : res;
+        }
+        table = res = DecisionTable.create(personality, factories, eg);
+        return res.isEmpty() ? null : res;
+    }
+
     @Override
     public ExtendedIterator<EnhNode> iterator(EnhGraph eg) {
         if (finder != null) {
@@ -106,4 +162,161 @@ public class MultiFactoryImpl extends BaseFactoryImpl {
         return Iter.create(factories);
     }
 
+    /**
+     * A precomputed table to dispatch a node to the sub-factories by its outgoing triples.
+     * For each sub-factory the most selective clause of its {@link ObjectFactory#requirements(EnhGraph) requirements}
+     * is placed into the index (by predicate or, for {@code rdf:type}, by type).
+     * A node is classified by reading its outgoing triples just once:
+     * the index gives the candidates, which are then checked against all their requirements.
+     * Sub-factories without any requirements are always candidates.
+     *
+     * @since 2.1.0
+     */
+    protected static final class DecisionTable {
+        /**
+         * The maximum number of outgoing triples to read,
+         * for a node with more triples the sequential probing is cheaper.
+         */
+        static final int TRIPLES_LIMIT = 64;
+        private static final Node TYPE = RDF.Nodes.type;
+
+        private final OntPersonality personality;
+        private final List<List<Set<Triple>>> requirements;
+        private final Map<Node, int[]> byPredicate;
+        private final Map<Node, int[]> byType;
+        private final int[] unconditional;
+
+        private DecisionTable(OntPersonality personality,
+                              List<List<Set<Triple>>> requirements,
+                              Map<Node, int[]> byPredicate,
+                              Map<Node, int[]> byType,
+                              int[] unconditional) {
+            this.personality = personality;
+            this.requirements = requirements;
+            this.byPredicate = byPredicate;
+            this.byType = byType;
+            this.unconditional = unconditional;
+        }
+
+        static DecisionTable create(OntPersonality personality, List<ObjectFactory> factories, EnhGraph eg) {
+            List<List<Set<Triple>>> requirements = new ArrayList<>(factories.size());
+            Map<Triple, Integer> frequencies = new HashMap<>();
+            for (ObjectFactory f : factories) {
+                List<Set<Triple>> r;
+                try {
+                    r = f.requirements(eg);
+                } catch (OntJenaException e) { // no factory in the personality
+                    r = Collections.emptyList();
+                }
+                requirements.add(r);
+                r.forEach(c -> c.forEach(t -> frequencies.merge(key(t), 1, Integer::sum)));
+            }
+            Map<Node, List<Integer>> byPredicate = new HashMap<>();
+            Map<Node, List<Integer>> byType = new HashMap<>();
+            List<Integer> unconditional = new ArrayList<>();
+            for (int i = 0; i < requirements.size(); i++) {
+                List<Set<Triple>> r = requirements.get(i);
+                if (r.isEmpty()) {
+                    unconditional.add(i);
+                    continue;
+                }
+                // the most selective clause is the one with the rarest patterns:
+                Set<Triple> clause = r.stream()
+                        .min(Comparator.comparingInt(c -> c.stream().mapToInt(t -> frequencies.get(key(t))).sum()))
+                        .orElseThrow(IllegalStateException::new);
+                for (Triple t : clause) {
+                    Triple k = key(t);
+                    (k.getObject().isConcrete() ? byType.computeIfAbsent(k.getObject(), x -> new ArrayList<>()) :
+                            byPredicate.computeIfAbsent(k.getPredicate(), x -> new ArrayList<>())).add(i);
+                }
+            }
+            if (requirements.size() - unconditional.size() < 2) { // nothing to choose from
+                byPredicate.clear();
+                byType.clear();
+            }
+            return new DecisionTable(personality, requirements,
+                    toArrays(byPredicate), toArrays(byType), unconditional.stream().mapToInt(x -> x).toArray());
+        }
+
+        /**
+         * Returns the pattern to index the given pattern:
+         * it is either {@code ANY rdf:type T} or {@code ANY p ANY}.
+         *
+         * @param pattern {@link Triple}
+         * @return {@link Triple}
+         */
+        private static Triple key(Triple pattern) {
+            if (TYPE.equals(pattern.getPredicate()) && pattern.getObject().isConcrete()) {
+                return Triple.create(Node.ANY, TYPE, pattern.getObject());
+            }
+            return Triple.create(Node.ANY, pattern.getPredicate(), Node.ANY);
+        }
+
+        private static Map<Node, int[]> toArrays(Map<Node, List<Integer>> map) {
+            Map<Node, int[]> res = new HashMap<>();
+            map.forEach((k, v) -> res.put(k, v.stream().mapToInt(x -> x).distinct().toArray()));
+            return res;
+        }
+
+        boolean isEmpty() {
+            return byPredicate.isEmpty() && byType.isEmpty();
+        }
+
+        /**
+         * Classifies the node.
+         *
+         * @param node {@link Node}
+         * @param eg   {@link EnhGraph}
+         * @return an ordered array of the candidate sub-factory indexes,
+         * or {@code null} if the node has too many outgoing triples
+         */
+        int[] classify(Node node, EnhGraph eg) {
+            List<Triple> triples = new ArrayList<>();
+            ExtendedIterator<Triple> it = eg.asGraph().find(node, Node.ANY, Node.ANY);
+            try {
+                while (it.hasNext()) {
+                    if (triples.size() == TRIPLES_LIMIT) {
+                        return null;
+                    }
+                    triples.add(it.next());
+                }
+            } finally {
+                it.close();
+            }
+            boolean[] marks = new boolean[requirements.size()];
+            for (int i : unconditional) {
+                marks[i] = true;
+            }
+            for (Triple t : triples) {
+                mark(marks, byPredicate.get(t.getPredicate()));
+                if (TYPE.equals(t.getPredicate())) {
+                    mark(marks, byType.get(t.getObject()));
+                }
+            }
+            int[] res = new int[marks.length];
+            int size = 0;
+            for (int i = 0; i < marks.length; i++) {
+                if (marks[i] && satisfies(requirements.get(i), triples)) {
+                    res[size++] = i;
+                }
+            }
+            return Arrays.copyOf(res, size);
+        }
+
+        private static void mark(boolean[] marks, int[] indexes) {
+            if (indexes == null) return;
+            for (int i : indexes) {
+                marks[i] = true;
+            }
+        }
+
+        private static boolean satisfies(List<Set<Triple>> requirements, List<Triple> triples) {
+            for (Set<Triple> clause : requirements) {
+                if (triples.stream().noneMatch(t -> clause.stream().anyMatch(x -> x.matches(t)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
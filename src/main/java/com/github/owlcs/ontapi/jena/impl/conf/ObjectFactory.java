@@ -22,8 +22,12 @@ import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.enhanced.Implementation;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.util.iterator.ExtendedIterator;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -69,6 +73,20 @@ public interface ObjectFactory {
      */
     boolean canWrap(Node node, EnhGraph eg);
 
+    /**
+     * Lists the necessary conditions that a node must satisfy to be wrapped by this factory
+     * in the context of the given graph.
+     * See {@link OntFilter#requirements()} for the format of the returned list.
+     * The default implementation returns an empty list, that means no knowledge.
+     *
+     * @param eg {@link EnhGraph}, not {@code null}
+     * @return {@code List} of {@code Set}s of {@link Triple}-patterns
+     * @since 2.1.0
+     */
+    default List<Set<Triple>> requirements(EnhGraph eg) {
+        return Collections.emptyList();
+    }
+
     /**
      * Wraps the given pair of {@link Node node} and {@link EnhGraph graph} to a fresh {@link EnhNode} instance
      * without any checking or throwing any exception.
@@ -18,13 +18,12 @@ import com.github.owlcs.ontapi.jena.utils.Iter;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 
-import java.util.Collection;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 /**
  * To filter resources.
@@ -48,6 +47,21 @@ public interface OntFilter {
      */
     boolean test(Node n, EnhGraph g);
 
+    /**
+     * Lists the necessary conditions of this filter in the conjunctive normal form.
+     * Each element of the returned list is a disjunction of outgoing triple patterns
+     * (i.e. patterns with {@link Node#ANY} subject, e.g. {@code ANY rdf:type owl:Restriction} or {@code ANY owl:onProperty ANY}):
+     * if the filter accepts a node, the graph must contain a triple matching at least one pattern from each element.
+     * The conditions do not have to be sufficient, and an empty list means no knowledge.
+     * Used by {@link MultiFactoryImpl} to dispatch a node to its sub-factories without probing each of them.
+     *
+     * @return unmodifiable {@code List} of {@code Set}s of {@link Triple}-patterns
+     * @since 2.1.0
+     */
+    default List<Set<Triple>> requirements() {
+        return Collections.emptyList();
+    }
+
     default OntFilter and(OntFilter other) {
         if (Objects.requireNonNull(other, "Null and-filter.").equals(TRUE)) {
             return this;
@@ -55,7 +69,7 @@ public interface OntFilter {
         if (this.equals(TRUE)) return other;
         if (other.equals(FALSE)) return FALSE;
         if (this.equals(FALSE)) return FALSE;
-        return (Node n, EnhGraph g) -> this.test(n, g) && other.test(n, g);
+        return new And(this, other);
     }
 
     default OntFilter or(OntFilter other) {
@@ -65,7 +79,7 @@ public interface OntFilter {
         if (this.equals(TRUE)) return TRUE;
         if (other.equals(FALSE)) return this;
         if (this.equals(FALSE)) return other;
-        return (Node n, EnhGraph g) -> this.test(n, g) || other.test(n, g);
+        return new Or(this, other);
     }
 
     @SuppressWarnings("unused")
@@ -83,6 +97,65 @@ public interface OntFilter {
         return res;
     }
 
+    /**
+     * A conjunction of two filters, which keeps the {@link #requirements() requirements} of both.
+     *
+     * @since 2.1.0
+     */
+    class And implements OntFilter {
+        protected final OntFilter left, right;
+
+        protected And(OntFilter left, OntFilter right) {
+            this.left = Objects.requireNonNull(left);
+            this.right = Objects.requireNonNull(right);
+        }
+
+        @Override
+        public boolean test(Node n, EnhGraph g) {
+            return left.test(n, g) && right.test(n, g);
+        }
+
+        @Override
+        public List<Set<Triple>> requirements() {
+            List<Set<Triple>> res = new ArrayList<>(left.requirements());
+            res.addAll(right.requirements());
+            return Collections.unmodifiableList(res);
+        }
+    }
+
+    /**
+     * A disjunction of two filters.
+     * Its {@link #requirements() requirements} are the pairwise unions of the requirements of the operands.
+     *
+     * @since 2.1.0
+     */
+    class Or implements OntFilter {
+        protected final OntFilter left, right;
+
+        protected Or(OntFilter left, OntFilter right) {
+            this.left = Objects.requireNonNull(left);
+            this.right = Objects.requireNonNull(right);
+        }
+
+        @Override
+        public boolean test(Node n, EnhGraph g) {
+            return left.test(n, g) || right.test(n, g);
+        }
+
+        @Override
+        public List<Set<Triple>> requirements() {
+            List<Set<Triple>> res = new ArrayList<>();
+            for (Set<Triple> a : left.requirements()) {
+                for (Set<Triple> b : right.requirements()) {
+                    Set<Triple> x = new HashSet<>(a);
+                    x.addAll(b);
+                    res.add(Collections.unmodifiableSet(x));
+                }
+            }
+            return Collections.unmodifiableList(res);
+        }
+    }
+
     class HasPredicate implements OntFilter {
         protected final Node predicate;
 
@@ -94,6 +167,11 @@ public interface OntFilter {
         public boolean test(Node n, EnhGraph g) {
             return g.asGraph().contains(n, predicate, Node.ANY);
         }
+
+        @Override
+        public List<Set<Triple>> requirements() {
+            return Collections.singletonList(Collections.singleton(Triple.create(Node.ANY, predicate, Node.ANY)));
+        }
     }
 
     class HasType implements OntFilter {
@@ -107,6 +185,11 @@ public interface OntFilter {
         public boolean test(Node node, EnhGraph eg) {
             return eg.asGraph().contains(node, RDF.Nodes.type, type);
         }
+
+        @Override
+        public List<Set<Triple>> requirements() {
+            return Collections.singletonList(Collections.singleton(Triple.create(Node.ANY, RDF.Nodes.type, type)));
+        }
     }
 
     class OneOf implements OntFilter {
@@ -14,14 +14,18 @@
 
 package com.github.owlcs.ontapi.jena.utils;
 
+import com.github.owlcs.ontapi.jena.CopyOnWriteGraph;
+import com.github.owlcs.ontapi.jena.OffHeapGraph;
 import com.github.owlcs.ontapi.jena.RWLockedGraph;
 import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.vocabulary.OWL;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import org.apache.jena.graph.*;
 import org.apache.jena.graph.compose.Dyadic;
 import org.apache.jena.graph.compose.Polyadic;
+import org.apache.jena.graph.impl.TripleStore;
 import org.apache.jena.mem.GraphMem;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
@@ -163,9 +167,12 @@ public class Graphs {
      * @see UnionGraph#isDistinct()
      */
     public static boolean isDistinct(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (graph instanceof GraphMem || graph instanceof OffHeapGraph || graph instanceof VersionedGraph) {
             return true;
         }
+        if (graph instanceof CopyOnWriteGraph) {
+            return isDistinct(((CopyOnWriteGraph) graph).getBase());
+        }
         if (graph instanceof UnionGraph) {
             UnionGraph u = (UnionGraph) graph;
             return u.isDistinct() || u.getUnderlying().isEmpty() && isDistinct(getBase(u));
@@ -185,9 +192,12 @@ public class Graphs {
      * @see Graphs#size(Graph)
      */
     public static boolean isSized(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (graph instanceof GraphMem || graph instanceof OffHeapGraph || graph instanceof VersionedGraph) {
             return true;
         }
+        if (graph instanceof CopyOnWriteGraph) {
+            return isSized(((CopyOnWriteGraph) graph).getBase());
+        }
         if (graph instanceof UnionGraph) {
             UnionGraph u = (UnionGraph) graph;
             return u.getUnderlying().isEmpty() && isSized(getBase(u));
@@ -203,13 +213,18 @@ public class Graphs {
      * @see Graphs#isSized(Graph)
      */
     public static long size(Graph graph) {
-        if (graph instanceof GraphMem) {
+        if (graph instanceof GraphMem || graph instanceof OffHeapGraph || graph instanceof VersionedGraph) {
             return graph.size();
         }
+        if (graph instanceof CopyOnWriteGraph) {
+            CopyOnWriteGraph g = (CopyOnWriteGraph) graph;
+            return size(g.getBase()) - g.getDeleted().size() + g.getAdded().size();
+        }
         if (graph instanceof UnionGraph && ((UnionGraph) graph).getUnderlying().isEmpty()) {
             Graph bg = ((UnionGraph) graph).getBaseGraph();
-            if (bg instanceof GraphMem) {
-                return bg.size();
+            if (bg instanceof GraphMem || bg instanceof OffHeapGraph || bg instanceof VersionedGraph
+                    || bg instanceof CopyOnWriteGraph) {
+                return size(bg);
             }
         }
         return Iter.count(graph.find());
@@ -229,7 +244,8 @@ public class Graphs {
      */
     public static UnionGraph toUnion(Graph g) {
         if (g instanceof UnionGraph) return (UnionGraph) g;
-        if (g instanceof GraphMem) return new UnionGraph(g);
+        if (g instanceof GraphMem || g instanceof OffHeapGraph || g instanceof VersionedGraph
+                || g instanceof CopyOnWriteGraph) return new UnionGraph(g);
         return toUnion(getBase(g), baseGraphs(g).collect(Collectors.toSet()));
     }
 
@@ -545,6 +561,33 @@ public class Graphs {
                 t -> Iter.of(t.getSubject(), t.getObject())).toSet()).iterator());
     }
 
+    /**
+     * Lists all unique URI nodes in the given graph, i.e. all predicates, URI subjects and URI objects.
+     * For a {@link GraphMem} the nodes are taken lazily from its indexes, which requires no extra memory:
+     * a node that occurs in several positions is answered only once,
+     * which is checked by looking up the other indexes.
+     * For any other graph the result is temporary stored in-memory.
+     *
+     * @param g {@link Graph}, not {@code null}
+     * @return an {@link ExtendedIterator ExtendedIterator} (<b>distinct</b>) of all URI nodes in the graph
+     * @throws OutOfMemoryError while iterating in case the graph is not {@link GraphMem}
+     *                          and is too large so that all its URIs can be placed in memory as a {@code Set}
+     * @since 2.1.0
+     */
+    public static ExtendedIterator<Node> listURINodes(Graph g) {
+        if (!(g instanceof GraphMem)) {
+            return Iter.create(() -> Collections.unmodifiableSet(Iter.flatMap(g.find(),
+                    t -> Iter.of(t.getSubject(), t.getPredicate(), t.getObject())).filterKeep(Node::isURI).toSet())
+                    .iterator());
+        }
+        TripleStore store = ((GraphMem) g).store;
+        return Iter.create(store::listPredicates)
+                .andThen(Iter.create(store::listSubjects)
+                        .filterKeep(s -> s.isURI() && !g.contains(Node.ANY, s, Node.ANY)))
+                .andThen(Iter.create(store::listObjects)
+                        .filterKeep(o -> o.isURI() && !g.contains(Node.ANY, o, Node.ANY) && !g.contains(o, Node.ANY, Node.ANY)));
+    }
+
     /**
      * Lists all unique nodes in the given graph.
      * Warning: the result is temporary stored in-memory!
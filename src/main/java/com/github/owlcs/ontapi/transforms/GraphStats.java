@@ -17,6 +17,7 @@ package com.github.owlcs.ontapi.transforms;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Triple;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -31,6 +32,7 @@ public class GraphStats {
     protected final Graph graph;
     protected Map<Type, Map<String, Set<Triple>>> triples = new EnumMap<>(Type.class);
     protected Set<GraphStats> sub = new HashSet<>();
+    protected Map<String, Long> times = new HashMap<>();
 
     protected GraphStats(Graph graph) {
         this.graph = Objects.requireNonNull(graph);
@@ -50,6 +52,10 @@ public class GraphStats {
         map(type).computeIfAbsent(name, s -> new HashSet<>()).addAll(triples);
     }
 
+    protected void putTime(Transform transform, long nanos) {
+        times.merge(transform.id(), nanos, Long::sum);
+    }
+
     protected void putStats(GraphStats other) {
         this.sub.add(other);
     }
@@ -85,6 +91,27 @@ public class GraphStats {
         return triples.computeIfAbsent(type, t -> new HashMap<>());
     }
 
+    /**
+     * Returns the time spent by the specified transform on the encapsulated graph.
+     *
+     * @param name {@code String}, the transform identifier, see {@link Transform#id()}
+     * @return {@link Duration}, {@code ZERO} if the transform has not been performed
+     * @since 2.1.0
+     */
+    public Duration getTime(String name) {
+        return Duration.ofNanos(times.getOrDefault(name, 0L));
+    }
+
+    /**
+     * Returns the total time spent by all transforms on the encapsulated graph, excluding sub-graphs.
+     *
+     * @return {@link Duration}
+     * @since 2.1.0
+     */
+    public Duration getTime() {
+        return Duration.ofNanos(times.values().stream().mapToLong(Long::longValue).sum());
+    }
+
     public Graph getGraph() {
         return graph;
     }
@@ -25,6 +25,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,6 +63,8 @@ public class GraphTransformers implements Serializable {
     protected Map<String, Transform> set = new LinkedHashMap<>();
     // by default any graph is allowed to be transformed:
     protected GraphFilter filter = GraphFilter.TRUE;
+    // by default all graphs are processed sequentially in the calling thread:
+    protected boolean parallel;
 
     /**
      * Sets the global (system-wide) transformation manager.
@@ -117,6 +122,7 @@ public class GraphTransformers implements Serializable {
     protected GraphTransformers empty() {
         GraphTransformers res = new GraphTransformers();
         res.filter = this.filter;
+        res.parallel = this.parallel;
         return res;
     }
 
@@ -270,6 +276,34 @@ public class GraphTransformers implements Serializable {
         return filter;
     }
 
+    /**
+     * Creates a copy of this {@link GraphTransformers manager} with the specified processing mode.
+     * In the parallel mode independent sub-graphs of the {@link UnionGraph} hierarchy are transformed concurrently
+     * using the {@link ForkJoinPool#commonPool() common fork-join pool};
+     * a graph is processed only after all its sub-graphs have been processed.
+     * The {@link Transform}s and the {@link GraphFilter} must be thread-safe in the case of parallel mode.
+     *
+     * @param parallel boolean, {@code true} to enable parallel mode
+     * @return a copy of this {@link GraphTransformers manager} with the new mode
+     * @since 2.1.0
+     */
+    public GraphTransformers setParallel(boolean parallel) {
+        GraphTransformers res = copy();
+        res.parallel = parallel;
+        return res;
+    }
+
+    /**
+     * Answers {@code true} if the independent sub-graphs are transformed concurrently.
+     *
+     * @return boolean
+     * @see #setParallel(boolean)
+     * @since 2.1.0
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
     /**
      * Performs all graph transformations operations.
      *
@@ -292,6 +326,9 @@ public class GraphTransformers implements Serializable {
      * @throws TransformException if something is wrong
      */
     public GraphStats transform(Graph graph, Set<Graph> skip) throws TransformException {
+        if (parallel) {
+            return transformParallel(graph, skip);
+        }
         List<Graph> children = Graphs.toUnion(graph).getUnderlying().listGraphs().toList();
         Graph base = Graphs.getBase(graph);
         GraphStats res = new GraphStats(base);
@@ -305,10 +342,102 @@ public class GraphTransformers implements Serializable {
         if (skip.contains(base)) {
             return res;
         }
-        if (!getFilter().test(graph)) {
-            skip.add(base);
+        if (getFilter().test(graph)) {
+            transform(graph, base, res);
+        }
+        skip.add(base);
+        return res;
+    }
+
+    /**
+     * Performs all graph transformations operations in parallel mode.
+     * Each sub-graph is processed at most once, in a separate task, which starts when all its sub-graphs are done.
+     *
+     * @param graph {@link Graph}, in most cases it is {@link UnionGraph} with sub-graphs
+     * @param skip  a {@code Set} of {@link Graph}s to exclude from transformations, modifiable
+     * @return {@link GraphStats} a container with result
+     * @throws TransformException if something is wrong
+     * @see #setParallel(boolean)
+     */
+    protected GraphStats transformParallel(Graph graph, Set<Graph> skip) throws TransformException {
+        Map<Graph, CompletableFuture<GraphStats>> tasks = new HashMap<>();
+        CompletableFuture<GraphStats> res = schedule(graph, new HashSet<>(skip), tasks, new HashSet<>());
+        try {
+            GraphStats stats = res.join();
+            skip.addAll(tasks.keySet());
+            return stats;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Recursively creates transformation tasks for the given graph and all its sub-graphs.
+     * As in the sequential mode, an error from a sub-graph task is wrapped by each level of the hierarchy.
+     *
+     * @param graph {@link Graph} to process
+     * @param skip  an unmodifiable (in this method) {@code Set} of {@link Graph}s to exclude from transformations
+     * @param tasks a {@code Map} of already created tasks by base graphs
+     * @param path  a {@code Set} of base graphs that are under processing, to avoid infinite loops in recursive hierarchy
+     * @return {@code CompletableFuture} of {@link GraphStats}
+     */
+    private CompletableFuture<GraphStats> schedule(Graph graph,
+                                                   Set<Graph> skip,
+                                                   Map<Graph, CompletableFuture<GraphStats>> tasks,
+                                                   Set<Graph> path) {
+        Graph base = Graphs.getBase(graph);
+        CompletableFuture<GraphStats> res = tasks.get(base);
+        if (res != null) {
             return res;
         }
+        path.add(base);
+        List<CompletableFuture<GraphStats>> children = new ArrayList<>();
+        Graphs.toUnion(graph).getUnderlying().listGraphs().forEachRemaining(g -> {
+            if (path.contains(Graphs.getBase(g))) {
+                return;
+            }
+            children.add(schedule(g, skip, tasks, path));
+        });
+        path.remove(base);
+        // handle (not apply) - to get control when some of the sub-graph tasks fails
+        res = CompletableFuture.allOf(children.toArray(new CompletableFuture[0])).handleAsync((x, ex) -> {
+            GraphStats stats = new GraphStats(base);
+            for (CompletableFuture<GraphStats> c : children) {
+                try {
+                    stats.putStats(c.join());
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof StoreException) {
+                        throw ((StoreException) e.getCause()).putParent(graph);
+                    }
+                    throw e;
+                }
+            }
+            if (skip.contains(base) || !getFilter().test(graph)) {
+                return stats;
+            }
+            transform(graph, base, stats);
+            return stats;
+        }, ForkJoinPool.commonPool());
+        tasks.put(base, res);
+        return res;
+    }
+
+    /**
+     * Performs all suitable transforms on the given graph (but not on its sub-graphs).
+     *
+     * @param graph {@link Graph} to process
+     * @param base  {@link Graph} the base graph
+     * @param res   {@link GraphStats} to store the outcome
+     * @throws StoreException if something is wrong
+     */
+    protected void transform(Graph graph, Graph base, GraphStats res) throws StoreException {
         transforms()
                 .filter(x -> x.test(graph))
                 .forEach(x -> {
@@ -318,6 +447,7 @@ public class GraphTransformers implements Serializable {
                     GraphEventManager events = base.getEventManager();
                     TransformListener listener = createTrackListener();
                     Set<Triple> uncertainTriples;
+                    long start = System.nanoTime();
                     try {
                         events.register(listener);
                         uncertainTriples = x.apply(graph).collect(Collectors.toSet());
@@ -326,14 +456,13 @@ public class GraphTransformers implements Serializable {
                     } finally {
                         events.unregister(listener);
                     }
+                    res.putTime(x, System.nanoTime() - start);
                     res.putTriples(x,
                             listener.getAdded(),
                             listener.getDeleted(),
                             uncertainTriples);
 
                 });
-        skip.add(base);
-        return res;
     }
 
     protected TransformListener createTrackListener() {
@@ -344,12 +473,13 @@ public class GraphTransformers implements Serializable {
     public boolean equals(Object o) {
         return this == o || o instanceof GraphTransformers
                 && set.equals(((GraphTransformers) o).set)
-                && filter.equals(((GraphTransformers) o).filter);
+                && filter.equals(((GraphTransformers) o).filter)
+                && parallel == ((GraphTransformers) o).parallel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(set, filter);
+        return Objects.hash(set, filter, parallel);
     }
 
     /**
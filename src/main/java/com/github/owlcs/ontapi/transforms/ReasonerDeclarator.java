@@ -71,6 +71,12 @@ import java.util.stream.Stream;
  * </ul>
  * <p>
  * Note: ObjectProperty &amp; ClassExpression have more priority then DataProperty &amp; DataRange
+ * <p>
+ * Impl notes: ambiguous statements are processed with help of the {@link Worklist worklist}:
+ * while testing a statement, all the resources whose types are checked are recorded,
+ * and when some of these resources gets a new declaration, the statement is queued again.
+ * So, only affected statements are re-evaluated, but not the whole collection of ambiguous statements.
+ * The whole collection is re-evaluated only when the {@link Strategy} changes.
  */
 @SuppressWarnings("WeakerAccess")
 public class ReasonerDeclarator extends BaseDeclarator {
@@ -79,8 +85,14 @@ public class ReasonerDeclarator extends BaseDeclarator {
     protected Strategy decider;
     // Map with statements and functions to rerun
     protected final Map<Statement, Function<Statement, Res>> rerun;
+    // dependencies between rerun statements and resources
+    protected final Worklist worklist;
     // result of processing
     protected Set<Statement> unparsed = new HashSet<>();
+    // lazily collected owl:hasKey members
+    private Set<Resource> keyProperties;
+    // the cache for #canBeDataPropertyInAssertion
+    private Map<Property, Boolean> dataAssertionProperties;
 
     public ReasonerDeclarator(Graph graph) {
         this(graph, DefaultStrategies.FIRST, 10);
@@ -101,19 +113,28 @@ public class ReasonerDeclarator extends BaseDeclarator {
     protected ReasonerDeclarator(Graph graph,
                                  Map<Statement, Function<Statement, Res>> rerun,
                                  Strategy decider, int count) {
+        this(graph, new Worklist(rerun), decider, count);
+    }
+
+    /**
+     * Creates a declarator that shares the given worklist.
+     *
+     * @param graph    {@link Graph}
+     * @param worklist {@link Worklist}
+     * @param decider  {@link Strategy}
+     * @param count    int
+     */
+    protected ReasonerDeclarator(Graph graph, Worklist worklist, Strategy decider, int count) {
         super(graph);
         if (count <= 0) throw new IllegalArgumentException();
-        this.rerun = Objects.requireNonNull(rerun);
+        this.worklist = Objects.requireNonNull(worklist);
+        this.rerun = worklist.rerun;
         this.decider = Objects.requireNonNull(decider);
         this.maxRerunCount = count;
     }
 
     protected void parse(Statement s, Function<Statement, Res> function) {
-        Res res = function.apply(s);
-        if (res != Res.UNKNOWN) {
-            return;
-        }
-        rerun.put(s, function);
+        worklist.test(s, function, function);
     }
 
     @Override
@@ -122,8 +143,36 @@ public class ReasonerDeclarator extends BaseDeclarator {
             parse();
             unparsed.addAll(parseTail());
         } finally { // possibility to rerun
-            rerun.clear();
+            worklist.clear();
+            keyProperties = null;
+            dataAssertionProperties = null;
+        }
+    }
+
+    @Override
+    boolean hasType(Resource resource, Resource type) {
+        worklist.track(resource);
+        return super.hasType(resource, type);
+    }
+
+    @Override
+    protected ReasonerDeclarator declare(Resource subject, Resource type) {
+        boolean changed = !super.hasType(subject, type);
+        super.declare(subject, type);
+        if (changed) {
+            worklist.changed(subject);
         }
+        return this;
+    }
+
+    @Override
+    protected ReasonerDeclarator undeclare(Resource subject, Resource type) {
+        boolean changed = super.hasType(subject, type);
+        super.undeclare(subject, type);
+        if (changed) {
+            worklist.changed(subject);
+        }
+        return this;
     }
 
     protected void parse() {
@@ -141,31 +190,32 @@ public class ReasonerDeclarator extends BaseDeclarator {
         parsePropertyAssertions();
     }
 
+    /**
+     * Re-evaluates the ambiguous statements.
+     * Each round processes the queued statements until the fixpoint is reached:
+     * only statements whose dependencies have been changed are re-evaluated.
+     * Then the strategy is changed and all remaining statements are queued for the next round.
+     * The number of rounds is limited by {@link #maxRerunCount}.
+     *
+     * @return {@code Set} of still ambiguous {@link Statement}s
+     */
     protected Set<Statement> parseTail() {
-        Map<Statement, Function<Statement, Res>> prev = new LinkedHashMap<>(rerun);
-        Map<Statement, Function<Statement, Res>> next = new LinkedHashMap<>();
         int count = 0;
         while (count++ < maxRerunCount) {
-            for (Statement s : prev.keySet()) {
-                Function<Statement, Res> func = prev.get(s);
-                if (Res.UNKNOWN == func.apply(s)) {
-                    next.put(s, prev.get(s));
-                }
+            while (!worklist.isEmpty()) {
+                worklist.pass();
             }
-            if (next.isEmpty()) {
+            if (rerun.isEmpty()) {
                 return Collections.emptySet();
             }
-            if (next.size() == prev.size()) {
-                decider = decider.next();
-            }
+            decider = decider.next();
             if (decider == null) {
                 break;
             }
-            prev = next;
-            next = new LinkedHashMap<>();
+            worklist.requeueAll();
         }
-        LOGGER.warn("Ambiguous statements {}", next.keySet());
-        return next.keySet();
+        LOGGER.warn("Ambiguous statements {}", rerun.keySet());
+        return new LinkedHashSet<>(rerun.keySet());
     }
 
     @Override
@@ -274,7 +324,7 @@ public class ReasonerDeclarator extends BaseDeclarator {
         Map<Resource, Resource> add = new HashMap<>();
         Map<Resource, Resource> del = new HashMap<>();
         ReasonerDeclarator self = this;
-        new ReasonerDeclarator(getGraph(), rerun, decider, maxRerunCount) {
+        new ReasonerDeclarator(getGraph(), worklist, decider, maxRerunCount) {
             @Override
             protected ReasonerDeclarator declare(Resource subject, Resource type) {
                 add.put(subject, type);
@@ -288,11 +338,7 @@ public class ReasonerDeclarator extends BaseDeclarator {
             }
 
             private void parse(Statement s) {
-                Res res = super.testPropertyAssertions(s);
-                if (res != Res.UNKNOWN) {
-                    return;
-                }
-                rerun.put(s, self::testPropertyAssertions);
+                worklist.test(s, super::testPropertyAssertions, self::testPropertyAssertions);
             }
 
             @Override
@@ -359,13 +405,29 @@ public class ReasonerDeclarator extends BaseDeclarator {
 
     protected boolean mustBeDataOrObjectProperty(Resource candidate) {
         // "P rdf:type owl:FunctionalProperty", "R rdf:type owl:FunctionalProperty"
-        if (candidate.hasProperty(RDF.type, OWL.FunctionalProperty)) return true;
+        if (hasType(candidate, OWL.FunctionalProperty)) return true;
         // "C owl:hasKey (P1 ... Pm R1 ... Rn)"
+        return getKeyProperties().contains(candidate);
+    }
+
+    /**
+     * Returns all members of all {@code owl:hasKey} lists.
+     * The set is collected once, since the declarator does not change such lists.
+     *
+     * @return {@code Set} of {@link Resource}s
+     */
+    protected Set<Resource> getKeyProperties() {
+        if (keyProperties != null) {
+            return keyProperties;
+        }
         ExtendedIterator<RDFList> lists = listStatements(null, OWL.hasKey, null)
                 .mapWith(Statement::getObject)
                 .filterKeep(o -> o.canAs(RDFList.class))
                 .mapWith(o -> o.as(RDFList.class));
-        return Iter.anyMatch(Iter.flatMap(lists, RDFList::iterator), candidate::equals);
+        return keyProperties = Iter.flatMap(lists, RDFList::iterator)
+                .filterKeep(RDFNode::isResource)
+                .mapWith(RDFNode::asResource)
+                .toSet();
     }
 
     protected boolean canBeIndividual(RDFNode candidate) {
@@ -374,12 +436,16 @@ public class ReasonerDeclarator extends BaseDeclarator {
     }
 
     protected boolean canBeDataPropertyInAssertion(Property candidate) {
-        // if the property participates in assertion where the right part is non-plain literal:
-        return Iter.findFirst(listStatements(null, candidate, null)
+        // if the property participates in assertion where the right part is non-plain literal
+        // (literals are not changed by the declarator, so the answer can be cached):
+        if (dataAssertionProperties == null) {
+            dataAssertionProperties = new HashMap<>();
+        }
+        return dataAssertionProperties.computeIfAbsent(candidate, p -> Iter.findFirst(listStatements(null, p, null)
                 .filterKeep(x -> x.getObject().isLiteral())
                 .mapWith(Statement::getLiteral)
                 .filterDrop(s -> XSDDatatype.XSDstring.equals(s.getDatatype())))
-                .isPresent();
+                .isPresent());
     }
 
     protected boolean canBeClass(Resource resource) {
@@ -517,6 +583,127 @@ public class ReasonerDeclarator extends BaseDeclarator {
         return res;
     }
 
+    /**
+     * A worklist of ambiguous statements, which tracks dependencies between statements and resources.
+     * A statement depends on a resource if the type of the resource has been checked while testing the statement.
+     */
+    protected static class Worklist {
+        // Map with ambiguous statements and functions to rerun
+        protected final Map<Statement, Function<Statement, Res>> rerun;
+        // all ambiguous statements ever found, in the order of appearance
+        protected final List<Statement> statements = new ArrayList<>();
+        protected final Map<Statement, Integer> indexes = new HashMap<>();
+        // resource -> indexes of statements to re-evaluate when the resource types change
+        protected final Map<Resource, Set<Integer>> dependents = new HashMap<>();
+        // indexes of statements to re-evaluate
+        protected final BitSet queue = new BitSet();
+        // resources whose types are checked while testing the current statement
+        protected Set<Resource> tracked;
+
+        protected Worklist(Map<Statement, Function<Statement, Res>> rerun) {
+            this.rerun = Objects.requireNonNull(rerun);
+        }
+
+        /**
+         * Tests the statement, recording all resources whose types are checked.
+         * If the statement is ambiguous, it is stored in the worklist along with its dependencies.
+         *
+         * @param statement {@link Statement} to test
+         * @param test      {@link Function} to test the statement
+         * @param function  {@link Function} to re-evaluate the statement later
+         * @return {@link Res}
+         */
+        protected Res test(Statement statement,
+                           Function<Statement, Res> test,
+                           Function<Statement, Res> function) {
+            Set<Resource> prev = tracked;
+            Set<Resource> dependencies = tracked = new HashSet<>();
+            Res res;
+            try {
+                res = test.apply(statement);
+            } finally {
+                tracked = prev;
+            }
+            if (res != Res.UNKNOWN) {
+                rerun.remove(statement);
+                return res;
+            }
+            rerun.put(statement, function);
+            Integer index = indexes.computeIfAbsent(statement, s -> {
+                statements.add(s);
+                return statements.size() - 1;
+            });
+            dependencies.forEach(r -> dependents.computeIfAbsent(r, x -> new HashSet<>()).add(index));
+            return res;
+        }
+
+        /**
+         * Records the resource as a dependency of the statement that is currently tested.
+         *
+         * @param resource {@link Resource}
+         */
+        protected void track(Resource resource) {
+            if (tracked != null) {
+                tracked.add(resource);
+            }
+        }
+
+        /**
+         * Queues all statements that depend on the given resource.
+         *
+         * @param resource {@link Resource} whose types have been changed
+         */
+        protected void changed(Resource resource) {
+            Set<Integer> res = dependents.remove(resource);
+            if (res != null) {
+                res.forEach(queue::set);
+            }
+        }
+
+        /**
+         * Queues all ambiguous statements.
+         */
+        protected void requeueAll() {
+            rerun.keySet().forEach(s -> queue.set(indexes.get(s)));
+        }
+
+        /**
+         * Answers {@code true} if there is nothing to re-evaluate.
+         *
+         * @return boolean
+         */
+        protected boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        /**
+         * Re-evaluates all queued statements in the order of their appearance.
+         * Statements queued during the pass are processed in the same pass, if they are not passed yet.
+         */
+        protected void pass() {
+            for (int i = queue.nextSetBit(0); i >= 0; i = queue.nextSetBit(i + 1)) {
+                queue.clear(i);
+                Statement s = statements.get(i);
+                Function<Statement, Res> function = rerun.get(s);
+                if (function != null) {
+                    test(s, function, function);
+                }
+            }
+        }
+
+        /**
+         * Clears the worklist.
+         */
+        protected void clear() {
+            rerun.clear();
+            statements.clear();
+            indexes.clear();
+            dependents.clear();
+            queue.clear();
+            tracked = null;
+        }
+    }
+
     public enum Res {
         TRUE, // found ad fixed
         FALSE, // found, but can not be fixed
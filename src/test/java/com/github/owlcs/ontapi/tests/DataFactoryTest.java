@@ -15,6 +15,7 @@
 package com.github.owlcs.ontapi.tests;
 
 import com.github.owlcs.ontapi.DataFactory;
+import com.github.owlcs.ontapi.InterningDataFactoryImpl;
 import com.github.owlcs.ontapi.OntManagers;
 import org.junit.Assert;
 import org.junit.Test;
@@ -40,6 +41,7 @@ import java.util.List;
 public class DataFactoryTest extends TestFactory {
     private static final OWLDataFactory OWL_DATA_FACTORY = OntManagers.createOWLProfile().dataFactory();
     private static final DataFactory ONT_DATA_FACTORY = OntManagers.getDataFactory();
+    private static final DataFactory INTERNING_DATA_FACTORY = new InterningDataFactoryImpl();
 
     private final Data data;
 
@@ -138,6 +140,23 @@ public class DataFactoryTest extends TestFactory {
         Assert.assertEquals(data.isSWRLAtom(), object instanceof SWRLAtom);
     }
 
+    @Test
+    public void testInterning() {
+        OWLObject expected = data.create(ONT_DATA_FACTORY);
+        OWLObject actual1 = data.create(INTERNING_DATA_FACTORY);
+        if (data.shouldBeSame()) {
+            Assert.assertSame(expected, actual1);
+            return;
+        }
+        data.testCompare(expected, actual1);
+        OWLObject actual2 = data.create(INTERNING_DATA_FACTORY);
+        if (actual1 instanceof OWLEntity || actual1 instanceof OWLLiteral) {
+            Assert.assertSame(actual1, actual2);
+            return;
+        }
+        data.testCompare(actual1, actual2);
+    }
+
     @Test
     public void testSerialization() throws Exception {
         OWLObject object = data.create(ONT_DATA_FACTORY);
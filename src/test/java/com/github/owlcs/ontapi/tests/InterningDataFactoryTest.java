@@ -0,0 +1,98 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link InterningDataFactoryImpl}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class InterningDataFactoryTest {
+
+    @Test
+    public void testInternAndPurge() {
+        InterningDataFactoryImpl df = new InterningDataFactoryImpl(10);
+        String uri = "http://x#A";
+        IRI iri = df.getIRI(uri);
+        Assert.assertSame(iri, df.getIRI(uri));
+        Assert.assertEquals(IRI.create(uri), iri);
+
+        OWLClass c = df.getOWLClass(uri);
+        Assert.assertSame(c, df.getOWLClass(IRI.create(uri)));
+        Assert.assertSame(iri, c.getIRI());
+        Assert.assertNotSame(c, df.getOWLObjectProperty(iri));
+        Assert.assertEquals(OntManagers.getDataFactory().getOWLClass(uri), c);
+
+        OWLLiteral l = df.getOWLLiteral("x", "en");
+        Assert.assertSame(l, df.getOWLLiteral("x", "en"));
+        Assert.assertNotSame(l, df.getOWLLiteral("x"));
+        Assert.assertSame(df.getOWLLiteral(42), df.getOWLLiteral("42", OWL2Datatype.XSD_INTEGER.getDatatype(df)));
+
+        df.purge();
+        Assert.assertNotSame(iri, df.getIRI(uri));
+        Assert.assertNotSame(c, df.getOWLClass(uri));
+        Assert.assertEquals(c, df.getOWLClass(uri));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        InterningDataFactoryImpl df = new InterningDataFactoryImpl(42);
+        df.getOWLClass("http://x#A");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(df);
+        }
+        InterningDataFactoryImpl copy;
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            copy = (InterningDataFactoryImpl) stream.readObject();
+        }
+        Assert.assertEquals(42, copy.getPoolSize());
+        Assert.assertSame(copy.getOWLClass("http://x#A"), copy.getOWLClass("http://x#A"));
+    }
+
+    @Test
+    public void testLoadOntology() throws Exception {
+        OWLOntologyDocumentSource source = ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        OntologyManager m = OntManagers.DEFAULT_PROFILE.createManager(new InterningDataFactoryImpl(),
+                new ReentrantReadWriteLock());
+        Ontology actual = m.loadOntologyFromOntologyDocument(source);
+        Ontology expected = OntManagers.createONT().loadOntologyFromOntologyDocument(source);
+        Set<OWLAxiom> axioms = expected.axioms().collect(Collectors.toSet());
+        Assert.assertEquals(axioms, actual.axioms().collect(Collectors.toSet()));
+
+        OWLDataFactory df = m.getOWLDataFactory();
+        OWLClass c = df.getOWLClass("http://www.co-ode.org/ontologies/pizza/pizza.owl#Pizza");
+        Assert.assertSame(c, df.getOWLClass(c.getIRI()));
+        OWLAxiom a = df.getOWLSubClassOfAxiom(df.getOWLClass("http://x#B"), c);
+        actual.add(a);
+        Assert.assertTrue(actual.containsAxiom(a));
+        Assert.assertEquals(axioms.size() + 1, actual.getAxiomCount());
+    }
+}
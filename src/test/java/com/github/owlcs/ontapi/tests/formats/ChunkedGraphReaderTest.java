@@ -0,0 +1,149 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.formats;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.config.OntLoaderConfiguration;
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * To test {@link ChunkedGraphReader} and
+ * {@link com.github.owlcs.ontapi.config.LoadSettings#getParsingParallelism()}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class ChunkedGraphReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(Graph g, Lang lang) throws Exception {
+        Path res = folder.newFile("test." + lang.getFileExtensions().get(0)).toPath();
+        try (OutputStream out = Files.newOutputStream(res)) {
+            RDFDataMgr.write(out, g, lang);
+        }
+        return res;
+    }
+
+    @Test
+    public void testReadNTriplesByChunks() throws Exception {
+        // pizza contains a lot of anonymous class expressions, which are spread over the chunks:
+        Graph expected = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        Path file = write(expected, Lang.NTRIPLES);
+        for (int parallelism : new int[]{1, 4}) {
+            Graph actual = OntModelFactory.createDefaultGraph();
+            new ChunkedGraphReader(Lang.NTRIPLES, parallelism, 256, 7).read(file, null, actual);
+            Assert.assertEquals(expected.size(), actual.size());
+            Assert.assertTrue(expected.isIsomorphicWith(actual));
+        }
+    }
+
+    @Test
+    public void testReadNQuadsDefaultGraph() throws Exception {
+        Graph expected = ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph();
+        DatasetGraph ds = DatasetGraphFactory.create(expected);
+        Node name = NodeFactory.createURI("urn:g");
+        ds.add(name, NodeFactory.createURI("urn:s"), NodeFactory.createURI("urn:p"), NodeFactory.createURI("urn:o"));
+        Path file = folder.newFile("test.nq").toPath();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            RDFDataMgr.write(out, ds, Lang.NQUADS);
+        }
+        Graph actual = OntModelFactory.createDefaultGraph();
+        new ChunkedGraphReader(Lang.NQUADS, 3, 1024, 100).read(file, null, actual);
+        Assert.assertTrue(expected.isIsomorphicWith(actual));
+    }
+
+    @Test
+    public void testBlankNodesOfDifferentDocuments() throws Exception {
+        Path file = folder.newFile("test.nt").toPath();
+        Files.write(file, "_:b <urn:p> <urn:o> .\n".getBytes(StandardCharsets.UTF_8));
+        Graph g = OntModelFactory.createDefaultGraph();
+        ChunkedGraphReader reader = new ChunkedGraphReader(Lang.NTRIPLES, 2);
+        reader.read(file, null, g);
+        reader.read(file, null, g);
+        Assert.assertEquals(2, g.size());
+    }
+
+    @Test(expected = RiotException.class)
+    public void testBrokenChunk() throws Exception {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        Path file = write(g, Lang.NTRIPLES);
+        Files.write(file, "<urn:s> <urn:p> .\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        new ChunkedGraphReader(Lang.NTRIPLES, 4, 512, 10).read(file, null, OntModelFactory.createDefaultGraph());
+    }
+
+    @Test
+    public void testFindFile() throws Exception {
+        Path file = write(ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph(), Lang.NTRIPLES);
+        Assert.assertEquals(file, ChunkedGraphReader.findFile(file.toUri()).orElseThrow(AssertionError::new));
+        Path gz = folder.newFile("test.nt.gz").toPath();
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gz))) {
+            Files.copy(file, out);
+        }
+        Assert.assertFalse(ChunkedGraphReader.findFile(gz.toUri()).isPresent());
+        Assert.assertFalse(ChunkedGraphReader.findFile(folder.getRoot().toURI()).isPresent());
+        Assert.assertFalse(ChunkedGraphReader.findFile(URI.create("http://example.com/x.nt")).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedLang() {
+        new ChunkedGraphReader(Lang.TURTLE, 2);
+    }
+
+    @Test
+    public void testManagerLoadWithParsingParallelism() throws Exception {
+        Ontology expected = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+        Path file = write(expected.asGraphModel().getBaseGraph(), Lang.NTRIPLES);
+        Set<OWLAxiom> axioms = expected.axioms().collect(Collectors.toSet());
+
+        OntologyManager m = OntManagers.createONT();
+        OntLoaderConfiguration conf = m.getOntologyLoaderConfiguration().setParsingParallelism(4);
+        Assert.assertEquals(4, conf.getParsingParallelism());
+        // with explicit format and without it:
+        Ontology o1 = m.loadOntologyFromOntologyDocument(new FileDocumentSource(file.toFile(),
+                OntFormat.NTRIPLES.createOwlFormat()), conf);
+        Assert.assertEquals(axioms, o1.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(OntFormat.NTRIPLES.createOwlFormat(), m.getOntologyFormat(o1));
+        m.removeOntology(o1);
+        Ontology o2 = m.loadOntologyFromOntologyDocument(new FileDocumentSource(file.toFile()), conf);
+        Assert.assertEquals(axioms, o2.axioms().collect(Collectors.toSet()));
+    }
+}
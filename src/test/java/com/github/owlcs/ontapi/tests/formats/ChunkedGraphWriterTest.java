@@ -0,0 +1,145 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.formats;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.FileDocumentTarget;
+import org.semanticweb.owlapi.io.StreamDocumentTarget;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link ChunkedGraphWriter} and {@link OntologyManagerImpl#writeAsync(org.semanticweb.owlapi.model.OWLOntology,
+ * org.semanticweb.owlapi.model.OWLDocumentFormat, org.semanticweb.owlapi.io.OWLOntologyDocumentTarget,
+ * java.util.concurrent.Executor, ChunkedGraphWriter.Listener)}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class ChunkedGraphWriterTest {
+
+    private static Graph read(byte[] data, Lang lang) {
+        Graph res = OntModelFactory.createDefaultGraph();
+        RDFDataMgr.read(res, new ByteArrayInputStream(data), lang);
+        return res;
+    }
+
+    private static Set<String> lines(byte[] data) {
+        return Arrays.stream(new String(data, StandardCharsets.UTF_8).split("\n")).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testWriteByChunks() throws Exception {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph();
+        ExecutorService service = Executors.newFixedThreadPool(3);
+        try {
+            for (Lang lang : Arrays.asList(Lang.NTRIPLES, Lang.NQUADS, Lang.RDFTHRIFT)) {
+                ByteArrayOutputStream expected = new ByteArrayOutputStream();
+                RDFDataMgr.write(expected, g, lang);
+
+                List<long[]> progress = new ArrayList<>();
+                ByteArrayOutputStream actual = new ByteArrayOutputStream();
+                long count = new ChunkedGraphWriter(lang, service, 100, 4)
+                        .writeAsync(g, g.getPrefixMapping(), Channels.newChannel(actual),
+                                (t, b) -> progress.add(new long[]{t, b}))
+                        .get(1, TimeUnit.MINUTES);
+                Assert.assertEquals(g.size(), count);
+                Assert.assertTrue(progress.size() > 1);
+                for (int i = 1; i < progress.size(); i++) {
+                    Assert.assertTrue(progress.get(i - 1)[0] < progress.get(i)[0]);
+                    Assert.assertTrue(progress.get(i - 1)[1] < progress.get(i)[1]);
+                }
+                Assert.assertEquals(count, progress.get(progress.size() - 1)[0]);
+                Assert.assertEquals(actual.size(), progress.get(progress.size() - 1)[1]);
+
+                Assert.assertTrue(lang + ": wrong graph", g.isIsomorphicWith(read(actual.toByteArray(), lang)));
+                if (lang != Lang.RDFTHRIFT) {
+                    Assert.assertEquals(lines(expected.toByteArray()), lines(actual.toByteArray()));
+                }
+            }
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWriteWithSingleThreadExecutor() throws Exception {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            // the writing task occupies the only thread, so the chunks are serialized by it
+            long count = new ChunkedGraphWriter(Lang.NTRIPLES, service, 10, 1)
+                    .writeAsync(g, null, Channels.newChannel(out), null)
+                    .get(1, TimeUnit.MINUTES);
+            Assert.assertEquals(g.size(), count);
+            Assert.assertTrue(g.isIsomorphicWith(read(out.toByteArray(), Lang.NTRIPLES)));
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedLang() {
+        new ChunkedGraphWriter(Lang.TURTLE);
+    }
+
+    @Test
+    public void testManagerWriteAsync() throws Exception {
+        OntologyManagerImpl m = (OntologyManagerImpl) OntManagers.createONT();
+        Ontology o = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Set<OWLAxiom> expected = o.axioms().collect(Collectors.toSet());
+        Path dir = Files.createTempDirectory("ont-chunked");
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            for (OntFormat f : Arrays.asList(OntFormat.NTRIPLES, OntFormat.RDF_THRIFT, OntFormat.TURTLE)) {
+                Path file = dir.resolve("pizza." + f.getExt());
+                long[] triples = new long[1];
+                m.writeAsync(o, f.createOwlFormat(), new FileDocumentTarget(file.toFile()), service,
+                        (t, b) -> triples[0] = t).get(1, TimeUnit.MINUTES);
+                if (f != OntFormat.TURTLE) {
+                    Assert.assertEquals(o.asGraphModel().getBaseGraph().size(), triples[0]);
+                }
+                Ontology actual = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                        new FileDocumentSource(file.toFile(), f.createOwlFormat()));
+                Assert.assertEquals(f.toString(), expected, actual.axioms().collect(Collectors.toSet()));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            m.writeAsync(o, OntFormat.NTRIPLES.createOwlFormat(), new StreamDocumentTarget(out), service, null)
+                    .get(1, TimeUnit.MINUTES);
+            Assert.assertTrue(o.asGraphModel().getBaseGraph().isIsomorphicWith(read(out.toByteArray(), Lang.NTRIPLES)));
+        } finally {
+            service.shutdownNow();
+        }
+    }
+}
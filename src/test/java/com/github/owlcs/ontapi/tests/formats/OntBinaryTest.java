@@ -0,0 +1,160 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.formats;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFLanguages;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link OntBinary} format.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class OntBinaryTest {
+
+    private static void assertIsomorphic(Graph expected, Graph actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertTrue(expected.isIsomorphicWith(actual));
+        Assert.assertEquals(expected.getPrefixMapping().getNsPrefixMap(), actual.getPrefixMapping().getNsPrefixMap());
+    }
+
+    private static byte[] write(Graph g, boolean compress) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OntBinary.write(out, g, compress);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testJenaRegistration() {
+        Assert.assertEquals(OntBinary.LANG, RDFLanguages.filenameToLang("x.ontb"));
+        Assert.assertEquals(OntBinary.LANG, OntFormat.ONT_BINARY.getLang());
+        Assert.assertTrue(OntFormat.ONT_BINARY.isReadSupported());
+        Assert.assertTrue(OntFormat.ONT_BINARY.isWriteSupported());
+        Assert.assertTrue(OntFormat.ONT_BINARY.isJenaOnly());
+    }
+
+    @Test
+    public void testGraphRoundTrip() throws IOException {
+        for (String file : Arrays.asList("ontapi/pizza.ttl", "ontapi/family.ttl")) {
+            Graph expected = ReadWriteUtils.loadResourceTTLFile(file).getGraph();
+            for (boolean compress : new boolean[]{false, true}) {
+                Graph actual = OntModelFactory.createDefaultGraph();
+                OntBinary.read(new ByteArrayInputStream(write(expected, compress)), actual);
+                assertIsomorphic(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testJenaRoundTrip() {
+        Model expected = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RDFDataMgr.write(out, expected, OntBinary.FORMAT_COMPRESSED);
+        Model actual = OntModelFactory.createDefaultModel();
+        RDFDataMgr.read(actual, new ByteArrayInputStream(out.toByteArray()), OntBinary.LANG);
+        assertIsomorphic(expected.getGraph(), actual.getGraph());
+    }
+
+    @Test
+    public void testIsMoreCompactThanThrift() throws IOException {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph();
+        ByteArrayOutputStream thrift = new ByteArrayOutputStream();
+        RDFDataMgr.write(thrift, g, Lang.RDFTHRIFT);
+        byte[] plain = write(g, false);
+        byte[] compressed = write(g, true);
+        Assert.assertTrue(plain.length < thrift.size());
+        Assert.assertTrue(compressed.length < plain.length);
+    }
+
+    @Test
+    public void testSaveAndLoadOntology() throws Exception {
+        Ontology expected = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        expected.saveOntology(OntFormat.ONT_BINARY.createOwlFormat(), out);
+        Ontology actual = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                new StreamDocumentSource(new ByteArrayInputStream(out.toByteArray()),
+                        IRI.create("urn:test:pizza.ontb"), OntFormat.ONT_BINARY.createOwlFormat(), null));
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()),
+                actual.axioms().collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testHierarchyRoundTrip() throws IOException {
+        OntologyManager m = OntManagers.createONT();
+        OntModel a = m.createGraphModel("http://a");
+        OntModel b = m.createGraphModel("http://b");
+        OntModel c = m.createGraphModel("http://c");
+        a.createOntClass("http://a#A");
+        b.createOntClass("http://b#B");
+        c.createOntClass("http://c#C").addSuperClass(b.createOntClass("http://b#X"));
+        a.addImport(b).addImport(c);
+        b.addImport(c);
+        a.setNsPrefix("a", "http://a#");
+
+        List<Graph> roots = m.ontologies().map(o -> (Graph) ((Ontology) o).asGraphModel().getGraph()).collect(Collectors.toList());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OntBinary.write(out, roots, true);
+        List<UnionGraph> res = OntBinary.readGraphs(new ByteArrayInputStream(out.toByteArray()));
+        Assert.assertEquals(roots.size(), res.size());
+        for (int i = 0; i < roots.size(); i++) {
+            Graph expected = roots.get(i);
+            UnionGraph actual = res.get(i);
+            Assert.assertEquals(Graphs.getURI(expected), Graphs.getURI(actual));
+            assertIsomorphic(Graphs.getBase(expected), actual.getBaseGraph());
+            Set<Triple> triples = expected.find().toSet();
+            Assert.assertEquals(triples, actual.find().toSet());
+            Assert.assertEquals(Graphs.getImports(expected), Graphs.getImports(actual));
+        }
+        // base graphs are shared:
+        UnionGraph ra = res.stream().filter(x -> "http://a".equals(Graphs.getURI(x))).findFirst().orElseThrow(AssertionError::new);
+        UnionGraph rc = res.stream().filter(x -> "http://c".equals(Graphs.getURI(x))).findFirst().orElseThrow(AssertionError::new);
+        Assert.assertTrue(ra.getUnderlying().listGraphs().toList().contains(rc));
+
+        OntologyManager copy = OntManagers.createONT();
+        // the ontology <a> imports all others:
+        copy.addOntology(ra);
+        Assert.assertEquals(m.ontologies().count(), copy.ontologies().count());
+        m.ontologies().forEach(o -> {
+            Ontology x = copy.getOntology(o.getOntologyID());
+            Assert.assertNotNull(x);
+            Set<OWLAxiom> axioms = o.axioms().collect(Collectors.toSet());
+            Assert.assertEquals(axioms, x.axioms().collect(Collectors.toSet()));
+            Assert.assertEquals(o.imports().count(), x.imports().count());
+        });
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.OntFormat;
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.config.OntLoaderConfiguration;
+import com.github.owlcs.ontapi.internal.ContentSnapshot;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Created by @ssz on 18.10.2026.
+ *
+ * @see ContentSnapshot
+ */
+@RunWith(Parameterized.class)
+public class ContentSnapshotTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final TestData data;
+
+    public ContentSnapshotTest(TestData data) {
+        this.data = data;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static TestData[] getData() {
+        return TestData.values();
+    }
+
+    private static Ontology load(OntologyManager m, TestData data) throws Exception {
+        return m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource(data.file, data.format));
+    }
+
+    private static Set<OWLAxiom> axioms(Ontology o, AxiomType<?> type) {
+        return o.axioms(type).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testLoadFromSnapshot() throws Exception {
+        testLoadFromSnapshot(false);
+    }
+
+    @Test
+    public void testLoadFromSnapshotWithSplitAnnotations() throws Exception {
+        testLoadFromSnapshot(true);
+    }
+
+    private void testLoadFromSnapshot(boolean split) throws Exception {
+        Path dir = folder.newFolder().toPath();
+        OntologyManager m1 = OntManagers.createONT();
+        m1.getOntologyConfigurator().setSplitAxiomAnnotations(split);
+        Ontology o1 = load(m1, data);
+        OntLoaderConfiguration conf = m1.getOntologyLoaderConfiguration();
+        Path file = ContentSnapshot.write(o1.asGraphModel(), conf, dir);
+        Assert.assertTrue(Files.isRegularFile(file));
+        Assert.assertTrue(ContentSnapshot.find(dir, o1.asGraphModel().getBaseGraph(), conf).isPresent());
+        Assert.assertFalse(ContentSnapshot.find(dir, o1.asGraphModel().getBaseGraph(),
+                conf.setSplitAxiomAnnotations(!split)).isPresent());
+
+        // the same graph:
+        OntologyManager m2 = OntManagers.createONT();
+        m2.getOntologyConfigurator().setSplitAxiomAnnotations(split).setContentSnapshotDirectory(dir.toString());
+        Ontology o2 = m2.addOntology(o1.asGraphModel().getGraph());
+        Assert.assertTrue(ContentSnapshot.find(dir, o2.asGraphModel().getBaseGraph(), conf).isPresent());
+        for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            Assert.assertEquals("Wrong axioms for " + type, axioms(o1, type), axioms(o2, type));
+        }
+
+        // the same document, but another blank nodes:
+        OntologyManager m3 = OntManagers.createONT();
+        m3.getOntologyConfigurator().setSplitAxiomAnnotations(split).setContentSnapshotDirectory(dir.toString());
+        Ontology o3 = load(m3, data);
+        Assert.assertTrue(ContentSnapshot.find(dir, o3.asGraphModel().getBaseGraph(), conf).isPresent());
+        for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            Assert.assertEquals("Wrong axioms count for " + type, o1.axioms(type).count(), o3.axioms(type).count());
+        }
+        Assert.assertEquals(o1.getAxiomCount(), o3.getAxiomCount());
+
+        // changed graph, the snapshot must not be used:
+        o1.asGraphModel().createOntClass("urn:test#X");
+        o3.asGraphModel().createOntClass("urn:test#X");
+        Assert.assertFalse(ContentSnapshot.find(dir, o3.asGraphModel().getBaseGraph(), conf).isPresent());
+        Assert.assertEquals(o1.getAxiomCount(), o3.getAxiomCount());
+    }
+
+    enum TestData {
+        PIZZA("/ontapi/pizza.ttl", OntFormat.TURTLE),
+        FAMILY("/ontapi/family.ttl", OntFormat.TURTLE),
+        TRAVEL("/ontapi/travel.ttl", OntFormat.TURTLE),
+        KOALA("/ontapi/koala.ttl", OntFormat.TURTLE),
+        HP_CUT("/ontapi/hp-cut.ttl", OntFormat.TURTLE),
+        SWRL("/ontapi/swrl.owl.rdf", OntFormat.RDF_XML),
+        ;
+        private final String file;
+        private final OntFormat format;
+
+        TestData(String file, OntFormat format) {
+            this.file = file;
+            this.format = format;
+        }
+    }
+}
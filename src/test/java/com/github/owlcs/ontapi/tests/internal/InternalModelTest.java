@@ -17,6 +17,7 @@ package com.github.owlcs.ontapi.tests.internal;
 import com.github.owlcs.ontapi.BaseModel;
 import com.github.owlcs.ontapi.OntFormat;
 import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
 import com.github.owlcs.ontapi.internal.AxiomParserProvider;
 import com.github.owlcs.ontapi.internal.InternalModel;
 import com.github.owlcs.ontapi.internal.ONTObject;
@@ -221,6 +222,50 @@ public class InternalModelTest {
         test(OWLDataProperty.class, jena.listOWLDataProperties(), owl.dataPropertiesInSignature());
     }
 
+    @Test
+    public void testDirectGraphChanges() {
+        Ontology o = OntManagers.createONT().addOntology(loadResourceTTLFile("ontapi/pizza.ttl").getGraph());
+        OntModel m = o.asGraphModel();
+        String ns = m.getNsPrefixURI("");
+        Resource american = m.getResource(ns + "American");
+        Resource americanHot = m.getResource(ns + "AmericanHot");
+        Resource namedPizza = m.getResource(ns + "NamedPizza");
+        assertSameAxioms(o);
+
+        m.add(american, RDFS.comment, "test");
+        m.add(american, RDFS.subClassOf, americanHot);
+        assertSameAxioms(o);
+
+        m.add(american, OWL.equivalentClass, americanHot).add(americanHot, OWL.equivalentClass, american);
+        assertSameAxioms(o);
+        m.remove(american, OWL.equivalentClass, americanHot);
+        assertSameAxioms(o);
+        Assert.assertEquals(1, o.axioms(AxiomType.EQUIVALENT_CLASSES)
+                .filter(x -> x.containsEntityInSignature(o.getOWLOntologyManager().getOWLDataFactory().getOWLClass(americanHot.getURI()))).count());
+
+        Resource a = m.createResource().addProperty(RDF.type, OWL.Axiom)
+                .addProperty(OWL.annotatedSource, american)
+                .addProperty(OWL.annotatedProperty, RDFS.subClassOf)
+                .addProperty(OWL.annotatedTarget, namedPizza)
+                .addProperty(RDFS.label, "x");
+        assertSameAxioms(o);
+        m.remove(american, RDFS.subClassOf, namedPizza);
+        assertSameAxioms(o);
+        m.removeAll(a, null, null);
+        m.removeAll(american, RDFS.comment, null);
+        assertSameAxioms(o);
+        m.removeAll(americanHot, RDFS.subClassOf, null);
+        assertSameAxioms(o);
+    }
+
+    private static void assertSameAxioms(Ontology actual) {
+        Model copy = ModelFactory.createDefaultModel().add(actual.asGraphModel().getBaseModel());
+        Ontology expected = OntManagers.createONT().addOntology(copy.getGraph());
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.signature().collect(Collectors.toSet()),
+                actual.signature().collect(Collectors.toSet()));
+    }
+
     private void debugPrint(InternalModel jena, OWLOntology owl) {
         print(owl);
         LOGGER.debug("==============================");
@@ -0,0 +1,98 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.internal;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.internal.SharedContentCache;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.parameters.OntologyCopy;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link SharedContentCache}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class SharedContentCacheTest {
+
+    private static OntologyManagerImpl createManager(SharedContentCache cache) {
+        OntologyManagerImpl res = (OntologyManagerImpl) OntManagers.createONT();
+        res.setSharedContentCache(cache);
+        return res;
+    }
+
+    @Test
+    public void testShareBetweenManagers() throws Exception {
+        Ontology src = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+        Set<OWLAxiom> expected = src.axioms().collect(Collectors.toSet());
+
+        SharedContentCache cache = new SharedContentCache();
+        Ontology o1 = createManager(cache).copyOntology(src, OntologyCopy.SHALLOW);
+        Ontology o2 = createManager(cache).copyOntology(src, OntologyCopy.SHALLOW);
+        Assert.assertEquals(0, cache.size());
+
+        Assert.assertEquals(expected, o1.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(1, cache.size());
+        Map<OWLAxiom, OWLAxiom> instances = o1.axioms().collect(Collectors.toMap(x -> x, x -> x));
+        Assert.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+        o2.axioms().forEach(a -> Assert.assertSame(instances.get(a), a));
+
+        // a change in the graph invalidates the shared content:
+        OWLDataFactory df = o1.getOWLOntologyManager().getOWLDataFactory();
+        OWLAxiom a = df.getOWLDeclarationAxiom(df.getOWLClass("urn:test#X"));
+        o1.add(a);
+        Assert.assertEquals(0, cache.size());
+        Assert.assertTrue(o1.containsAxiom(a));
+
+        o2.clearCache();
+        Assert.assertTrue(o2.containsAxiom(a));
+        Assert.assertEquals(expected.size() + 1, o2.getAxiomCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testDifferentSettingsAreNotShared() throws Exception {
+        Ontology src = OntManagers.createONT().loadOntologyFromOntologyDocument(
+                ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE));
+        long annotations = src.axioms(AxiomType.ANNOTATION_ASSERTION).count();
+        Assert.assertNotEquals(0, annotations);
+
+        SharedContentCache cache = new SharedContentCache();
+        OntologyManagerImpl m1 = createManager(cache);
+        OntologyManagerImpl m2 = createManager(cache);
+        m2.setOntologyLoaderConfiguration(m2.getOntologyLoaderConfiguration().setLoadAnnotationAxioms(false));
+        Ontology o1 = m1.copyOntology(src, OntologyCopy.SHALLOW);
+        Ontology o2 = m2.copyOntology(src, OntologyCopy.SHALLOW);
+
+        Assert.assertEquals(annotations, o1.axioms(AxiomType.ANNOTATION_ASSERTION).count());
+        Assert.assertEquals(0, o2.axioms(AxiomType.ANNOTATION_ASSERTION).count());
+        Assert.assertEquals(annotations, o1.axioms(AxiomType.ANNOTATION_ASSERTION).count());
+
+        // disable:
+        m1.setSharedContentCache(null);
+        cache.clear();
+        o1.clearCache();
+        Assert.assertEquals(src.getAxiomCount(), o1.getAxiomCount());
+        Assert.assertEquals(0, cache.size());
+    }
+}
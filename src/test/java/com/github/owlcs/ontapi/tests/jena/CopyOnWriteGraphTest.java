@@ -0,0 +1,130 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.jena.CopyOnWriteGraph;
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.*;
+import org.apache.jena.mem.GraphMem;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+/**
+ * To test {@link CopyOnWriteGraph}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class CopyOnWriteGraphTest {
+
+    private static void assertSameContent(Graph expected, Graph actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(expected.size(), Graphs.size(actual));
+        List<Triple> triples = expected.find().toList();
+        Assert.assertEquals(triples.size(), actual.find().toList().size());
+        Assert.assertEquals(new HashSet<>(triples), actual.find().toSet());
+        Collections.shuffle(triples, new Random(42));
+        triples.stream().limit(100).forEach(t -> {
+            Assert.assertTrue(actual.contains(t));
+            Assert.assertEquals(expected.find(t.getSubject(), Node.ANY, Node.ANY).toSet(),
+                    actual.find(t.getSubject(), Node.ANY, Node.ANY).toSet());
+            Assert.assertEquals(expected.find(Node.ANY, t.getPredicate(), t.getObject()).toSet(),
+                    actual.find(Node.ANY, t.getPredicate(), t.getObject()).toSet());
+        });
+    }
+
+    @Test
+    public void testAddDelete() {
+        Graph base = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        long size = base.size();
+        Graph expected = OntModelFactory.createDefaultGraph();
+        GraphUtil.addInto(expected, base);
+        CopyOnWriteGraph actual = new CopyOnWriteGraph(base);
+        Assert.assertFalse(actual.isModified());
+        Assert.assertEquals(base.getPrefixMapping().getNsPrefixMap(), actual.getPrefixMapping().getNsPrefixMap());
+        assertSameContent(expected, actual);
+
+        List<Triple> triples = base.find().toList();
+        Collections.shuffle(triples, new Random(1));
+        Node p = NodeFactory.createURI("urn:p");
+        for (int i = 0; i < 300; i++) {
+            Triple d = triples.get(i);
+            Triple a = Triple.create(NodeFactory.createURI("urn:s" + i), p, NodeFactory.createURI("urn:o"));
+            expected.delete(d);
+            actual.delete(d);
+            expected.add(a);
+            actual.add(a);
+            // duplicates:
+            actual.add(a);
+            actual.delete(d);
+        }
+        Assert.assertTrue(actual.isModified());
+        Assert.assertEquals(300, actual.getAdded().size());
+        Assert.assertEquals(300, actual.getDeleted().size());
+        assertSameContent(expected, actual);
+
+        // restore some:
+        for (int i = 0; i < 100; i++) {
+            Triple d = triples.get(i);
+            expected.add(d);
+            actual.add(d);
+            Triple a = Triple.create(NodeFactory.createURI("urn:s" + i), p, NodeFactory.createURI("urn:o"));
+            expected.delete(a);
+            actual.delete(a);
+        }
+        Assert.assertEquals(200, actual.getAdded().size());
+        Assert.assertEquals(200, actual.getDeleted().size());
+        assertSameContent(expected, actual);
+
+        // the base is untouched:
+        Assert.assertEquals(size, base.size());
+
+        CopyOnWriteGraph fork = actual.fork();
+        Assert.assertSame(base, fork.getBase());
+        assertSameContent(expected, fork);
+        fork.clear();
+        Assert.assertTrue(fork.isEmpty());
+        assertSameContent(expected, actual);
+        Assert.assertEquals(size, base.size());
+
+        Assert.assertTrue(Graphs.isDistinct(actual));
+        Assert.assertTrue(Graphs.isSized(new UnionGraph(actual)));
+        Assert.assertSame(actual, Graphs.getBase(new UnionGraph(actual)));
+    }
+
+    @Test
+    public void testLiteralsAreMatchedByTerm() {
+        Graph base = new GraphMem();
+        Node s = NodeFactory.createURI("urn:s");
+        Node p = NodeFactory.createURI("urn:p");
+        Triple t1 = Triple.create(s, p, NodeFactory.createLiteral("1", XSDDatatype.XSDint));
+        Triple t2 = Triple.create(s, p, NodeFactory.createLiteral("01", XSDDatatype.XSDint));
+        base.add(t1);
+        CopyOnWriteGraph g = new CopyOnWriteGraph(base);
+        g.add(t2);
+        Assert.assertEquals(2, g.size());
+        Assert.assertEquals(1, g.getAdded().size());
+        g.delete(t2);
+        Assert.assertEquals(1, g.size());
+        Assert.assertFalse(g.isModified());
+        g.delete(t1);
+        Assert.assertTrue(g.isEmpty());
+        Assert.assertEquals(1, base.size());
+    }
+}
@@ -18,8 +18,11 @@ import com.github.andrewoma.dexx.collection.Sets;
 import com.github.owlcs.ontapi.jena.RWLockedGraph;
 import com.github.owlcs.ontapi.jena.UnionGraph;
 import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
 import com.github.owlcs.ontapi.utils.SpinModels;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.graph.compose.MultiUnion;
 import org.apache.jena.graph.impl.GraphBase;
@@ -33,10 +36,7 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -170,4 +170,22 @@ public class GraphUtilsTest {
             // expected
         }
     }
+
+    @Test
+    public void testListURINodes() {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/wine.ttl").getGraph();
+        g.add(Triple.create(NodeFactory.createURI("x"), NodeFactory.createURI("y"), NodeFactory.createLiteral("z")));
+        Assert.assertTrue(g instanceof GraphMem);
+        Set<Node> expected = g.find().toList().stream()
+                .flatMap(t -> Stream.of(t.getSubject(), t.getPredicate(), t.getObject()))
+                .filter(Node::isURI)
+                .collect(Collectors.toSet());
+        List<Node> actual = Graphs.listURINodes(g).toList();
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(expected, new HashSet<>(actual));
+
+        Graph w = new WrappedGraph(g);
+        Assert.assertEquals(expected, Graphs.listURINodes(w).toSet());
+        Assert.assertEquals(expected.size(), Graphs.listURINodes(w).toList().size());
+    }
 }
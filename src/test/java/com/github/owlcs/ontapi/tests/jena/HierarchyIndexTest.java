@@ -0,0 +1,146 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.impl.HierarchyIndex;
+import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
+import com.github.owlcs.ontapi.jena.model.*;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * To test {@link HierarchyIndex}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class HierarchyIndexTest {
+
+    private static OntGraphModelImpl withIndex(Graph g) {
+        return ((OntGraphModelImpl) OntModelFactory.createModel(g)).setHierarchyIndexEnabled(true);
+    }
+
+    private static <X extends OntObject> void assertSame(OntModel expected,
+                                                         OntModel actual,
+                                                         Class<X> type,
+                                                         Function<X, Stream<? extends OntObject>> get) {
+        expected.ontObjects(type).forEach(x -> {
+            X y = x.inModel(actual).as(type);
+            Assert.assertEquals("Wrong hierarchy for " + x, toSet(get.apply(x)), toSet(get.apply(y)));
+        });
+    }
+
+    private static Set<?> toSet(Stream<? extends OntObject> s) {
+        return s.map(OntObject::asNode).collect(Collectors.toSet());
+    }
+
+    private static void assertSameHierarchy(OntModel expected, OntModel actual) {
+        assertSame(expected, actual, OntClass.class, x -> x.superClasses(false));
+        assertSame(expected, actual, OntClass.class, x -> x.subClasses(false));
+        assertSame(expected, actual, OntObjectProperty.class, x -> x.superProperties(false));
+        assertSame(expected, actual, OntObjectProperty.class, x -> x.subProperties(false));
+        assertSame(expected, actual, OntDataProperty.class, x -> x.superProperties(false));
+        assertSame(expected, actual, OntDataProperty.class, x -> x.subProperties(false));
+        assertSame(expected, actual, OntAnnotationProperty.class, x -> x.superProperties(false));
+        assertSame(expected, actual, OntAnnotationProperty.class, x -> x.subProperties(false));
+        assertSame(expected, actual, OntIndividual.class, x -> x.classes(false));
+    }
+
+    @Test
+    public void testSameAsWithoutIndex() {
+        for (String file : new String[]{"ontapi/pizza.ttl", "ontapi/family.ttl", "ontapi/wine.ttl"}) {
+            Graph g = ReadWriteUtils.loadResourceTTLFile(file).getGraph();
+            OntModel expected = OntModelFactory.createModel(g);
+            OntGraphModelImpl actual = withIndex(g);
+            assertSameHierarchy(expected, actual);
+            // several types (class, object and annotation properties) and not more:
+            Assert.assertTrue(actual.getHierarchyIndex().getBuildCount() > 1);
+            long builds = actual.getHierarchyIndex().getBuildCount();
+            assertSameHierarchy(expected, actual);
+            Assert.assertEquals(builds, actual.getHierarchyIndex().getBuildCount());
+        }
+    }
+
+    @Test
+    public void testCyclesAndReachability() {
+        OntGraphModelImpl m = withIndex(OntModelFactory.createDefaultGraph());
+        OntClass a = m.createOntClass("A");
+        OntClass b = m.createOntClass("B");
+        OntClass c = m.createOntClass("C");
+        OntClass d = m.createOntClass("D");
+        a.addSuperClass(b);
+        b.addSuperClass(c);
+        c.addSuperClass(a);
+        d.addSuperClass(a);
+        OntModel expected = OntModelFactory.createModel(m.getGraph());
+        assertSameHierarchy(expected, m);
+        HierarchyIndex index = m.getHierarchyIndex();
+        Assert.assertTrue(index.isReachable(d, c, OntClass.class, RDFS.subClassOf));
+        Assert.assertFalse(index.isReachable(c, d, OntClass.class, RDFS.subClassOf));
+        Assert.assertFalse(index.isReachable(a, a, OntClass.class, RDFS.subClassOf));
+    }
+
+    @Test
+    public void testMaintainedOnChanges() {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        OntModel expected = OntModelFactory.createModel(g);
+        OntGraphModelImpl actual = withIndex(g);
+        OntClass c = actual.classes().filter(x -> x.superClasses(true).count() > 0)
+                .findFirst().orElseThrow(AssertionError::new);
+        Assert.assertTrue(c.superClasses(false).count() > 0);
+
+        // add through the other model:
+        OntClass x = expected.createOntClass("http://x#X");
+        OntClass y = expected.createOntClass("http://x#Y");
+        expected.getOntClass(c.getURI()).addSuperClass(x);
+        x.addSuperClass(y);
+        assertSameHierarchy(expected, actual);
+        Assert.assertTrue(c.superClasses(false).anyMatch(y::equals));
+
+        // remove:
+        x.removeSuperClass(y);
+        assertSameHierarchy(expected, actual);
+        Assert.assertFalse(c.superClasses(false).anyMatch(y::equals));
+
+        // change type of the node (a fresh model is used to compare, since the node cache of the model is affected):
+        actual.removeOntObject(actual.getOntClass(x.getURI()));
+        assertSameHierarchy(OntModelFactory.createModel(g), actual);
+        Assert.assertFalse(c.superClasses(false).anyMatch(x::equals));
+
+        // imports:
+        OntModel imported = OntModelFactory.createModel().setID("http://imported").getModel();
+        imported.createOntClass(y.getURI()).addSuperClass(imported.createOntClass("http://x#Z"));
+        c.addSuperClass(actual.createOntClass(y.getURI()));
+        assertSameHierarchy(OntModelFactory.createModel(g), actual);
+        actual.addImport(imported);
+        Assert.assertTrue(c.superClasses(false).anyMatch(z -> "http://x#Z".equals(z.getURI())));
+        actual.removeImport(imported);
+        Assert.assertFalse(c.superClasses(false).anyMatch(z -> "http://x#Z".equals(z.getURI())));
+
+        // clear graph:
+        g.clear();
+        Assert.assertEquals(0, c.superClasses(false).count());
+
+        actual.setHierarchyIndexEnabled(false);
+        Assert.assertNull(actual.getHierarchyIndex());
+    }
+}
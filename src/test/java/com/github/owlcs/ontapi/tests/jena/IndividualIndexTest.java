@@ -0,0 +1,127 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.OWLAdapter;
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.impl.IndividualIndex;
+import com.github.owlcs.ontapi.jena.impl.OntGraphModelImpl;
+import com.github.owlcs.ontapi.jena.model.OntClass;
+import com.github.owlcs.ontapi.jena.model.OntIndividual;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.jena.model.OntObject;
+import com.github.owlcs.ontapi.tests.ModelData;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * To test {@link IndividualIndex}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class IndividualIndexTest {
+
+    private static OntGraphModelImpl withIndex(Graph g) {
+        return ((OntGraphModelImpl) OntModelFactory.createModel(g)).setIndividualIndexEnabled(true);
+    }
+
+    private static Set<?> toSet(Stream<? extends OntObject> s) {
+        return s.map(OntObject::asNode).collect(Collectors.toSet());
+    }
+
+    private static void assertSameIndividuals(OntModel expected, OntModel actual) {
+        Assert.assertEquals(toSet(expected.individuals()), toSet(actual.individuals()));
+        Assert.assertEquals(expected.individuals().count(), actual.individuals().count());
+        expected.ontObjects(OntClass.class).forEach(c -> Assert.assertEquals("Wrong individuals for " + c,
+                toSet(c.individuals()), toSet(c.inModel(actual).as(OntClass.class).individuals())));
+    }
+
+    @Test
+    public void testSameAsWithoutIndex() {
+        for (String file : new String[]{"ontapi/pizza.ttl", "ontapi/family.ttl", "ontapi/wine.ttl", "ontapi/food.ttl"}) {
+            Graph g = ReadWriteUtils.loadResourceTTLFile(file).getGraph();
+            OntModel expected = OntModelFactory.createModel(g);
+            OntGraphModelImpl actual = withIndex(g);
+            assertSameIndividuals(expected, actual);
+            Assert.assertEquals(1, actual.getIndividualIndex().getBuildCount());
+        }
+    }
+
+    @Test
+    public void testMaintainedOnChanges() {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph();
+        OntGraphModelImpl actual = withIndex(g);
+        IndividualIndex index = actual.getIndividualIndex();
+        OntClass c = actual.classes().filter(x -> x.individuals().count() > 1)
+                .findFirst().orElseThrow(AssertionError::new);
+        long count = c.individuals().count();
+        Assert.assertEquals(1, index.getBuildCount());
+
+        // a new class assertion is added in place:
+        OntIndividual i = c.createIndividual("http://x#i");
+        Assert.assertEquals(count + 1, c.individuals().count());
+        assertSameIndividuals(OntModelFactory.createModel(g), actual);
+        i.detachClass(c);
+        Assert.assertEquals(count, c.individuals().count());
+        Assert.assertFalse(actual.individuals().anyMatch(i::equals));
+        assertSameIndividuals(OntModelFactory.createModel(g), actual);
+        Assert.assertEquals(1, index.getBuildCount());
+
+        // anonymous individual releases the data:
+        c.createIndividual();
+        Assert.assertEquals(count + 1, c.individuals().count());
+        assertSameIndividuals(OntModelFactory.createModel(g), actual);
+        Assert.assertEquals(2, index.getBuildCount());
+
+        // new class:
+        OntClass x = actual.createOntClass("http://x#X");
+        x.createIndividual("http://x#j");
+        assertSameIndividuals(OntModelFactory.createModel(g), actual);
+        Assert.assertEquals(1, x.individuals().count());
+
+        // clear graph:
+        g.clear();
+        Assert.assertEquals(0, actual.individuals().count());
+
+        actual.setIndividualIndexEnabled(false);
+        Assert.assertNull(actual.getIndividualIndex());
+    }
+
+    @Test
+    public void testClassAssertionSearch() {
+        Ontology expected = (Ontology) ModelData.FAMILY.fetch(OntManagers.createONT());
+        Ontology actual = (Ontology) ModelData.FAMILY.fetch(OntManagers.createONT());
+        OntGraphModelImpl base = (OntGraphModelImpl) OWLAdapter.get().asBaseModel(actual).getBase();
+        base.setIndividualIndexEnabled(true);
+        Set<OWLNamedIndividual> individuals = actual.individualsInSignature().collect(Collectors.toSet());
+        Assert.assertFalse(individuals.isEmpty());
+        individuals.forEach(i -> Assert.assertEquals(expected.classAssertionAxioms(i).collect(Collectors.toSet()),
+                actual.classAssertionAxioms(i).collect(Collectors.toSet())));
+        Set<OWLClass> classes = actual.classesInSignature().collect(Collectors.toSet());
+        classes.forEach(c -> Assert.assertEquals(expected.classAssertionAxioms(c).collect(Collectors.toSet()),
+                actual.classAssertionAxioms(c).collect(Collectors.toSet())));
+        Assert.assertEquals(1, base.getIndividualIndex().getBuildCount());
+    }
+}
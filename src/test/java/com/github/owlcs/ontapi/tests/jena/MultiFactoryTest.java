@@ -0,0 +1,112 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.jena.OntModelFactory;
+import com.github.owlcs.ontapi.jena.impl.*;
+import com.github.owlcs.ontapi.jena.impl.conf.MultiFactoryImpl;
+import com.github.owlcs.ontapi.jena.impl.conf.ObjectFactory;
+import com.github.owlcs.ontapi.jena.impl.conf.OntModelConfig;
+import com.github.owlcs.ontapi.jena.impl.conf.OntPersonality;
+import com.github.owlcs.ontapi.jena.model.OntModel;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.enhanced.EnhNode;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * To test the decision-table classification of {@link MultiFactoryImpl}:
+ * it must give the same results as the sequential probing of the sub-factories.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+@RunWith(Parameterized.class)
+public class MultiFactoryTest {
+    private final String resource;
+
+    public MultiFactoryTest(String resource) {
+        this.resource = resource;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static List<String> resources() {
+        return Arrays.asList("ontapi/pizza.ttl", "ontapi/family.ttl", "ontapi/wine.ttl", "ontapi/food.ttl");
+    }
+
+    private static List<MultiFactoryImpl> listMultiFactories() {
+        return Stream.of(OntCEImpl.class, OntDRImpl.class, OntPEImpl.class, OntSWRLImpl.class, OntDisjointImpl.class,
+                OntNPAImpl.class, OntFRImpl.class, OntIndividualImpl.class, Entities.class)
+                .flatMap(c -> Arrays.stream(c.getFields()))
+                .filter(f -> Modifier.isStatic(f.getModifiers()) && ObjectFactory.class.isAssignableFrom(f.getType()))
+                .map(MultiFactoryTest::getValue)
+                .filter(x -> x instanceof MultiFactoryImpl)
+                .map(MultiFactoryImpl.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    private static Object getValue(Field f) {
+        try {
+            return f.get(null);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Class<?> probe(MultiFactoryImpl factory, Node node, EnhGraph eg) {
+        return Iter.findFirst(factory.listFactories().filterKeep(f -> f.canWrap(node, eg)))
+                .map(f -> f.createInstance(node, eg).getClass()).orElse(null);
+    }
+
+    @Test
+    public void testSameAsSequentialProbing() {
+        Graph g = ReadWriteUtils.loadResourceTTLFile(resource).getGraph();
+        Set<Node> nodes = new HashSet<>();
+        g.find().forEachRemaining(t -> {
+            nodes.add(t.getSubject());
+            nodes.add(t.getObject());
+        });
+        List<MultiFactoryImpl> factories = listMultiFactories();
+        Assert.assertTrue(factories.size() > 10);
+        for (OntPersonality p : Arrays.asList(OntModelConfig.ONT_PERSONALITY_STRICT,
+                OntModelConfig.ONT_PERSONALITY_MEDIUM, OntModelConfig.ONT_PERSONALITY_LAX)) {
+            OntModel m = OntModelFactory.createModel(g, p);
+            EnhGraph eg = (EnhGraph) m;
+            int found = 0;
+            for (MultiFactoryImpl f : factories) {
+                for (Node n : nodes) {
+                    Class<?> expected = probe(f, n, eg);
+                    EnhNode actual = f.createInstance(n, eg);
+                    Assert.assertEquals("Wrong instance for " + n + " by " + f, expected,
+                            actual == null ? null : actual.getClass());
+                    Assert.assertEquals("Wrong canWrap for " + n + " by " + f, expected != null, f.canWrap(n, eg));
+                    if (expected != null) found++;
+                }
+            }
+            Assert.assertTrue(found > 0);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.jena.OffHeapGraph;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.*;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link OffHeapGraph}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class OffHeapGraphTest {
+
+    private static Graph copy(Graph from, Graph to) {
+        GraphUtil.addInto(to, from);
+        return to;
+    }
+
+    private static Set<Triple> find(Graph g, Node s, Node p, Node o) {
+        return g.find(s, p, o).toSet();
+    }
+
+    private static void assertSameContent(Graph expected, Graph actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Set<Triple> triples = expected.find().toSet();
+        Assert.assertEquals(triples, actual.find().toSet());
+        List<Triple> sample = new ArrayList<>(triples);
+        Collections.shuffle(sample, new Random(42));
+        sample.stream().limit(300).forEach(t -> {
+            Node s = t.getSubject();
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            Assert.assertTrue(actual.contains(t));
+            Assert.assertEquals(find(expected, s, Node.ANY, Node.ANY), find(actual, s, Node.ANY, Node.ANY));
+            Assert.assertEquals(find(expected, Node.ANY, p, Node.ANY), find(actual, Node.ANY, p, Node.ANY));
+            Assert.assertEquals(find(expected, Node.ANY, Node.ANY, o), find(actual, Node.ANY, Node.ANY, o));
+            Assert.assertEquals(find(expected, s, p, Node.ANY), find(actual, s, p, Node.ANY));
+            Assert.assertEquals(find(expected, Node.ANY, p, o), find(actual, Node.ANY, p, o));
+            Assert.assertEquals(find(expected, s, Node.ANY, o), find(actual, s, Node.ANY, o));
+            Assert.assertEquals(find(expected, s, p, o), find(actual, s, p, o));
+        });
+    }
+
+    @Test
+    public void testFindAddDelete() {
+        Graph expected = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        Graph actual = copy(expected, new OffHeapGraph());
+        assertSameContent(expected, actual);
+
+        // duplicates:
+        copy(expected, actual);
+        assertSameContent(expected, actual);
+        Assert.assertFalse(actual.contains(NodeFactory.createURI("x"), Node.ANY, Node.ANY));
+        Assert.assertFalse(actual.find(Node.ANY, NodeFactory.createURI("x"), Node.ANY).hasNext());
+
+        List<Triple> triples = expected.find().toList();
+        Collections.shuffle(triples, new Random(1));
+        triples.stream().limit(triples.size() / 2).forEach(t -> {
+            expected.delete(t);
+            actual.delete(t);
+        });
+        assertSameContent(expected, actual);
+
+        // reuse free records:
+        Triple t = Triple.create(NodeFactory.createURI("a"), NodeFactory.createURI("b"), NodeFactory.createLiteral("c"));
+        expected.add(t);
+        actual.add(t);
+        assertSameContent(expected, actual);
+
+        actual.clear();
+        Assert.assertTrue(actual.isEmpty());
+        Assert.assertFalse(actual.find().hasNext());
+        copy(expected, actual);
+        assertSameContent(expected, actual);
+    }
+
+    @Test
+    public void testIterators() {
+        Graph g = copy(ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph(), new OffHeapGraph());
+        Node p = g.find().next().getPredicate();
+        int size = g.size();
+        int count = 0;
+        ExtendedIterator<Triple> it = g.find(Node.ANY, p, Node.ANY);
+        while (it.hasNext()) {
+            Assert.assertEquals(p, it.next().getPredicate());
+            it.remove();
+            count++;
+        }
+        Assert.assertEquals(size - count, g.size());
+        Assert.assertFalse(g.contains(Node.ANY, p, Node.ANY));
+        Assert.assertEquals(g.size(), Iter.count(g.find()));
+
+        ExtendedIterator<Triple> it2 = g.find();
+        g.add(Triple.create(NodeFactory.createURI("a"), p, NodeFactory.createURI("b")));
+        try {
+            it2.hasNext();
+            Assert.fail("Possible to iterate over modified graph");
+        } catch (ConcurrentModificationException e) {
+            // expected
+        }
+        Assert.assertTrue(Graphs.isDistinct(g));
+        Assert.assertTrue(Graphs.isSized(new UnionGraph(g)));
+        Assert.assertEquals(g.size(), g.getStatisticsHandler().getStatistic(Node.ANY, Node.ANY, Node.ANY));
+        Assert.assertEquals(1, g.getStatisticsHandler().getStatistic(Node.ANY, p, Node.ANY));
+    }
+
+    @Test
+    public void testOntologyManager() throws Exception {
+        OntologyManager expected = OntManagers.createONT();
+        OntologyManager actual = OntManagers.DEFAULT_PROFILE.createManager(OntManagers.getDataFactory(),
+                OntManagers.DEFAULT_PROFILE.createOntologyFactory(new OntologyBuilderImpl.OffHeap()), null);
+        Ontology o1 = expected.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Ontology o2 = actual.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Assert.assertTrue(o2.asGraphModel().getBaseGraph() instanceof OffHeapGraph);
+        Assert.assertEquals(o1.axioms().collect(Collectors.toSet()), o2.axioms().collect(Collectors.toSet()));
+
+        OWLAxiom a = actual.getOWLDataFactory().getOWLDeclarationAxiom(actual.getOWLDataFactory()
+                .getOWLClass("urn:test#X"));
+        o2.add(a);
+        Assert.assertTrue(o2.containsAxiom(a));
+        o2.remove(a);
+        Assert.assertFalse(o2.containsAxiom(a));
+        Assert.assertEquals(o1.getAxiomCount(), o2.getAxiomCount());
+
+        Ontology o3 = actual.createOntology(IRI.create("urn:test"));
+        Assert.assertTrue(o3.asGraphModel().getBaseGraph() instanceof OffHeapGraph);
+        o3.add(a);
+        Assert.assertEquals(1, o3.getAxiomCount());
+    }
+}
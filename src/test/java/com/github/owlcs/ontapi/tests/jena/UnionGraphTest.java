@@ -24,6 +24,7 @@ import com.github.owlcs.ontapi.utils.UnmodifiableGraph;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.mem.GraphMem;
@@ -38,6 +39,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 
 /**
  * To test {@link UnionGraph}.
@@ -292,4 +294,70 @@ public class UnionGraphTest {
         u1.addGraph(b);
         Assert.assertEquals(new HashSet<>(Arrays.asList(a, b, c, d)), u1.listBaseGraphs().toSet());
     }
+
+    private static Triple createTriple(String s, String o) {
+        return Triple.create(NodeFactory.createURI(s), RDF.Nodes.type, NodeFactory.createURI(o));
+    }
+
+    private static void assertDistinctFind(UnionGraph g, int expected) {
+        List<Triple> all = g.find().toList();
+        Assert.assertEquals(expected, all.size());
+        Assert.assertEquals(expected, new HashSet<>(all).size());
+        List<Triple> classes = g.find(Node.ANY, RDF.Nodes.type, OWL.Class.asNode()).toList();
+        Assert.assertEquals(new HashSet<>(classes).size(), classes.size());
+    }
+
+    @Test
+    public void testDistinctFindWithOverlaps() {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Graph c = createTestMemGraph("c");
+        for (int i = 0; i < 100; i++) {
+            a.add(createTriple("a" + i, OWL.Class.getURI()));
+            b.add(createTriple("b" + i, OWL.Class.getURI()));
+            c.add(createTriple("c" + i, OWL.Class.getURI()));
+        }
+        // shared triples:
+        for (int i = 0; i < 10; i++) {
+            b.add(createTriple("a" + i, OWL.Class.getURI()));
+            c.add(createTriple("a" + i, OWL.Class.getURI()));
+            c.add(createTriple("b" + i, OWL.Class.getURI()));
+        }
+        UnionGraph u = new UnionGraph(a).addGraph(new UnionGraph(b).addGraph(new UnionGraph(c)));
+        assertDistinctFind(u, 300);
+
+        // new overlaps after the index has been built:
+        c.add(createTriple("a" + 50, OWL.Class.getURI()));
+        b.add(createTriple("c" + 50, OWL.Class.getURI()));
+        assertDistinctFind(u, 300);
+
+        // exceed the index capacity to force rebuilding:
+        for (int i = 0; i < 3000; i++) {
+            b.add(createTriple("x" + i, OWL.Class.getURI()));
+            c.add(createTriple("x" + i, OWL.Class.getURI()));
+        }
+        assertDistinctFind(u, 3300);
+
+        // deletion and changes in the hierarchy:
+        a.delete(createTriple("a" + 1, OWL.Class.getURI()));
+        assertDistinctFind(u, 3300);
+        Graph d = createTestMemGraph("d");
+        d.add(createTriple("a" + 2, OWL.Class.getURI()));
+        d.add(createTriple("d", OWL.Class.getURI()));
+        u.addGraph(d);
+        assertDistinctFind(u, 3301);
+        u.addGraph(new UnmodifiableGraph(c));
+        assertDistinctFind(u, 3301);
+    }
+
+    @Test
+    public void testNonDistinctFind() {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        a.add(createTriple("x", OWL.Class.getURI()));
+        b.add(createTriple("x", OWL.Class.getURI()));
+        b.add(createTriple("y", OWL.Class.getURI()));
+        Assert.assertEquals(3, new UnionGraph(a, false).addGraph(b).find().toList().size());
+        Assert.assertEquals(2, new UnionGraph(a, true).addGraph(b).find().toList().size());
+    }
 }
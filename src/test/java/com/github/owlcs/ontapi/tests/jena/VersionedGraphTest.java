@@ -0,0 +1,225 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.jena;
+
+import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.jena.RWLockedGraph;
+import com.github.owlcs.ontapi.jena.UnionGraph;
+import com.github.owlcs.ontapi.jena.VersionedGraph;
+import com.github.owlcs.ontapi.jena.utils.Graphs;
+import com.github.owlcs.ontapi.jena.utils.Iter;
+import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.*;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link VersionedGraph}.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+public class VersionedGraphTest {
+
+    private static Graph copy(Graph from, Graph to) {
+        GraphUtil.addInto(to, from);
+        return to;
+    }
+
+    private static Set<Triple> find(Graph g, Node s, Node p, Node o) {
+        return g.find(s, p, o).toSet();
+    }
+
+    private static void assertSameContent(Graph expected, Graph actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Set<Triple> triples = expected.find().toSet();
+        Assert.assertEquals(triples, actual.find().toSet());
+        List<Triple> sample = new ArrayList<>(triples);
+        Collections.shuffle(sample, new Random(42));
+        sample.stream().limit(300).forEach(t -> {
+            Node s = t.getSubject();
+            Node p = t.getPredicate();
+            Node o = t.getObject();
+            Assert.assertTrue(actual.contains(t));
+            Assert.assertEquals(find(expected, s, Node.ANY, Node.ANY), find(actual, s, Node.ANY, Node.ANY));
+            Assert.assertEquals(find(expected, Node.ANY, p, Node.ANY), find(actual, Node.ANY, p, Node.ANY));
+            Assert.assertEquals(find(expected, Node.ANY, Node.ANY, o), find(actual, Node.ANY, Node.ANY, o));
+            Assert.assertEquals(find(expected, s, p, Node.ANY), find(actual, s, p, Node.ANY));
+            Assert.assertEquals(find(expected, Node.ANY, p, o), find(actual, Node.ANY, p, o));
+            Assert.assertEquals(find(expected, s, Node.ANY, o), find(actual, s, Node.ANY, o));
+            Assert.assertEquals(find(expected, s, p, o), find(actual, s, p, o));
+        });
+    }
+
+    @Test
+    public void testFindAddDelete() {
+        Graph expected = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        Graph actual = copy(expected, new VersionedGraph());
+        assertSameContent(expected, actual);
+
+        // duplicates:
+        copy(expected, actual);
+        assertSameContent(expected, actual);
+        Assert.assertFalse(actual.contains(NodeFactory.createURI("x"), Node.ANY, Node.ANY));
+
+        List<Triple> triples = expected.find().toList();
+        Collections.shuffle(triples, new Random(1));
+        triples.stream().limit(triples.size() / 2).forEach(t -> {
+            expected.delete(t);
+            actual.delete(t);
+        });
+        assertSameContent(expected, actual);
+
+        actual.clear();
+        Assert.assertTrue(actual.isEmpty());
+        Assert.assertFalse(actual.find().hasNext());
+        copy(expected, actual);
+        assertSameContent(expected, actual);
+
+        Assert.assertTrue(Graphs.isDistinct(actual));
+        Assert.assertTrue(Graphs.isSized(new UnionGraph(actual)));
+        Assert.assertEquals(actual.size(), actual.getStatisticsHandler().getStatistic(Node.ANY, Node.ANY, Node.ANY));
+    }
+
+    @Test
+    public void testIteratorsAndSnapshots() {
+        VersionedGraph g = (VersionedGraph) copy(ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph(),
+                new VersionedGraph());
+        Graph snapshot = g.snapshot();
+        int size = g.size();
+
+        // an iterator is not affected by modifications:
+        Triple t = Triple.create(NodeFactory.createURI("a"), NodeFactory.createURI("b"), NodeFactory.createURI("c"));
+        ExtendedIterator<Triple> it = g.find();
+        it.next();
+        g.add(t);
+        Assert.assertEquals(size - 1, Iter.count(it));
+        Assert.assertEquals(size + 1, g.size());
+
+        // remove through the iterator:
+        Node p = g.find().next().getPredicate();
+        int count = 0;
+        it = g.find(Node.ANY, p, Node.ANY);
+        while (it.hasNext()) {
+            Assert.assertEquals(p, it.next().getPredicate());
+            it.remove();
+            count++;
+        }
+        Assert.assertEquals(size + 1 - count, g.size());
+        Assert.assertFalse(g.contains(Node.ANY, p, Node.ANY));
+
+        // the snapshot does not change:
+        Assert.assertEquals(size, snapshot.size());
+        Assert.assertFalse(snapshot.contains(t));
+        Assert.assertEquals(size, Iter.count(snapshot.find()));
+        try {
+            snapshot.add(t);
+            Assert.fail("Possible to modify snapshot");
+        } catch (AddDeniedException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentReadWrite() throws Exception {
+        Graph data = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        List<Triple> triples = data.find().toList();
+        VersionedGraph g = (VersionedGraph) copy(data, new VersionedGraph());
+        Node p = NodeFactory.createURI("urn:p");
+        ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> res = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                int shift = i;
+                res.add(service.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        Triple t = Triple.create(NodeFactory.createURI("urn:s" + shift + "-" + j), p,
+                                NodeFactory.createURI("urn:o"));
+                        g.add(t);
+                        if (j % 2 == 0) g.delete(t);
+                    }
+                }));
+            }
+            for (int i = 0; i < 6; i++) {
+                res.add(service.submit(() -> {
+                    for (int j = 0; j < 20; j++) {
+                        Set<Triple> found = new HashSet<>();
+                        g.find().forEachRemaining(t -> Assert.assertTrue(found.add(t)));
+                        Assert.assertTrue(found.containsAll(triples));
+                        Graph s = g.snapshot();
+                        Assert.assertEquals(s.size(), Iter.count(s.find()));
+                    }
+                }));
+            }
+            for (Future<?> f : res) {
+                f.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            service.shutdownNow();
+        }
+        Assert.assertEquals(triples.size() + 500, g.size());
+        Assert.assertEquals(500, Iter.count(g.find(Node.ANY, p, Node.ANY)));
+    }
+
+    @Test
+    public void testWritersDoNotWaitForIterators() throws Exception {
+        Graph data = ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph();
+        // with a huge delay a writer would wait for the forgotten iterator for a minute
+        RWLockedGraph g = new RWLockedGraph(copy(data, new VersionedGraph()), new ReentrantReadWriteLock(), 60_000);
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            ExtendedIterator<Triple> it = service.submit(() -> {
+                ExtendedIterator<Triple> res = g.find();
+                res.next();
+                return res;
+            }).get();
+            Triple t = Triple.create(NodeFactory.createURI("a"), NodeFactory.createURI("b"), NodeFactory.createURI("c"));
+            service.submit(() -> g.add(t)).get(10, TimeUnit.SECONDS);
+            Assert.assertTrue(g.contains(t));
+            Assert.assertEquals(data.size() - 1, Iter.count(it));
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentOntologyManager() throws Exception {
+        OntologyManager expected = OntManagers.createONT();
+        OntologyManager actual = OntManagers.DEFAULT_PROFILE.createManager(OntManagers.getDataFactory(),
+                OntManagers.DEFAULT_PROFILE.createOntologyFactory(new OntologyBuilderImpl.Versioned()),
+                new ReentrantReadWriteLock());
+        Ontology o1 = expected.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Ontology o2 = actual.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Assert.assertTrue(Graphs.getBase(o2.asGraphModel().getGraph()) instanceof VersionedGraph);
+        Assert.assertEquals(o1.axioms().collect(Collectors.toSet()), o2.axioms().collect(Collectors.toSet()));
+
+        OWLAxiom a = actual.getOWLDataFactory().getOWLDeclarationAxiom(actual.getOWLDataFactory()
+                .getOWLClass("urn:test#X"));
+        o2.add(a);
+        Assert.assertTrue(o2.containsAxiom(a));
+        o2.remove(a);
+        Assert.assertFalse(o2.containsAxiom(a));
+        Assert.assertEquals(o1.getAxiomCount(), o2.getAxiomCount());
+    }
+}
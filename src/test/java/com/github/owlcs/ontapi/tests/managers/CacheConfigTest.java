@@ -38,6 +38,7 @@ import java.lang.reflect.Field;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Created by @ssz on 04.03.2019.
@@ -253,6 +254,28 @@ public class CacheConfigTest {
         Assert.assertEquals(size, g.size());
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void testStreamingAxioms() throws Exception {
+        OWLOntologyDocumentSource src = ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        Ontology o = OntManagers.createONT().loadOntologyFromOntologyDocument(src);
+        InternalModelImpl im = getBase(o);
+        // duplicates:
+        o.asGraphModel().createOntClass("http://x#A").addEquivalentClass(o.asGraphModel().createOntClass("http://x#B"));
+        o.asGraphModel().getOntClass("http://x#B").addEquivalentClass(o.asGraphModel().getOntClass("http://x#A"));
+
+        List<OWLAxiom> actual = im.listONTAxioms().map(ONTObject::getOWLObject).collect(Collectors.toList());
+        InternalCache.Loading cache = getInternalCache(im, OWLTopObjectType.class);
+        Map map = (Map) Objects.requireNonNull(cache).get(im);
+        OWLTopObjectType.all().forEach(k -> Assert.assertFalse("Loaded: " + k, ((ObjectMap) map.get(k)).isLoaded()));
+
+        Set<OWLAxiom> expected = o.axioms().collect(Collectors.toSet());
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(expected, new HashSet<>(actual));
+        // now from the cache:
+        Assert.assertEquals(expected, im.listONTAxioms().map(ONTObject::getOWLObject).collect(Collectors.toSet()));
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Test
     public void testContentCacheInternal() throws Exception {
@@ -453,6 +476,75 @@ public class CacheConfigTest {
         Assert.assertEquals(axioms, o.getAxiomCount());
     }
 
+    @Test
+    public void testParallelContentLoading() throws OWLOntologyCreationException {
+        testParallelContentLoading(OntManagers.createONT());
+        testParallelContentLoading(OntManagers.createConcurrentONT());
+    }
+
+    private static void testParallelContentLoading(OntologyManager m) throws OWLOntologyCreationException {
+        OWLOntologyDocumentSource s = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        Ontology expected = OntManagers.createONT().loadOntologyFromOntologyDocument(s);
+
+        m.getOntologyConfigurator().setContentLoadingParallelism(4);
+        Assert.assertEquals(4, m.getOntologyLoaderConfiguration().getContentLoadingParallelism());
+        Ontology actual = m.loadOntologyFromOntologyDocument(s);
+        Assert.assertEquals(expected.getAxiomCount(), actual.getAxiomCount());
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+
+        actual.clearCache();
+        getBase(actual).forceLoad();
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.signature().collect(Collectors.toSet()),
+                actual.signature().collect(Collectors.toSet()));
+
+        try {
+            m.getOntologyConfigurator().setContentLoadingParallelism(0);
+            Assert.fail("Possible to set non-positive parallelism");
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testContentCacheBudget() throws OWLOntologyCreationException {
+        OWLOntologyDocumentSource s1 = ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        OWLOntologyDocumentSource s2 = ReadWriteUtils.getFileDocumentSource("/ontapi/family.ttl", OntFormat.TURTLE);
+        OntologyManager em = OntManagers.createONT();
+        Set<OWLAxiom> expected1 = em.loadOntologyFromOntologyDocument(s1).axioms().collect(Collectors.toSet());
+        Set<OWLAxiom> expected2 = em.loadOntologyFromOntologyDocument(s2).axioms().collect(Collectors.toSet());
+
+        OntologyManager m = OntManagers.createConcurrentONT();
+        Assert.assertEquals(0, m.getOntologyConfigurator().getManagerContentCacheBudget());
+        long limit = 100 * CacheBudget.CONTENT_OBJECT_WEIGHT;
+        m.setOntologyConfigurator(m.getOntologyConfigurator().setManagerContentCacheBudget(limit));
+        CacheBudget budget = ((OntologyManagerImpl) m).getCacheBudget();
+        Assert.assertEquals(limit, budget.getLimit());
+
+        Ontology o1 = m.loadOntologyFromOntologyDocument(s1);
+        Ontology o2 = m.loadOntologyFromOntologyDocument(s2);
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(expected1, o1.axioms().collect(Collectors.toSet()));
+            Assert.assertEquals(expected2, o2.axioms().collect(Collectors.toSet()));
+        }
+        expected1.forEach(a -> Assert.assertTrue(o1.containsAxiom(a)));
+        LOGGER.debug("Budget: {}", budget);
+        long evictions = budget.getEvictionCount();
+        Assert.assertTrue(evictions > 0);
+        Assert.assertTrue(budget.getLoadCount() > evictions);
+        Assert.assertTrue(budget.getHitCount() > 0);
+
+        // no limit:
+        budget.setLimit(0);
+        budget.resetStatistics();
+        o1.clearCache();
+        o2.clearCache();
+        Assert.assertEquals(expected1, o1.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected2, o2.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(0, budget.getEvictionCount());
+        Assert.assertTrue(budget.getWeight() > limit);
+    }
+
     @Test
     public void testLoadNativeOWLFormatWhenContentCacheIsDisabled() throws OWLOntologyCreationException {
         OntologyManager m = OntManagers.createONT();
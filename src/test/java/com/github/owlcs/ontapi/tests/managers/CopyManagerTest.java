@@ -15,10 +15,12 @@
 package com.github.owlcs.ontapi.tests.managers;
 
 import com.github.owlcs.ontapi.*;
+import com.github.owlcs.ontapi.jena.CopyOnWriteGraph;
 import com.github.owlcs.ontapi.jena.model.OntModel;
 import com.github.owlcs.ontapi.jena.utils.Graphs;
 import com.github.owlcs.ontapi.utils.FileMap;
 import com.github.owlcs.ontapi.utils.ReadWriteUtils;
+import org.apache.jena.graph.Graph;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.*;
@@ -29,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -281,6 +284,53 @@ public class CopyManagerTest {
         Assert.assertEquals(OntGraphDocumentSource.wrap(a.getBaseGraph()).getDocumentIRI(), di);
     }
 
+    @Test
+    public void testCopyOnWrite() throws Exception {
+        OntologyManager m = OntManagers.createONT();
+        OntModel imported = m.createGraphModel("urn:imported");
+        Ontology src = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getFileDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        src.asGraphModel().addImport(imported);
+        Graph base = src.asGraphModel().getBaseGraph();
+        long size = base.size();
+        Set<OWLAxiom> expected = src.axioms().collect(Collectors.toSet());
+        Map<OWLAxiom, OWLAxiom> instances = src.axioms().collect(Collectors.toMap(x -> x, x -> x));
+
+        OntologyManager m1 = OntManagers.createONT();
+        m1.createGraphModel("urn:imported");
+        Ontology c1 = m1.copyOntologyOnWrite(src);
+        Ontology c2 = OntManagers.createONT().copyOntologyOnWrite(src);
+        CopyOnWriteGraph g1 = (CopyOnWriteGraph) c1.asGraphModel().getBaseGraph();
+        Assert.assertSame(base, g1.getBase());
+        Assert.assertEquals(1, c1.imports().count());
+        Assert.assertEquals(0, c2.imports().count());
+
+        // the translated axioms are shared:
+        Assert.assertEquals(expected, c1.axioms().collect(Collectors.toSet()));
+        c1.axioms().forEach(a -> Assert.assertSame(instances.get(a), a));
+
+        OWLDataFactory df = m1.getOWLDataFactory();
+        OWLAxiom added = df.getOWLDeclarationAxiom(df.getOWLClass("urn:test#X"));
+        OWLAxiom removed = src.axioms(AxiomType.SUBCLASS_OF).findFirst().orElseThrow(AssertionError::new);
+        c1.add(added);
+        c1.remove(removed);
+        Assert.assertTrue(g1.isModified());
+        Assert.assertTrue(c1.containsAxiom(added));
+        Assert.assertFalse(c1.containsAxiom(removed));
+
+        // the source and the other copy are not affected:
+        Assert.assertEquals(size, base.size());
+        Assert.assertEquals(expected, src.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected, c2.axioms().collect(Collectors.toSet()));
+
+        // reload from the modified overlay:
+        c1.clearCache();
+        Set<OWLAxiom> actual = c1.axioms().collect(Collectors.toSet());
+        Assert.assertTrue(actual.contains(added));
+        Assert.assertFalse(actual.contains(removed));
+        Assert.assertEquals(expected.size(), actual.size());
+    }
+
     @Test
     public void testDeepCopingIfSourceIsOntologyModel() {
         String uri_a = "urn:a";
@@ -34,7 +34,9 @@ import org.apache.jena.rdf.model.RDFList;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDFS;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.semanticweb.owlapi.io.*;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.model.parameters.Imports;
@@ -45,6 +47,8 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
@@ -61,6 +65,9 @@ import java.util.stream.Stream;
 public class LoadFactoryManagerTest {
     private static final Logger LOGGER = LoggerFactory.getLogger(LoadFactoryManagerTest.class);
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private static void checkForMissedImportsTest(Ontology b) {
         checkForMissedImportsTest((OWLOntology) b);
         Assert.assertEquals(1, b.asGraphModel().imports().count());
@@ -690,6 +697,64 @@ public class LoadFactoryManagerTest {
         Assert.assertEquals(0, o3.imports().count());
     }
 
+    @Test
+    public void testParallelImportsLoading() throws Exception {
+        int num = 40;
+        Path dir = folder.newFolder().toPath();
+        Map<IRI, IRI> map = new HashMap<>();
+        for (int i = 0; i < num; i++) {
+            // a tree with some additional links, a leaf in an OWL-API only format and a missing import:
+            Set<String> imports = new TreeSet<>();
+            Stream.of(2 * i + 1, 2 * i + 2, i + 3).filter(j -> j < num).forEach(j -> imports.add("urn:x" + j));
+            if (i == num - 1) imports.add("http://spinrdf.org/sp");
+            if (i == num - 2) imports.add("urn:missing");
+            StringBuilder txt = new StringBuilder("@prefix owl: <http://www.w3.org/2002/07/owl#> .\n")
+                    .append("<urn:x").append(i).append("> a owl:Ontology");
+            imports.forEach(u -> txt.append("; owl:imports <").append(u).append(">"));
+            txt.append(" .\n<urn:x").append(i).append("#C> a owl:Class .\n");
+            Path file = dir.resolve("x" + i + ".ttl");
+            Files.write(file, txt.toString().getBytes(StandardCharsets.UTF_8));
+            map.put(IRI.create("urn:x" + i), IRI.create(file.toUri()));
+        }
+        map.put(IRI.create("http://spinrdf.org/sp"), IRI.create(ReadWriteUtils.getResourcePath("omn", "sp.omn").toUri()));
+
+        List<IRI> expectedCalls = new ArrayList<>();
+        OntologyManager expected = loadWithMappers(OntManagers.createONT(), map, expectedCalls, 1);
+        Assert.assertEquals(num + 1, expected.ontologies().count());
+        for (OntologyManager m : Arrays.asList(OntManagers.createONT(), OntManagers.createConcurrentONT())) {
+            List<IRI> actualCalls = new ArrayList<>();
+            OntologyManager actual = loadWithMappers(m, map, actualCalls, 4);
+            Assert.assertEquals(expectedCalls.size(), actualCalls.size());
+            Assert.assertEquals(new HashSet<>(expectedCalls), new HashSet<>(actualCalls));
+            Assert.assertEquals(expected.ontologies().count(), actual.ontologies().count());
+            expected.ontologies().forEach(e -> {
+                Ontology a = actual.getOntology(e.getOntologyID());
+                Assert.assertNotNull(a);
+                Assert.assertEquals(e.axioms(Imports.INCLUDED).collect(Collectors.toSet()),
+                        a.axioms(Imports.INCLUDED).collect(Collectors.toSet()));
+                Assert.assertEquals(e.directImports().map(OWLOntology::getOntologyID).collect(Collectors.toList()),
+                        a.directImports().map(OWLOntology::getOntologyID).collect(Collectors.toList()));
+                Assert.assertEquals(expected.getOntologyDocumentIRI(e), actual.getOntologyDocumentIRI(a));
+            });
+        }
+    }
+
+    private static OntologyManager loadWithMappers(OntologyManager m,
+                                                   Map<IRI, IRI> map,
+                                                   List<IRI> calls,
+                                                   int parallelism) throws OWLOntologyCreationException {
+        m.getIRIMappers().add((OWLOntologyIRIMapper) iri -> {
+            calls.add(iri);
+            return map.get(iri);
+        });
+        m.getOntologyConfigurator()
+                .setImportsLoadingParallelism(parallelism)
+                .setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT);
+        Assert.assertEquals(parallelism, m.getOntologyLoaderConfiguration().getImportsLoadingParallelism());
+        m.loadOntology(IRI.create("urn:x0"));
+        return m;
+    }
+
     @Test
     public void testControlUnionGraphs() throws OWLOntologyCreationException {
         class MyUnion extends UnionGraph {
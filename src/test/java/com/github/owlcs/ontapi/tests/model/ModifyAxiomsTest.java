@@ -21,14 +21,17 @@ import com.github.owlcs.ontapi.jena.vocabulary.OWL;
 import com.github.owlcs.ontapi.jena.vocabulary.RDF;
 import com.github.owlcs.ontapi.jena.vocabulary.SWRL;
 import com.github.owlcs.ontapi.jena.vocabulary.XSD;
+import com.github.owlcs.ontapi.tests.ModelData;
 import com.github.owlcs.ontapi.utils.ReadWriteUtils;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -463,4 +466,33 @@ public class ModifyAxiomsTest {
         Assert.assertEquals(3, o.axioms().peek(x -> LOGGER.debug("{}", x)).count());
         Assert.assertEquals(4, o.asGraphModel().size());
     }
+
+    @Test
+    public void testBatchAddRemoveAxioms() {
+        List<OWLAxiom> axioms = ModelData.PIZZA.fetch(OntManagers.createONT()).axioms().collect(Collectors.toList());
+        OntologyManager m = OntManagers.createONT();
+        Ontology expected = m.createOntology(IRI.create("http://expected"));
+        Ontology actual = m.createOntology(IRI.create("http://actual"));
+
+        axioms.forEach(expected::add);
+        List<OWLAxiom> input = new ArrayList<>(axioms);
+        input.add(axioms.get(0)); // duplicate
+        ChangeDetails details = m.applyChangesAndGetDetails(input.stream()
+                .map(a -> new AddAxiom(actual, a)).collect(Collectors.toList()));
+        Assert.assertEquals(ChangeApplied.SUCCESSFULLY, details.getChangeEffect());
+        Assert.assertEquals(axioms.size(), details.getEnactedChanges().size());
+        Assert.assertEquals(ChangeApplied.NO_OPERATION, actual.add(axioms));
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.asGraphModel().size(), actual.asGraphModel().size());
+
+        List<OWLAxiom> remove = axioms.subList(0, axioms.size() / 2);
+        remove.forEach(expected::remove);
+        Assert.assertEquals(ChangeApplied.SUCCESSFULLY, actual.remove(remove));
+        Assert.assertEquals(ChangeApplied.NO_OPERATION, actual.remove(remove));
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.asGraphModel().size(), actual.asGraphModel().size());
+        expected.clearCache();
+        actual.clearCache();
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package com.github.owlcs.ontapi.tests.model;
+
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.OwlObjects;
+import com.github.owlcs.ontapi.config.CacheSettings;
+import com.github.owlcs.ontapi.internal.OWLComponentType;
+import com.github.owlcs.ontapi.tests.ModelData;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * To test the references index ({@link CacheSettings#CACHE_REFERENCES}).
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+@RunWith(Parameterized.class)
+public class ReferencesIndexTest {
+    private static final int SAMPLE_SIZE = 100;
+    private final ModelData data;
+
+    public ReferencesIndexTest(ModelData data) {
+        this.data = data;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static ModelData[] getData() {
+        return new ModelData[]{ModelData.PIZZA, ModelData.FAMILY, ModelData.KOALA, ModelData.WINE};
+    }
+
+    private static OntologyManager newManager(boolean index) {
+        OntologyManager res = OntManagers.createONT();
+        res.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_REFERENCES, index);
+        return res;
+    }
+
+    private static Set<OWLPrimitive> primitives(OWLOntology ont) {
+        Set<OWLPrimitive> res = ont.signature().collect(Collectors.toSet());
+        ont.signature().map(HasIRI::getIRI).forEach(res::add);
+        ont.axioms().flatMap(x -> Stream.concat(OwlObjects.objects(OWLLiteral.class, x),
+                OwlObjects.objects(OWLAnonymousIndividual.class, x))).forEach(res::add);
+        return res;
+    }
+
+    private static List<OWLPrimitive> sample(Set<OWLPrimitive> primitives) {
+        List<OWLPrimitive> res = new ArrayList<>(primitives);
+        res.sort(Comparator.comparing(Object::toString));
+        Collections.shuffle(res, new Random(42));
+        return new ArrayList<>(res.subList(0, Math.min(SAMPLE_SIZE, res.size())));
+    }
+
+    private static void assertSameReferences(List<OWLPrimitive> primitives, OWLOntology expected, OWLOntology actual) {
+        primitives.forEach(p -> Assert.assertEquals("Wrong result for " + p,
+                expected.referencingAxioms(p).collect(Collectors.toSet()),
+                actual.referencingAxioms(p).collect(Collectors.toSet())));
+    }
+
+    /**
+     * Compares the references with the content,
+     * since after removing axioms the graph search may find axioms whose triples are still in the graph.
+     *
+     * @param primitives {@code List} of {@link OWLPrimitive}s to test
+     * @param ont        {@link OWLOntology} to test
+     */
+    private static void assertReferencesMatchContent(List<OWLPrimitive> primitives, OWLOntology ont) {
+        List<OWLAxiom> axioms = ont.axioms().collect(Collectors.toList());
+        primitives.forEach(p -> {
+            OWLComponentType type = OWLComponentType.get(p);
+            Assert.assertEquals("Wrong result for " + p,
+                    axioms.stream().filter(a -> type.contains(a, p)).collect(Collectors.toSet()),
+                    ont.referencingAxioms(p).collect(Collectors.toSet()));
+        });
+    }
+
+    @Test
+    public void testSearchAndModify() {
+        Ontology expected = (Ontology) data.fetch(newManager(false));
+        Ontology actual = (Ontology) data.fetch(newManager(true));
+        List<OWLPrimitive> primitives = sample(primitives(expected));
+        assertSameReferences(primitives, expected, actual);
+
+        List<OWLAxiom> axioms = expected.axioms().limit(50).collect(Collectors.toList());
+        actual.remove(axioms);
+        assertReferencesMatchContent(primitives, actual);
+
+        OWLDataFactory df = expected.getOWLOntologyManager().getOWLDataFactory();
+        OWLClass c = df.getOWLClass("http://test#C");
+        primitives.add(c);
+        primitives.add(c.getIRI());
+        axioms.add(df.getOWLDeclarationAxiom(c));
+        axioms.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(df.getOWLObjectProperty("http://test#p"),
+                df.getOWLClass("http://test#D"))));
+        actual.add(axioms);
+        assertReferencesMatchContent(primitives, actual);
+        Assert.assertEquals(2, actual.referencingAxioms(c).count());
+
+        // direct graph modification resets the index:
+        actual.asGraphModel().createOntClass("http://test#E")
+                .addSuperClass(actual.asGraphModel().getOntClass(c.getIRI().getIRIString()));
+        assertReferencesMatchContent(primitives, actual);
+        Assert.assertEquals(3, actual.referencingAxioms(c).count());
+    }
+}
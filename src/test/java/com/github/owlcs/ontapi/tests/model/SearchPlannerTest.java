@@ -0,0 +1,110 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2020, owl.cs group.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+package com.github.owlcs.ontapi.tests.model;
+
+import com.github.owlcs.ontapi.OWLAdapter;
+import com.github.owlcs.ontapi.OntManagers;
+import com.github.owlcs.ontapi.Ontology;
+import com.github.owlcs.ontapi.OntologyManager;
+import com.github.owlcs.ontapi.config.CacheSettings;
+import com.github.owlcs.ontapi.internal.OWLComponentType;
+import com.github.owlcs.ontapi.internal.SearchPlanner;
+import com.github.owlcs.ontapi.tests.ModelData;
+import org.apache.jena.graph.NodeFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link SearchPlanner}, that chooses the way to search referencing axioms.
+ * <p>
+ * Created by @ssz on 18.10.2026.
+ */
+@RunWith(Parameterized.class)
+public class SearchPlannerTest {
+    private final ModelData data;
+
+    public SearchPlannerTest(ModelData data) {
+        this.data = data;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static ModelData[] getData() {
+        return new ModelData[]{ModelData.PIZZA, ModelData.FAMILY, ModelData.WINE};
+    }
+
+    private static SearchPlanner planner(Ontology o) {
+        return OWLAdapter.get().asBaseModel(o).getBase().getSearchPlanner();
+    }
+
+    @Test
+    public void testReferencingAxiomsWithPlanner() {
+        OntologyManager m = OntManagers.createONT();
+        m.getOntologyConfigurator().setModelCacheLevel(CacheSettings.CACHE_CONTENT, false);
+        Ontology expected = (Ontology) data.fetch(m);
+        Ontology actual = (Ontology) data.fetch(OntManagers.createONT());
+        // fully load the content cache to make the planner work:
+        Assert.assertEquals(expected.getAxiomCount(), actual.axioms().count());
+
+        List<OWLEntity> entities = actual.classesInSignature().sorted().collect(Collectors.toList());
+        // the number of rounds is enough to try both strategies for each type at least once
+        int rounds = (int) (2 * SearchPlanner.EXPLORATION_PERIOD);
+        for (int i = 0; i < rounds; i++) {
+            OWLEntity e = entities.get(i % entities.size());
+            Assert.assertEquals("Wrong result for " + e, expected.referencingAxioms(e).collect(Collectors.toSet()),
+                    actual.referencingAxioms(e).collect(Collectors.toSet()));
+        }
+        SearchPlanner planner = planner(actual);
+        long choices = 0;
+        for (OWLComponentType type : OWLComponentType.values()) {
+            if (!planner.isSupported(type)) continue;
+            for (SearchPlanner.Strategy s : SearchPlanner.Strategy.values()) {
+                choices += planner.getChoiceCount(type, s);
+                Assert.assertTrue(planner.getSampleCount(type, s) <= planner.getChoiceCount(type, s));
+                Assert.assertTrue(planner.getCost(type, s) >= 0);
+            }
+        }
+        Assert.assertEquals(rounds, choices);
+        OWLComponentType type = OWLComponentType.CLASS;
+        Assert.assertTrue(planner.getCacheSize(type) > 0);
+        Assert.assertTrue(planner.toString(), planner.getChoiceCount(type, SearchPlanner.Strategy.GRAPH) > 0);
+        Assert.assertTrue(planner.toString(), planner.getChoiceCount(type, SearchPlanner.Strategy.CACHE) > 0);
+        Assert.assertTrue(planner.getSampleCount(type, SearchPlanner.Strategy.GRAPH)
+                + planner.getSampleCount(type, SearchPlanner.Strategy.CACHE) > 0);
+
+        // no planning for the expected ontology, since it has no content cache:
+        Assert.assertEquals(0, planner(expected).getChoiceCount(type, SearchPlanner.Strategy.GRAPH));
+        Assert.assertEquals(0, planner(expected).getChoiceCount(type, SearchPlanner.Strategy.CACHE));
+    }
+
+    @Test
+    public void testPredicateStatistics() {
+        Ontology o = (Ontology) data.fetch(OntManagers.createONT());
+        Assert.assertTrue(o.axioms().count() > 0);
+        SearchPlanner planner = planner(o);
+        OWLEntity p = o.objectPropertiesInSignature().sorted().findFirst().orElseThrow(AssertionError::new);
+        Assert.assertEquals(o.referencingAxioms(p).count(), o.referencingAxioms(p).count());
+        Assert.assertTrue(planner.getPredicateCounts()
+                .containsKey(NodeFactory.createURI(p.getIRI().getIRIString())));
+
+        // any change invalidates the graph statistics:
+        o.asGraphModel().createOntClass("urn:x");
+        Assert.assertTrue(planner.getPredicateCounts().isEmpty());
+    }
+}
@@ -363,6 +363,82 @@ public class GraphTransformersTest {
         iris.forEach(i -> Assert.assertNotNull(m.getGraphModel(i)));
     }
 
+    @Test
+    public void testParallelTransforms() {
+        GraphTransformers sequential = GraphTransformers.get();
+        GraphTransformers parallel = sequential.setParallel(true);
+        Assert.assertTrue(parallel.isParallel());
+        Assert.assertFalse(sequential.isParallel());
+        Assert.assertNotEquals(sequential, parallel);
+        Assert.assertEquals(sequential, parallel.setParallel(false));
+
+        Map<String, OntModel> expected = createImportsDiamond();
+        sequential.transform(expected.get("r").getGraph());
+
+        Map<String, OntModel> actual = createImportsDiamond();
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        GraphStats stats = parallel.addFirst(new Transform() {
+            @Override
+            public Stream<Triple> apply(Graph g) {
+                processed.add(Graphs.getName(Graphs.getBase(g)));
+                return Stream.empty();
+            }
+
+            @Override
+            public String id() {
+                return "Test Recorder";
+            }
+        }).transform(actual.get("r").getGraph());
+
+        // each graph is processed once and after all its imports:
+        Assert.assertEquals(actual.size(), processed.size());
+        Assert.assertEquals(actual.size(), new HashSet<>(processed).size());
+        Map<String, Integer> order = new HashMap<>();
+        processed.forEach(n -> order.put(n, order.size()));
+        actual.values().forEach(m -> m.imports().forEach(i -> Assert.assertTrue(order.get(name(i)) < order.get(name(m)))));
+
+        expected.forEach((k, m) -> Assert.assertEquals("Wrong graph " + k,
+                m.getBaseGraph().find().toSet(), actual.get(k).getBaseGraph().find().toSet()));
+
+        Assert.assertEquals(actual.size(), Stream.concat(Stream.of(stats), stats.stats(true))
+                .map(GraphStats::getGraph).distinct().count());
+        String declarations = OWLDeclarationTransform.class.getSimpleName();
+        Assert.assertTrue(stats.hasTriples(GraphStats.Type.ADDED, declarations));
+        Assert.assertTrue(stats.getTime(declarations).toNanos() > 0);
+        Assert.assertTrue(stats.getTime().compareTo(stats.getTime(declarations)) >= 0);
+        Assert.assertEquals(0, stats.getTime("unknown").toNanos());
+    }
+
+    private static String name(OntModel m) {
+        return Graphs.getName(m.getBaseGraph());
+    }
+
+    /**
+     * Creates the hierarchy {@code r -> (a, b), a -> d, b -> (d, e)}, where {@code x -> y} means {@code x imports y}.
+     * The graphs contain undeclared entities, which refer to the entities from the imports.
+     *
+     * @return a {@code Map} of {@link OntModel}s by their short names
+     */
+    private static Map<String, OntModel> createImportsDiamond() {
+        Map<String, OntModel> res = new LinkedHashMap<>();
+        Stream.of("r", "a", "b", "d", "e").forEach(n -> {
+            String ns = "http://" + n + "#";
+            OntModel m = OntModelFactory.createModel().setID("http://" + n).getModel();
+            for (int i = 0; i < 10; i++) {
+                m.getGraph().add(Triple.create(m.createResource(ns + "C" + i).asNode(),
+                        RDFS.subClassOf.asNode(), m.createResource(ns + "C" + (i + 1)).asNode()));
+            }
+            res.put(n, m);
+        });
+        res.get("r").addImport(res.get("a")).addImport(res.get("b"));
+        res.get("a").addImport(res.get("d"));
+        res.get("b").addImport(res.get("d")).addImport(res.get("e"));
+        res.forEach((n, m) -> m.imports().forEach(i -> m.getGraph().add(Triple.create(
+                m.createResource("http://" + n + "#C0").asNode(), RDFS.subClassOf.asNode(),
+                m.createResource(i.getID().getURI() + "#C0").asNode()))));
+        return res;
+    }
+
     @SuppressWarnings("unused")
     private static void signatureTest(OWLOntology owl, OntModel jena) {
         List<String> expectedClasses = owlToList(owl.classesInSignature(Imports.INCLUDED));
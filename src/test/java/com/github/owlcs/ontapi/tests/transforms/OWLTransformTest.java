@@ -297,4 +297,28 @@ public class OWLTransformTest {
         meta.getGuessedDeclarations().asMap().forEach((x, y) -> LOGGER.debug("Guessed: {} => {}", x, y));
         meta.getUnparsedTriples().forEach(t -> LOGGER.debug("Unparsed: {}", t));
     }
+
+    @Test
+    public void testLongChainOfUndeclaredProperties() {
+        // the declaration of each property can be inferred only from the previous one:
+        int n = 50;
+        String ns = "http://x#";
+        Model m = ModelFactory.createDefaultModel();
+        m.createResource(ns + "o").addProperty(RDF.type, OWL.Ontology);
+        m.createResource(ns + "p0").addProperty(RDF.type, OWL.ObjectProperty);
+        for (int i = n; i > 0; i--) {
+            m.createResource(ns + "p" + i).addProperty(RDFS.subPropertyOf, m.createResource(ns + "p" + (i - 1)));
+            m.createResource(ns + "a" + i).addProperty(m.createProperty(ns + "p" + i), m.createResource(ns + "b" + i));
+        }
+        Model res = ModelFactory.createModelForGraph(GraphTransformers.convert(m.getGraph()));
+        ReadWriteUtils.print(res);
+        for (int i = 0; i <= n; i++) {
+            Resource p = res.getResource(ns + "p" + i);
+            Assert.assertTrue("Not object property: " + p, p.hasProperty(RDF.type, OWL.ObjectProperty));
+            Assert.assertFalse("Annotation property: " + p, p.hasProperty(RDF.type, OWL.AnnotationProperty));
+            if (i == 0) continue;
+            Assert.assertTrue(res.getResource(ns + "a" + i).hasProperty(RDF.type, OWL.NamedIndividual));
+            Assert.assertTrue(res.getResource(ns + "b" + i).hasProperty(RDF.type, OWL.NamedIndividual));
+        }
+    }
 }